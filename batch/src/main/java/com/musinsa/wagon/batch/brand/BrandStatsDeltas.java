@@ -0,0 +1,124 @@
+package com.musinsa.wagon.batch.brand;
+
+import com.musinsa.wagon.core.entity.enums.PriceLabel;
+import com.musinsa.wagon.core.entity.enums.ShopType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 트랜잭션에서 생긴 브랜드 집계 변화량을 (shopType, brand) 별로 모은다. 청크 하나는 브랜드 몇 개에 몰리므로 상품마다가
+ * 아니라 브랜드마다 한 행씩만 갱신한다. 브랜드가 없는 상품은 집계하지 않는다.
+ */
+public class BrandStatsDeltas {
+
+    private final Map<Key, Delta> deltas = new HashMap<>();
+
+    public void productAdded(ShopType shopType, String brand, Integer discountRate) {
+        Delta delta = deltaOf(shopType, brand);
+        if (delta == null) {
+            return;
+        }
+        delta.productCount++;
+        if (discountRate != null) {
+            delta.discountRateSum += discountRate;
+            delta.discountRateCount++;
+        }
+    }
+
+    public void discountRateChanged(
+            ShopType shopType, String brand, Integer previous, Integer current) {
+        if (previous == null ? current == null : previous.equals(current)) {
+            return;
+        }
+        Delta delta = deltaOf(shopType, brand);
+        if (delta == null) {
+            return;
+        }
+        if (previous != null) {
+            delta.discountRateSum -= previous;
+            delta.discountRateCount--;
+        }
+        if (current != null) {
+            delta.discountRateSum += current;
+            delta.discountRateCount++;
+        }
+    }
+
+    public void labelChanged(
+            ShopType shopType, String brand, PriceLabel previous, PriceLabel current) {
+        if (previous == current) {
+            return;
+        }
+        Delta delta = deltaOf(shopType, brand);
+        if (delta == null) {
+            return;
+        }
+        delta.countLabel(previous, -1);
+        delta.countLabel(current, 1);
+    }
+
+    public void fakeDiscountChanged(
+            ShopType shopType, String brand, boolean previous, boolean current) {
+        if (previous == current) {
+            return;
+        }
+        Delta delta = deltaOf(shopType, brand);
+        if (delta != null) {
+            delta.fakeDiscountCount += current ? 1 : -1;
+        }
+    }
+
+    /** 여러 청크가 같은 브랜드 행을 동시에 잠가도 교착되지 않도록 키 순서로 돌려준다. */
+    List<Map.Entry<Key, Delta>> sorted() {
+        List<Map.Entry<Key, Delta>> entries = new ArrayList<>();
+        for (Map.Entry<Key, Delta> entry : deltas.entrySet()) {
+            if (!entry.getValue().isZero()) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(
+                Map.Entry.comparingByKey(
+                        Comparator.comparing(Key::shopType).thenComparing(Key::brand)));
+        return entries;
+    }
+
+    private Delta deltaOf(ShopType shopType, String brand) {
+        if (brand == null || brand.isBlank()) {
+            return null;
+        }
+        return deltas.computeIfAbsent(new Key(shopType, brand), key -> new Delta());
+    }
+
+    record Key(ShopType shopType, String brand) {}
+
+    static final class Delta {
+
+        int productCount;
+        int allTimeLowCount;
+        int goodDealCount;
+        int fakeDiscountCount;
+        long discountRateSum;
+        int discountRateCount;
+
+        private void countLabel(PriceLabel label, int amount) {
+            if (label == PriceLabel.ALL_TIME_LOW) {
+                allTimeLowCount += amount;
+            } else if (label == PriceLabel.GOOD_DEAL) {
+                goodDealCount += amount;
+            }
+        }
+
+        private boolean isZero() {
+            return productCount == 0
+                    && allTimeLowCount == 0
+                    && goodDealCount == 0
+                    && fakeDiscountCount == 0
+                    && discountRateSum == 0
+                    && discountRateCount == 0;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.musinsa.wagon.batch.brand;
+
+import com.musinsa.wagon.batch.brand.BrandStatsDeltas.Delta;
+import com.musinsa.wagon.batch.brand.BrandStatsDeltas.Key;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 호출한 쪽의 트랜잭션 안에서 변화량을 더한다. 상품 변경과 같이 커밋되거나 같이 롤백되므로 재시도해도 두 번 더해지지 않는다.
+ * 인기 브랜드 행은 거의 모든 청크가 잠그므로 트랜잭션 마지막에 호출해 잠금을 짧게 잡는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BrandStatsWriter {
+
+    private static final String UPSERT_SQL =
+            """
+            INSERT INTO brand_stats
+                   (shop_type, brand, product_count, all_time_low_count, good_deal_count,
+                    fake_discount_count, discount_rate_sum, discount_rate_count, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                product_count = product_count + VALUES(product_count),
+                all_time_low_count = all_time_low_count + VALUES(all_time_low_count),
+                good_deal_count = good_deal_count + VALUES(good_deal_count),
+                fake_discount_count = fake_discount_count + VALUES(fake_discount_count),
+                discount_rate_sum = discount_rate_sum + VALUES(discount_rate_sum),
+                discount_rate_count = discount_rate_count + VALUES(discount_rate_count),
+                updated_at = VALUES(updated_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(BrandStatsDeltas deltas) {
+        List<Map.Entry<Key, Delta>> entries = deltas.sorted();
+        if (entries.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                UPSERT_SQL,
+                entries,
+                entries.size(),
+                (ps, entry) -> {
+                    Key key = entry.getKey();
+                    Delta delta = entry.getValue();
+                    ps.setString(1, key.shopType().name());
+                    ps.setString(2, key.brand());
+                    ps.setInt(3, delta.productCount);
+                    ps.setInt(4, delta.allTimeLowCount);
+                    ps.setInt(5, delta.goodDealCount);
+                    ps.setInt(6, delta.fakeDiscountCount);
+                    ps.setLong(7, delta.discountRateSum);
+                    ps.setInt(8, delta.discountRateCount);
+                    ps.setTimestamp(9, now);
+                });
+    }
+}
@@ -0,0 +1,41 @@
+package com.musinsa.wagon.batch.crawl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** 크롤링 스레드들이 경합 없이 올리는 성공/실패 카운터. crawl_jobs 에는 주기적으로만 반영한다. */
+public class CrawlJobProgress {
+
+    private final Long crawlJobId;
+    private final LongAdder successCount = new LongAdder();
+    private final LongAdder failCount = new LongAdder();
+
+    public CrawlJobProgress(Long crawlJobId) {
+        this.crawlJobId = crawlJobId;
+    }
+
+    public void incrementSuccess() {
+        successCount.increment();
+    }
+
+    public void incrementFail() {
+        failCount.increment();
+    }
+
+    /** 성공으로 센 스냅샷이 나중에 적재에서 실패했을 때 실패로 옮긴다. */
+    public void moveToFail(int count) {
+        successCount.add(-count);
+        failCount.add(count);
+    }
+
+    public Long getCrawlJobId() {
+        return crawlJobId;
+    }
+
+    public int getSuccessCount() {
+        return successCount.intValue();
+    }
+
+    public int getFailCount() {
+        return failCount.intValue();
+    }
+}
@@ -0,0 +1,62 @@
+package com.musinsa.wagon.batch.crawl;
+
+import com.musinsa.wagon.core.entity.CrawlJob;
+import com.musinsa.wagon.core.entity.enums.CrawlJobType;
+import com.musinsa.wagon.core.entity.enums.ShopType;
+import com.musinsa.wagon.core.repository.CrawlJobRepository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class CrawlJobService {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 2000;
+
+    private final CrawlJobRepository crawlJobRepository;
+
+    @Transactional
+    public Long start(CrawlJobType jobType, ShopType shopType, int totalCount) {
+        CrawlJob crawlJob = CrawlJob.create(jobType, shopType);
+        crawlJob.setTotalCount(totalCount);
+        crawlJob.start();
+        return crawlJobRepository.save(crawlJob).getId();
+    }
+
+    @Transactional
+    public void flushProgress(CrawlJobProgress progress) {
+        crawlJobRepository.updateProgress(
+                progress.getCrawlJobId(), progress.getSuccessCount(), progress.getFailCount());
+    }
+
+    @Transactional
+    public void complete(CrawlJobProgress progress) {
+        CrawlJob crawlJob = getCrawlJob(progress.getCrawlJobId());
+        crawlJob.updateProgress(progress.getSuccessCount(), progress.getFailCount());
+        crawlJob.complete();
+    }
+
+    @Transactional
+    public void fail(CrawlJobProgress progress, String errorMessage) {
+        CrawlJob crawlJob = getCrawlJob(progress.getCrawlJobId());
+        crawlJob.updateProgress(progress.getSuccessCount(), progress.getFailCount());
+        crawlJob.fail(truncate(errorMessage));
+    }
+
+    private CrawlJob getCrawlJob(Long crawlJobId) {
+        return crawlJobRepository
+                .findById(crawlJobId)
+                .orElseThrow(
+                        () -> new IllegalArgumentException("CrawlJob not found: " + crawlJobId));
+    }
+
+    private static String truncate(String errorMessage) {
+        if (errorMessage == null || errorMessage.length() <= MAX_ERROR_MESSAGE_LENGTH) {
+            return errorMessage;
+        }
+        return errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+    }
+}
@@ -0,0 +1,37 @@
+package com.musinsa.wagon.batch.crawl;
+
+import com.musinsa.wagon.core.entity.enums.ShopType;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "batch.crawl")
+public record CrawlProperties(
+        @DefaultValue("5s") Duration progressFlushInterval, Map<ShopType, ShopLimit> shops) {
+
+    private static final ShopLimit DEFAULT_LIMIT = new ShopLimit(8, 10.0, 10);
+
+    public ShopLimit limitOf(ShopType shopType) {
+        return shops == null ? DEFAULT_LIMIT : shops.getOrDefault(shopType, DEFAULT_LIMIT);
+    }
+
+    public record ShopLimit(int concurrency, double permitsPerSecond, int burst) {
+
+        public ShopLimit {
+            if (concurrency <= 0) {
+                throw new IllegalArgumentException(
+                        "concurrency must be positive: " + concurrency);
+            }
+            if (!(permitsPerSecond > 0) || Double.isInfinite(permitsPerSecond)) {
+                throw new IllegalArgumentException(
+                        "permits-per-second must be positive: " + permitsPerSecond);
+            }
+            if (burst <= 0) {
+                throw new IllegalArgumentException("burst must be positive: " + burst);
+            }
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.musinsa.wagon.batch.crawl;
+
+import com.musinsa.wagon.batch.crawl.CrawlProperties.ShopLimit;
+import com.musinsa.wagon.batch.detection.FakeDiscountDetectionService;
+import com.musinsa.wagon.batch.ingest.PriceSnapshot;
+import com.musinsa.wagon.batch.ingest.PriceSnapshotIngestService;
+import com.musinsa.wagon.batch.ingest.PriceSnapshotIngestor;
+import com.musinsa.wagon.batch.metrics.CrawlMetrics;
+import com.musinsa.wagon.batch.metrics.CrawlStage;
+import com.musinsa.wagon.core.entity.enums.CrawlJobType;
+import com.musinsa.wagon.core.entity.enums.ShopType;
+import com.musinsa.wagon.core.wishlist.WishlistTargetPriceIndex;
+
+import jakarta.annotation.PostConstruct;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 쇼핑몰별 파티션을 동시에 실행한다. 파티션마다 동시 요청 수(스레드 풀 크기)와 토큰 버킷 속도 제한이 따로 있어 한 쇼핑몰의
+ * 지연이 다른 쇼핑몰을 막지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawlScheduler {
+
+    private final List<ShopCrawler> shopCrawlers;
+    private final CrawlJobService crawlJobService;
+    private final PriceSnapshotIngestService priceSnapshotIngestService;
+    private final CrawlProperties crawlProperties;
+    private final FakeDiscountDetectionService fakeDiscountDetectionService;
+    private final WishlistTargetPriceIndex wishlistTargetPriceIndex;
+    private final CrawlMetrics crawlMetrics;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Map<ShopType, AtomicInteger> pending = new EnumMap<>(ShopType.class);
+    private final Map<ShopType, AtomicInteger> inFlight = new EnumMap<>(ShopType.class);
+
+    @PostConstruct
+    void registerGauges() {
+        for (ShopCrawler crawler : shopCrawlers) {
+            ShopType shopType = crawler.shopType();
+            pending.put(shopType, new AtomicInteger());
+            inFlight.put(shopType, new AtomicInteger());
+            crawlMetrics.gauge(
+                    "wagon.crawl.pending",
+                    "Targets waiting in the current crawl run",
+                    shopType,
+                    pending.get(shopType),
+                    AtomicInteger::get);
+            crawlMetrics.gauge(
+                    "wagon.crawl.in.flight",
+                    "Requests being fetched or parsed right now",
+                    shopType,
+                    inFlight.get(shopType),
+                    AtomicInteger::get);
+        }
+    }
+
+    @Scheduled(cron = "${batch.crawl.daily-cron:0 0 2 * * *}", zone = "Asia/Seoul")
+    public void runDaily() {
+        // 이전 실행과 겹쳐 건너뛰었으면 그 실행이 아직 적재 중이므로 탐지도 건너뛴다.
+        if (run(CrawlJobType.DAILY_BATCH)) {
+            fakeDiscountDetectionService.detectAll();
+        }
+    }
+
+    /** 이전 실행이 아직 돌고 있거나 크롤러가 없어 아무것도 하지 않았으면 false. */
+    public boolean run(CrawlJobType jobType) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("[Crawl] previous run is still in progress. skip jobType={}", jobType);
+            return false;
+        }
+        if (shopCrawlers.isEmpty()) {
+            running.set(false);
+            return false;
+        }
+        // fo 에서 바뀐 위시리스트는 엔티티 리스너로 전달되지 않으므로 실행마다 새로 적재한다.
+        wishlistTargetPriceIndex.rebuild();
+
+        ExecutorService partitionExecutor =
+                Executors.newFixedThreadPool(
+                        shopCrawlers.size(), new CustomizableThreadFactory("crawl-partition-"));
+        ScheduledExecutorService progressFlusher =
+                Executors.newSingleThreadScheduledExecutor(
+                        new CustomizableThreadFactory("crawl-progress-"));
+        Map<ShopType, CrawlJobProgress> progresses = new ConcurrentHashMap<>();
+        PriceSnapshotIngestor ingestor =
+                priceSnapshotIngestService.open(
+                        (chunk, e) -> onChunkFailed(chunk, e, progresses));
+        try {
+            List<CompletableFuture<Void>> partitions = new ArrayList<>();
+            for (ShopCrawler crawler : shopCrawlers) {
+                partitions.add(
+                        CompletableFuture.runAsync(
+                                () ->
+                                        crawlPartition(
+                                                jobType,
+                                                crawler,
+                                                ingestor,
+                                                progresses,
+                                                progressFlusher),
+                                partitionExecutor));
+            }
+            CompletableFuture.allOf(partitions.toArray(CompletableFuture[]::new)).join();
+            return true;
+        } finally {
+            ingestor.close();
+            progressFlusher.shutdownNow();
+            partitionExecutor.shutdownNow();
+            running.set(false);
+        }
+    }
+
+    private void crawlPartition(
+            CrawlJobType jobType,
+            ShopCrawler crawler,
+            PriceSnapshotIngestor ingestor,
+            Map<ShopType, CrawlJobProgress> progresses,
+            ScheduledExecutorService progressFlusher) {
+        ShopType shopType = crawler.shopType();
+        ShopLimit limit = crawlProperties.limitOf(shopType);
+        List<CrawlTarget> targets = crawler.targets();
+
+        CrawlJobProgress progress =
+                new CrawlJobProgress(crawlJobService.start(jobType, shopType, targets.size()));
+        progresses.put(shopType, progress);
+        long flushMillis = crawlProperties.progressFlushInterval().toMillis();
+        ScheduledFuture<?> flushTask =
+                progressFlusher.scheduleAtFixedRate(
+                        () -> flushProgress(progress),
+                        flushMillis,
+                        flushMillis,
+                        TimeUnit.MILLISECONDS);
+
+        TokenBucketRateLimiter rateLimiter =
+                new TokenBucketRateLimiter(limit.permitsPerSecond(), limit.burst());
+        ExecutorService workers =
+                Executors.newFixedThreadPool(
+                        limit.concurrency(),
+                        new CustomizableThreadFactory(
+                                "crawl-" + shopType.name().toLowerCase() + "-"));
+        long start = System.nanoTime();
+        pending.get(shopType).set(targets.size());
+        try {
+            for (CrawlTarget target : targets) {
+                workers.execute(() -> crawlOne(crawler, target, rateLimiter, ingestor, progress));
+            }
+            workers.shutdown();
+            workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            // 버퍼에 남은 이 쇼핑몰의 스냅샷까지 써야 완료 기록의 성공·실패 수가 맞는다.
+            ingestor.flushBuffered();
+            flushTask.cancel(false);
+            crawlJobService.complete(progress);
+            crawlMetrics.recordRun(shopType, true, start);
+            log.info(
+                    "[Crawl] shop={} total={} success={} fail={} elapsed={}s",
+                    shopType,
+                    targets.size(),
+                    progress.getSuccessCount(),
+                    progress.getFailCount(),
+                    TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+        } catch (Exception e) {
+            workers.shutdownNow();
+            flushTask.cancel(false);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            crawlJobService.fail(progress, e.getMessage());
+            crawlMetrics.recordRun(shopType, false, start);
+            log.error("[Crawl] shop={} failed", shopType, e);
+        } finally {
+            pending.get(shopType).set(0);
+        }
+    }
+
+    private void crawlOne(
+            ShopCrawler crawler,
+            CrawlTarget target,
+            TokenBucketRateLimiter rateLimiter,
+            PriceSnapshotIngestor ingestor,
+            CrawlJobProgress progress) {
+        ShopType shopType = crawler.shopType();
+        CrawlStage stage = CrawlStage.FETCH;
+        pending.get(shopType).decrementAndGet();
+        try {
+            rateLimiter.acquire();
+            inFlight.get(shopType).incrementAndGet();
+            try {
+                long start = System.nanoTime();
+                String body = crawler.fetch(target);
+                crawlMetrics.record(CrawlStage.FETCH, shopType, start);
+
+                stage = CrawlStage.PARSE;
+                start = System.nanoTime();
+                PriceSnapshot snapshot = crawler.parse(target, body);
+                crawlMetrics.record(CrawlStage.PARSE, shopType, start);
+
+                // 청크가 차면 이 스레드에서 적재까지 이어진다. 적재 시간은 PriceSnapshotWriter 가 잰다.
+                stage = CrawlStage.PERSIST;
+                ingestor.add(snapshot);
+            } finally {
+                inFlight.get(shopType).decrementAndGet();
+            }
+            progress.incrementSuccess();
+        } catch (Exception e) {
+            progress.incrementFail();
+            crawlMetrics.recordError(stage, shopType, e);
+            log.warn(
+                    "[Crawl] shop={} productNumber={} failed: {}",
+                    crawler.shopType(),
+                    target.productNumber(),
+                    e.getMessage());
+        }
+    }
+
+    // 청크의 스냅샷은 add 가 돌아올 때 성공으로 세므로 실패로 옮긴다. 청크를 쓰던 스레드 자신의 스냅샷은 이 콜백 뒤에 add 가
+    // 돌아와 성공으로 세어지므로 여기서 미리 빼 두면 맞아떨어진다.
+    private void onChunkFailed(
+            List<PriceSnapshot> chunk,
+            RuntimeException error,
+            Map<ShopType, CrawlJobProgress> progresses) {
+        Map<ShopType, Integer> failed = new EnumMap<>(ShopType.class);
+        for (PriceSnapshot snapshot : chunk) {
+            failed.merge(snapshot.shopType(), 1, Integer::sum);
+        }
+        failed.forEach(
+                (shopType, count) -> {
+                    CrawlJobProgress progress = progresses.get(shopType);
+                    if (progress != null) {
+                        progress.moveToFail(count);
+                    }
+                    crawlMetrics.recordError(CrawlStage.PERSIST, shopType, error);
+                });
+    }
+
+    private void flushProgress(CrawlJobProgress progress) {
+        try {
+            crawlJobService.flushProgress(progress);
+        } catch (Exception e) {
+            log.warn("[Crawl] progress flush failed crawlJobId={}", progress.getCrawlJobId(), e);
+        }
+    }
+}
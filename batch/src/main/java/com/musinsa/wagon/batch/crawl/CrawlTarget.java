@@ -0,0 +1,3 @@
+package com.musinsa.wagon.batch.crawl;
+
+public record CrawlTarget(Long productNumber, String productUrl) {}
@@ -0,0 +1,17 @@
+package com.musinsa.wagon.batch.crawl;
+
+import com.musinsa.wagon.batch.ingest.PriceSnapshot;
+import com.musinsa.wagon.core.entity.enums.ShopType;
+
+import java.util.List;
+
+public interface ShopCrawler {
+
+    ShopType shopType();
+
+    List<CrawlTarget> targets();
+
+    String fetch(CrawlTarget target) throws Exception;
+
+    PriceSnapshot parse(CrawlTarget target, String body);
+}
@@ -0,0 +1,55 @@
+package com.musinsa.wagon.batch.crawl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 초당 permitsPerSecond 개의 토큰이 채워지고 최대 burst 개까지 쌓이는 토큰 버킷. 다음 토큰이 생기는 시각을 CAS 로 예약하므로
+ * 락 없이 여러 스레드가 공유할 수 있다.
+ */
+public class TokenBucketRateLimiter {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong nextFreeNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        // 0 이면 간격이 Long.MAX_VALUE 가 되어 acquire 가 영원히 돌아오지 않는다.
+        if (!(permitsPerSecond > 0) || Double.isInfinite(permitsPerSecond)) {
+            throw new IllegalArgumentException(
+                    "permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.burstNanos = intervalNanos * Math.max(burst, 1);
+        this.nextFreeNanos = new AtomicLong(System.nanoTime() - burstNanos);
+    }
+
+    public void acquire() {
+        while (true) {
+            long now = System.nanoTime();
+            long next = nextFreeNanos.get();
+            long granted = Math.max(next, now - burstNanos);
+            if (nextFreeNanos.compareAndSet(next, granted + intervalNanos)) {
+                awaitUntil(granted);
+                return;
+            }
+        }
+    }
+
+    // parkNanos 는 시간이 되기 전에도 깨어날 수 있어 예약한 시각까지 다시 잠든다. 토큰은 이미 예약했으므로 인터럽트되어도 기다린
+    // 뒤 돌아가고, 인터럽트 상태는 되돌려 놓는다.
+    private static void awaitUntil(long grantedNanos) {
+        boolean interrupted = false;
+        long waitNanos;
+        while ((waitNanos = grantedNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(waitNanos);
+            if (Thread.interrupted()) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.musinsa.wagon.batch.detection;
+
+import com.musinsa.wagon.core.entity.enums.FakeDiscountPattern;
+
+public record FakeDiscountDetection(
+        Long holidayId,
+        FakeDiscountPattern patternType,
+        int priceBeforeRaise,
+        int raisedPrice,
+        int discountedPrice,
+        int confidenceScore) {}
@@ -0,0 +1,227 @@
+package com.musinsa.wagon.batch.detection;
+
+import com.musinsa.wagon.batch.metrics.CrawlMetrics;
+import com.musinsa.wagon.batch.metrics.CrawlStage;
+import com.musinsa.wagon.core.entity.enums.ShopType;
+import com.musinsa.wagon.core.holiday.HolidayIntervalIndex;
+import com.musinsa.wagon.core.holiday.HolidayIntervals;
+import com.musinsa.wagon.core.infra.pricestore.PriceSeries;
+import com.musinsa.wagon.core.infra.pricestore.PriceSeriesSource;
+import com.musinsa.wagon.core.price.RollingPriceStatistics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 전체 상품을 ForkJoin 으로 나눠 허위 할인을 판정한다. 판정은 상품별로 독립적이라 병렬로 돌리고, 결과 반영은 청크 단위
+ * 트랜잭션으로 순서대로 기록한다.
+ *
+ * <p>ForkJoin 작업 스레드는 CPU 수만큼이라 블로킹 I/O 를 하면 풀 전체가 DB 를 기다린다. 그래서 가격 시리즈는
+ * SERIES_BATCH_SIZE 개씩 호출 스레드에서 한 번에 읽고, 풀에는 읽어 둔 시리즈로 판정만 맡긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FakeDiscountDetectionService {
+
+    private static final int FORK_THRESHOLD = 256;
+    private static final int PERSIST_CHUNK_SIZE = 1000;
+    private static final int SERIES_BATCH_SIZE = 1000;
+
+    private static final String SELECT_PRODUCTS_SQL =
+            "SELECT id, product_number, shop_type, is_fake_discount FROM products";
+
+    private static final String SELECT_RECORDED_SQL =
+            """
+            SELECT product_id, holiday_id, pattern_type
+              FROM fake_discount_histories
+             WHERE holiday_id IN (:holidayIds)
+            """;
+
+    private final HolidayIntervalIndex holidayIntervalIndex;
+    private final PriceSeriesSource priceSeriesSource;
+    private final FakeDiscountDetector fakeDiscountDetector;
+    private final FakeDiscountResultWriter fakeDiscountResultWriter;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final CrawlMetrics crawlMetrics;
+
+    public void detectAll() {
+        HolidayIntervals intervals = holidayIntervalIndex.intervals();
+        List<HolidayWindow> windows = new ArrayList<>(intervals.size());
+        for (int i = 0; i < intervals.size(); i++) {
+            windows.add(HolidayWindow.from(intervals, i));
+        }
+        if (windows.isEmpty()) {
+            log.info("[FakeDiscount] no active holiday window. skip detection");
+            return;
+        }
+
+        long start = System.nanoTime();
+        List<ProductRef> products =
+                jdbcTemplate.query(
+                        SELECT_PRODUCTS_SQL,
+                        (rs, rowNum) ->
+                                new ProductRef(
+                                        rs.getLong(1),
+                                        rs.getLong(2),
+                                        ShopType.valueOf(rs.getString(3)),
+                                        rs.getBoolean(4)));
+
+        int scanFrom =
+                windows.stream().mapToInt(HolidayWindow::startDay).min().orElseThrow()
+                        - FakeDiscountDetector.CYCLE_LOOKBACK_DAYS
+                        - RollingPriceStatistics.LONG_WINDOW_DAYS;
+        int scanTo = windows.stream().mapToInt(HolidayWindow::endDay).max().orElseThrow();
+        ScanContext context =
+                new ScanContext(
+                        windows,
+                        LocalDate.ofEpochDay(scanFrom),
+                        LocalDate.ofEpochDay(scanTo),
+                        new ConcurrentLinkedQueue<>());
+
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            for (int from = 0; from < products.size(); from += SERIES_BATCH_SIZE) {
+                List<ProductRef> batch =
+                        products.subList(from, Math.min(from + SERIES_BATCH_SIZE, products.size()));
+                Map<Long, PriceSeries> series = loadSeries(batch, context);
+                if (series != null) {
+                    pool.invoke(new DetectTask(batch, 0, batch.size(), series, context));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        List<ProductDetectionResult> results = new ArrayList<>(context.results());
+        Set<String> recordedKeys = loadRecordedKeys(windows);
+        int saved = 0;
+        for (int from = 0; from < results.size(); from += PERSIST_CHUNK_SIZE) {
+            List<ProductDetectionResult> chunk =
+                    results.subList(from, Math.min(from + PERSIST_CHUNK_SIZE, results.size()));
+            saved += fakeDiscountResultWriter.write(chunk, recordedKeys);
+        }
+        log.info(
+                "[FakeDiscount] scanned products={} changed={} histories={} elapsed={}ms",
+                products.size(),
+                results.size(),
+                saved,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private Map<Long, PriceSeries> loadSeries(List<ProductRef> batch, ScanContext context) {
+        List<Long> productNumbers = new ArrayList<>(batch.size());
+        for (ProductRef product : batch) {
+            productNumbers.add(product.productNumber());
+        }
+        try {
+            return priceSeriesSource.findAll(productNumbers, context.from(), context.to());
+        } catch (RuntimeException e) {
+            crawlMetrics.recordError(CrawlStage.DETECTION, CrawlMetrics.ALL_SHOPS, e);
+            log.warn(
+                    "[FakeDiscount] failed to load price series. products={} first={}",
+                    batch.size(),
+                    batch.get(0).id(),
+                    e);
+            return null;
+        }
+    }
+
+    private Set<String> loadRecordedKeys(List<HolidayWindow> windows) {
+        Set<String> recordedKeys = ConcurrentHashMap.newKeySet();
+        Set<Long> holidayIds = new HashSet<>();
+        windows.forEach(window -> holidayIds.add(window.holidayId()));
+        namedParameterJdbcTemplate.query(
+                SELECT_RECORDED_SQL,
+                new MapSqlParameterSource("holidayIds", holidayIds),
+                rs -> {
+                    recordedKeys.add(
+                            FakeDiscountResultWriter.recordedKey(
+                                    rs.getLong(1), rs.getLong(2), rs.getString(3)));
+                });
+        return recordedKeys;
+    }
+
+    private record ProductRef(
+            Long id, Long productNumber, ShopType shopType, boolean fakeDiscount) {}
+
+    private record ScanContext(
+            List<HolidayWindow> windows,
+            LocalDate from,
+            LocalDate to,
+            Queue<ProductDetectionResult> results) {}
+
+    private class DetectTask extends RecursiveAction {
+
+        private final List<ProductRef> products;
+        private final int from;
+        private final int to;
+        private final Map<Long, PriceSeries> series;
+        private final ScanContext context;
+
+        DetectTask(
+                List<ProductRef> products,
+                int from,
+                int to,
+                Map<Long, PriceSeries> series,
+                ScanContext context) {
+            this.products = products;
+            this.from = from;
+            this.to = to;
+            this.series = series;
+            this.context = context;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= FORK_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    detect(products.get(i));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new DetectTask(products, from, mid, series, context),
+                    new DetectTask(products, mid, to, series, context));
+        }
+
+        private void detect(ProductRef product) {
+            long start = System.nanoTime();
+            try {
+                List<FakeDiscountDetection> detections =
+                        fakeDiscountDetector.detect(
+                                series.getOrDefault(product.productNumber(), PriceSeries.empty()),
+                                context.windows());
+                if (!detections.isEmpty() || product.fakeDiscount()) {
+                    context.results()
+                            .add(
+                                    new ProductDetectionResult(
+                                            product.id(), product.fakeDiscount(), detections));
+                }
+                crawlMetrics.record(CrawlStage.DETECTION, product.shopType(), start);
+            } catch (Exception e) {
+                crawlMetrics.recordError(CrawlStage.DETECTION, product.shopType(), e);
+                log.warn("[FakeDiscount] productId={} detection failed", product.id(), e);
+            }
+        }
+    }
+}
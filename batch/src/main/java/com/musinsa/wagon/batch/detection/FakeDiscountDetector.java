@@ -0,0 +1,250 @@
+package com.musinsa.wagon.batch.detection;
+
+import com.musinsa.wagon.core.entity.enums.FakeDiscountPattern;
+import com.musinsa.wagon.core.infra.pricestore.PriceSeries;
+import com.musinsa.wagon.core.price.RollingPriceStatistics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가격 시계열을 한 번만 순회하면서 모든 명절 감시 구간에 대해 세 가지 허위 할인 패턴을 동시에 판정한다.
+ *
+ * <ul>
+ *   <li>PRICE_SPIKE_BEFORE_HOLIDAY: 감시 시작 전 평균가보다 명절 전에 10% 이상 올렸다가, 평균가와 거의 같은 가격으로 "할인"
+ *   <li>INFLATED_ORIGINAL_PRICE: 정가가 직전 90일 동안 실제로 팔린 최고가보다 20% 이상 높음
+ *   <li>REPEATED_FAKE_SALE: 올렸다가 30일 안에 원래 가격으로 되돌리는 주기가 감시 구간 전후로 3회 이상
+ * </ul>
+ */
+@Component
+public class FakeDiscountDetector {
+
+    static final int BASELINE_DAYS = 30;
+    static final int CYCLE_LOOKBACK_DAYS = 180;
+
+    private static final int MIN_BASELINE_POINTS = 7;
+    private static final double SPIKE_RAISE_RATIO = 1.10;
+    private static final double SPIKE_MAX_REAL_DISCOUNT = 0.05;
+    private static final double SPIKE_MIN_FAKE_DISCOUNT = 0.10;
+    private static final double INFLATED_RATIO = 1.20;
+    private static final int INFLATED_MIN_HISTORY_DAYS = 14;
+    private static final double CYCLE_RAISE_RATIO = 1.10;
+    private static final double CYCLE_RETURN_RATIO = 1.03;
+    private static final int CYCLE_MAX_DAYS = 30;
+    private static final int REPEATED_MIN_CYCLES = 3;
+
+    public List<FakeDiscountDetection> detect(PriceSeries series, List<HolidayWindow> windows) {
+        if (series.isEmpty() || windows.isEmpty()) {
+            return List.of();
+        }
+
+        WindowState[] states = new WindowState[windows.size()];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = new WindowState(windows.get(i));
+        }
+        RollingPriceStatistics rolling = new RollingPriceStatistics();
+        CycleTracker cycles = new CycleTracker();
+        int firstDay = series.epochDay(0);
+
+        for (int i = 0; i < series.size(); i++) {
+            int day = series.epochDay(i);
+            int price = series.price(i);
+            int originalPrice = series.originalPrice(i);
+            int high90 = rolling.isEmpty() ? 0 : rolling.getHighPrice90();
+            boolean hasHistory = day - firstDay >= INFLATED_MIN_HISTORY_DAYS;
+
+            for (WindowState state : states) {
+                state.accept(day, price, originalPrice, hasHistory ? high90 : 0);
+            }
+            cycles.accept(day, price, states);
+            rolling.record(day, price);
+        }
+
+        List<FakeDiscountDetection> detections = new ArrayList<>(2);
+        for (WindowState state : states) {
+            state.collect(detections);
+        }
+        return detections;
+    }
+
+    private static int percent(double ratio) {
+        return (int) Math.round(ratio * 100);
+    }
+
+    private static int clampScore(long score) {
+        return (int) Math.max(0, Math.min(100, score));
+    }
+
+    private static final class WindowState {
+
+        private final HolidayWindow window;
+
+        private long baselineSum;
+        private int baselineCount;
+
+        private int raisedPrice;
+        private int raisedDay;
+        private int lowestAfterRaise;
+
+        private int inflatedOriginal;
+        private int inflatedReference;
+        private int inflatedPrice;
+        private double inflatedRatio;
+
+        private int cycleCount;
+        private int cycleTrough;
+        private int cyclePeak;
+        private int cycleReturn;
+
+        WindowState(HolidayWindow window) {
+            this.window = window;
+        }
+
+        void accept(int day, int price, int originalPrice, int high90) {
+            if (day >= window.startDay() - BASELINE_DAYS && day < window.startDay()) {
+                baselineSum += price;
+                baselineCount++;
+                return;
+            }
+            if (day < window.startDay() || day > window.endDay()) {
+                return;
+            }
+
+            if (day < window.holidayDay() && price > raisedPrice) {
+                raisedPrice = price;
+                raisedDay = day;
+                lowestAfterRaise = 0;
+            } else if (raisedPrice > 0 && day > raisedDay) {
+                lowestAfterRaise =
+                        lowestAfterRaise == 0 ? price : Math.min(lowestAfterRaise, price);
+            }
+
+            if (originalPrice != PriceSeries.NO_VALUE && high90 > 0 && originalPrice > price) {
+                double ratio = (double) originalPrice / high90;
+                if (ratio > inflatedRatio) {
+                    inflatedRatio = ratio;
+                    inflatedOriginal = originalPrice;
+                    inflatedReference = high90;
+                    inflatedPrice = price;
+                }
+            }
+        }
+
+        boolean coversCycleEnd(int day) {
+            return day >= window.startDay() - CYCLE_LOOKBACK_DAYS && day <= window.endDay();
+        }
+
+        void acceptCycle(int trough, int peak, int returnPrice) {
+            cycleCount++;
+            cycleTrough = trough;
+            cyclePeak = peak;
+            cycleReturn = returnPrice;
+        }
+
+        void collect(List<FakeDiscountDetection> detections) {
+            collectPriceSpike(detections);
+            collectInflatedOriginal(detections);
+            collectRepeatedSale(detections);
+        }
+
+        private void collectPriceSpike(List<FakeDiscountDetection> detections) {
+            if (baselineCount < MIN_BASELINE_POINTS || lowestAfterRaise == 0) {
+                return;
+            }
+            int baseline = (int) Math.round((double) baselineSum / baselineCount);
+            double raise = (double) raisedPrice / baseline;
+            double realDiscount = 1 - (double) lowestAfterRaise / baseline;
+            double fakeDiscount = 1 - (double) lowestAfterRaise / raisedPrice;
+            if (raise < SPIKE_RAISE_RATIO
+                    || realDiscount > SPIKE_MAX_REAL_DISCOUNT
+                    || fakeDiscount < SPIKE_MIN_FAKE_DISCOUNT) {
+                return;
+            }
+            int raiseScore = Math.min(30, percent(raise - SPIKE_RAISE_RATIO) * 2);
+            int realDiscountScore =
+                    Math.min(20, percent(SPIKE_MAX_REAL_DISCOUNT - realDiscount) * 4);
+            int score = clampScore(50 + raiseScore + realDiscountScore);
+            detections.add(
+                    new FakeDiscountDetection(
+                            window.holidayId(),
+                            FakeDiscountPattern.PRICE_SPIKE_BEFORE_HOLIDAY,
+                            baseline,
+                            raisedPrice,
+                            lowestAfterRaise,
+                            score));
+        }
+
+        private void collectInflatedOriginal(List<FakeDiscountDetection> detections) {
+            if (inflatedRatio < INFLATED_RATIO) {
+                return;
+            }
+            int score = clampScore(50 + Math.min(50, percent(inflatedRatio - INFLATED_RATIO)));
+            detections.add(
+                    new FakeDiscountDetection(
+                            window.holidayId(),
+                            FakeDiscountPattern.INFLATED_ORIGINAL_PRICE,
+                            inflatedReference,
+                            inflatedOriginal,
+                            inflatedPrice,
+                            score));
+        }
+
+        private void collectRepeatedSale(List<FakeDiscountDetection> detections) {
+            if (cycleCount < REPEATED_MIN_CYCLES) {
+                return;
+            }
+            int score = clampScore(40 + cycleCount * 15L);
+            detections.add(
+                    new FakeDiscountDetection(
+                            window.holidayId(),
+                            FakeDiscountPattern.REPEATED_FAKE_SALE,
+                            cycleTrough,
+                            cyclePeak,
+                            cycleReturn,
+                            score));
+        }
+    }
+
+    /** 저점 대비 10% 이상 올렸다가 30일 안에 저점 근처로 되돌아오는 주기를 센다. */
+    private static final class CycleTracker {
+
+        private int trough;
+        private int peak;
+        private int raisedDay = Integer.MIN_VALUE;
+
+        void accept(int day, int price, WindowState[] states) {
+            if (trough == 0) {
+                trough = price;
+                return;
+            }
+            if (raisedDay == Integer.MIN_VALUE) {
+                if (price >= trough * CYCLE_RAISE_RATIO) {
+                    raisedDay = day;
+                    peak = price;
+                } else {
+                    trough = Math.min(trough, price);
+                }
+                return;
+            }
+
+            if (day - raisedDay > CYCLE_MAX_DAYS) {
+                // 올린 가격이 그대로 유지되면 할인 주기가 아니라 가격 인상으로 본다.
+                raisedDay = Integer.MIN_VALUE;
+                trough = price;
+                return;
+            }
+            peak = Math.max(peak, price);
+            if (price <= trough * CYCLE_RETURN_RATIO) {
+                for (WindowState state : states) {
+                    if (state.coversCycleEnd(day)) {
+                        state.acceptCycle(trough, peak, price);
+                    }
+                }
+                raisedDay = Integer.MIN_VALUE;
+                trough = price;
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.musinsa.wagon.batch.detection;
+
+import com.musinsa.wagon.batch.brand.BrandStatsDeltas;
+import com.musinsa.wagon.batch.brand.BrandStatsWriter;
+import com.musinsa.wagon.core.entity.FakeDiscountHistory;
+import com.musinsa.wagon.core.entity.Product;
+import com.musinsa.wagon.core.repository.FakeDiscountHistoryRepository;
+import com.musinsa.wagon.core.repository.HolidayRepository;
+import com.musinsa.wagon.core.repository.ProductRepository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class FakeDiscountResultWriter {
+
+    private final ProductRepository productRepository;
+    private final HolidayRepository holidayRepository;
+    private final FakeDiscountHistoryRepository fakeDiscountHistoryRepository;
+    private final BrandStatsWriter brandStatsWriter;
+
+    @Transactional
+    public int write(List<ProductDetectionResult> results, Set<String> recordedKeys) {
+        List<Long> productIds = results.stream().map(ProductDetectionResult::productId).toList();
+        Map<Long, Product> products =
+                productRepository.findAllById(productIds).stream()
+                        .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<FakeDiscountHistory> histories = new ArrayList<>();
+        BrandStatsDeltas brandStats = new BrandStatsDeltas();
+        for (ProductDetectionResult result : results) {
+            Product product = products.get(result.productId());
+            if (product == null) {
+                continue;
+            }
+            // 판정을 시작할 때 읽은 값이 아니라 지금 행의 값과 비교해야 집계가 어긋나지 않는다.
+            brandStats.fakeDiscountChanged(
+                    product.getShopType(),
+                    product.getBrand(),
+                    Boolean.TRUE.equals(product.getIsFakeDiscount()),
+                    result.isFakeDiscount());
+            if (!result.isFakeDiscount()) {
+                product.updateFakeDiscount(false, null);
+                continue;
+            }
+            product.updateFakeDiscount(true, result.maxConfidenceScore());
+
+            for (FakeDiscountDetection detection : result.detections()) {
+                if (!recordedKeys.add(
+                        recordedKey(
+                                result.productId(),
+                                detection.holidayId(),
+                                detection.patternType().name()))) {
+                    continue;
+                }
+                histories.add(
+                        FakeDiscountHistory.create(
+                                product,
+                                holidayRepository.getReferenceById(detection.holidayId()),
+                                detection.priceBeforeRaise(),
+                                detection.raisedPrice(),
+                                detection.discountedPrice(),
+                                detection.confidenceScore(),
+                                detection.patternType()));
+            }
+        }
+        fakeDiscountHistoryRepository.saveAll(histories);
+        // 브랜드 행 잠금을 짧게 잡도록 상품 변경을 먼저 내보낸 뒤 더한다.
+        productRepository.flush();
+        brandStatsWriter.apply(brandStats);
+        return histories.size();
+    }
+
+    static String recordedKey(Long productId, Long holidayId, String patternType) {
+        return productId + ":" + holidayId + ":" + patternType;
+    }
+}
@@ -0,0 +1,14 @@
+package com.musinsa.wagon.batch.detection;
+
+import com.musinsa.wagon.core.holiday.HolidayIntervals;
+
+public record HolidayWindow(Long holidayId, int startDay, int holidayDay, int endDay) {
+
+    public static HolidayWindow from(HolidayIntervals intervals, int index) {
+        return new HolidayWindow(
+                intervals.holidayId(index),
+                intervals.startDay(index),
+                intervals.holidayDay(index),
+                intervals.endDay(index));
+    }
+}
@@ -0,0 +1,15 @@
+package com.musinsa.wagon.batch.detection;
+
+import java.util.List;
+
+public record ProductDetectionResult(
+        Long productId, boolean wasFakeDiscount, List<FakeDiscountDetection> detections) {
+
+    public boolean isFakeDiscount() {
+        return !detections.isEmpty();
+    }
+
+    public int maxConfidenceScore() {
+        return detections.stream().mapToInt(FakeDiscountDetection::confidenceScore).max().orElse(0);
+    }
+}
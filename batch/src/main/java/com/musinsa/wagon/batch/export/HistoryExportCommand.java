@@ -0,0 +1,68 @@
+package com.musinsa.wagon.batch.export;
+
+import com.musinsa.wagon.core.infra.export.HistoryExportQuery;
+import com.musinsa.wagon.core.infra.export.HistoryExportTarget;
+import com.musinsa.wagon.core.infra.export.HistoryExporter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+
+/**
+ * 이력을 파일로 내보낸다. 다 쓴 뒤에 이름을 바꾸므로 완성되지 않은 파일이 최종 이름으로 남지 않는다.
+ *
+ * <p>product-histories 파일은 가격이 바뀐 날의 변경 지점과, 상품마다 from 이전의 마지막 변경 지점을 담는다. 날마다 한 행씩
+ * 펼쳐 쓰지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "batch.export", name = "target")
+public class HistoryExportCommand implements ApplicationRunner {
+
+    private final HistoryExporter historyExporter;
+    private final HistoryExportCommandProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        HistoryExportQuery query =
+                new HistoryExportQuery(
+                        HistoryExportTarget.fromPath(properties.target()),
+                        properties.format(),
+                        properties.shopType(),
+                        Objects.requireNonNull(properties.from(), "batch.export.from is required"),
+                        Objects.requireNonNull(properties.to(), "batch.export.to is required"));
+
+        Path dir = Files.createDirectories(Path.of(properties.outputDir()));
+        Path file = dir.resolve(query.fileName());
+        Path partial = dir.resolve(query.fileName() + ".part");
+        long rows;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(partial))) {
+            rows = historyExporter.export(query, out);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+        Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING);
+        log.info("[Export] wrote {} rows to {}", rows, file.toAbsolutePath());
+
+        if (properties.exitOnComplete()) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.musinsa.wagon.batch.export;
+
+import com.musinsa.wagon.core.entity.enums.ShopType;
+import com.musinsa.wagon.core.infra.export.ExportFormat;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * target 이 주어졌을 때만 내보내기 명령으로 뜬다. 예:
+ *
+ * <pre>
+ * --batch.export.target=product-histories --batch.export.from=2024-01-01
+ * --batch.export.to=2024-12-31 --batch.export.shop-type=MUSINSA --batch.on-demand-crawl.enabled=false
+ * </pre>
+ *
+ * 명령으로 띄운 프로세스가 요청 크롤링을 가져가지 않도록 on-demand-crawl 은 꺼서 실행한다.
+ */
+@ConfigurationProperties(prefix = "batch.export")
+public record HistoryExportCommandProperties(
+        String target,
+        @DefaultValue("CSV") ExportFormat format,
+        ShopType shopType,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @DefaultValue("./exports") String outputDir,
+        @DefaultValue("true") boolean exitOnComplete) {}
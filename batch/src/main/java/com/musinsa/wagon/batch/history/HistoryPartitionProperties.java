@@ -0,0 +1,14 @@
+package com.musinsa.wagon.batch.history;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * retentionMonths 가 0 이면 지난 파티션을 지우지 않는다. 이력에는 값이 바뀐 날만 남으므로 보관 기간보다 오래 가격이 그대로인
+ * 상품은 지울 때 마지막 지점까지 사라진다는 점을 감안해서 정한다.
+ */
+@ConfigurationProperties(prefix = "batch.history-partition")
+public record HistoryPartitionProperties(
+        @DefaultValue("3") int monthsAhead,
+        @DefaultValue("0") int retentionMonths,
+        @DefaultValue("true") boolean archive) {}
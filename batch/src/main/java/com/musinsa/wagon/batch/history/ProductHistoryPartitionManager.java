@@ -0,0 +1,137 @@
+package com.musinsa.wagon.batch.history;
+
+import com.musinsa.wagon.core.infra.partition.MonthlyPartitions;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * product_histories 의 월 파티션을 관리한다. 앞으로 months-ahead 개월치 파티션을 미리 만들어 두어 적재가 p_max 로 떨어지지
+ * 않게 하고, retention-months 가 지난 파티션은 보관 테이블로 옮긴 뒤 지운다.
+ *
+ * <p>새 파티션은 비어 있는 p_max 를 REORGANIZE 해서 만들므로 데이터를 옮기지 않는다. 지난 파티션은 EXCHANGE PARTITION 으로
+ * 보관 테이블과 맞바꾸므로 역시 행을 복사하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductHistoryPartitionManager {
+
+    private static final String TABLE = "product_histories";
+
+    private static final String SELECT_PARTITIONS_SQL =
+            """
+            SELECT partition_name
+              FROM information_schema.partitions
+             WHERE table_schema = DATABASE()
+               AND table_name = ?
+               AND partition_name IS NOT NULL
+             ORDER BY partition_ordinal_position
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final HistoryPartitionProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void maintainOnStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${batch.history-partition.cron:0 30 1 * * *}", zone = "Asia/Seoul")
+    public void maintain() {
+        try {
+            List<String> partitions = partitions();
+            if (!partitions.contains(MonthlyPartitions.MAX_PARTITION)) {
+                log.warn("[HistoryPartition] {} is not partitioned. skip", TABLE);
+                return;
+            }
+            YearMonth current = YearMonth.now();
+            createAhead(months(partitions), current.plusMonths(properties.monthsAhead()));
+            if (properties.retentionMonths() > 0) {
+                expireBefore(months(partitions), current.minusMonths(properties.retentionMonths()));
+            }
+        } catch (RuntimeException e) {
+            log.error("[HistoryPartition] maintenance failed", e);
+        }
+    }
+
+    private void createAhead(List<YearMonth> existing, YearMonth until) {
+        YearMonth next =
+                existing.isEmpty()
+                        ? YearMonth.now()
+                        : existing.get(existing.size() - 1).plusMonths(1);
+        if (next.isAfter(until)) {
+            return;
+        }
+        StringJoiner definitions = new StringJoiner(", ", "(", ")");
+        List<String> created = new ArrayList<>();
+        for (YearMonth month = next; !month.isAfter(until); month = month.plusMonths(1)) {
+            definitions.add(MonthlyPartitions.definition(month));
+            created.add(MonthlyPartitions.name(month));
+        }
+        definitions.add(MonthlyPartitions.maxDefinition());
+        jdbcTemplate.execute(
+                "ALTER TABLE "
+                        + TABLE
+                        + " REORGANIZE PARTITION "
+                        + MonthlyPartitions.MAX_PARTITION
+                        + " INTO "
+                        + definitions);
+        log.info("[HistoryPartition] created partitions={}", created);
+    }
+
+    private void expireBefore(List<YearMonth> existing, YearMonth cutoff) {
+        for (YearMonth month : existing) {
+            if (!month.isBefore(cutoff)) {
+                break;
+            }
+            String partition = MonthlyPartitions.name(month);
+            if (properties.archive()) {
+                archive(partition);
+            }
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + partition);
+            log.info(
+                    "[HistoryPartition] dropped partition={} archived={}",
+                    partition,
+                    properties.archive());
+        }
+    }
+
+    // 파티션과 같은 구조의 빈 테이블을 만들어 맞바꾸면 파티션은 비고 행은 보관 테이블에 남는다. 보관 테이블이 이미 있으면
+    // CREATE 가 실패해 파티션을 지우지 않고 멈춘다.
+    private void archive(String partition) {
+        String archiveTable = TABLE + "_archive_" + partition;
+        jdbcTemplate.execute("CREATE TABLE " + archiveTable + " LIKE " + TABLE);
+        jdbcTemplate.execute("ALTER TABLE " + archiveTable + " REMOVE PARTITIONING");
+        jdbcTemplate.execute(
+                "ALTER TABLE "
+                        + TABLE
+                        + " EXCHANGE PARTITION "
+                        + partition
+                        + " WITH TABLE "
+                        + archiveTable);
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList(SELECT_PARTITIONS_SQL, String.class, TABLE);
+    }
+
+    private static List<YearMonth> months(List<String> partitions) {
+        List<YearMonth> months = new ArrayList<>(partitions.size());
+        for (String partition : partitions) {
+            MonthlyPartitions.monthOf(partition).ifPresent(months::add);
+        }
+        return months;
+    }
+}
@@ -0,0 +1,13 @@
+package com.musinsa.wagon.batch.ingest;
+
+/** changedRows 는 지문이 달라 실제로 DB 에 쓴 행 수. */
+public record ChunkThroughput(int chunkNo, int rows, int changedRows, long elapsedNanos) {
+
+    public double rowsPerSecond() {
+        return elapsedNanos > 0 ? rows * 1_000_000_000.0 / elapsedNanos : 0;
+    }
+
+    public long elapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+}
@@ -0,0 +1,7 @@
+package com.musinsa.wagon.batch.ingest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "batch.ingest")
+public record IngestProperties(@DefaultValue("5000") int chunkSize) {}
@@ -0,0 +1,25 @@
+package com.musinsa.wagon.batch.ingest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/** failedRows 는 쓰기에 실패해 롤백된 청크의 스냅샷 수. chunks 에는 성공한 청크만 들어간다. */
+public record IngestReport(
+        List<ChunkThroughput> chunks,
+        Set<LocalDate> snapshotDates,
+        int failedRows,
+        long totalElapsedNanos) {
+
+    public int totalRows() {
+        return chunks.stream().mapToInt(ChunkThroughput::rows).sum();
+    }
+
+    public int changedRows() {
+        return chunks.stream().mapToInt(ChunkThroughput::changedRows).sum();
+    }
+
+    public double rowsPerSecond() {
+        return totalElapsedNanos > 0 ? totalRows() * 1_000_000_000.0 / totalElapsedNanos : 0;
+    }
+}
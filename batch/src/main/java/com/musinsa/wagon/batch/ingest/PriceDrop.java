@@ -0,0 +1,3 @@
+package com.musinsa.wagon.batch.ingest;
+
+public record PriceDrop(Long productId, int previousPrice, int currentPrice) {}
@@ -0,0 +1,6 @@
+package com.musinsa.wagon.batch.ingest;
+
+import com.musinsa.wagon.core.entity.enums.PriceLabel;
+
+public record PriceLabelChange(
+        Long productId, PriceLabel previousLabel, PriceLabel currentLabel, int currentPrice) {}
@@ -0,0 +1,5 @@
+package com.musinsa.wagon.batch.ingest;
+
+import java.util.List;
+
+public record PriceLabelChangedEvent(List<PriceLabelChange> changes) {}
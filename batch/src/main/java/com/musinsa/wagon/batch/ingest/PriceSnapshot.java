@@ -0,0 +1,21 @@
+package com.musinsa.wagon.batch.ingest;
+
+import com.musinsa.wagon.core.entity.enums.ShopType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/** starScore, reviewCount, likeCount 는 크롤러가 읽지 못하면 null 이고 이때는 기존 값을 유지한다. */
+public record PriceSnapshot(
+        Long productNumber,
+        ShopType shopType,
+        String name,
+        String brand,
+        String imgUrl,
+        Integer currentPrice,
+        Integer originalPrice,
+        Integer discountRate,
+        BigDecimal starScore,
+        Integer reviewCount,
+        Integer likeCount,
+        LocalDate snapshotDate) {}
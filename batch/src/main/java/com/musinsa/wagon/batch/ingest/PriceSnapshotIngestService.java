@@ -0,0 +1,45 @@
+package com.musinsa.wagon.batch.ingest;
+
+import com.musinsa.wagon.batch.pricestore.PriceSeriesStoreSyncer;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class PriceSnapshotIngestService {
+
+    private final PriceSnapshotWriter priceSnapshotWriter;
+    private final IngestProperties ingestProperties;
+    private final ObjectProvider<PriceSeriesStoreSyncer> priceSeriesStoreSyncer;
+
+    public PriceSnapshotIngestor open() {
+        return open((chunk, e) -> {});
+    }
+
+    /** onChunkFailed 는 청크 쓰기가 실패하면 그 청크의 스냅샷 전체와 함께 불린다. */
+    public PriceSnapshotIngestor open(
+            BiConsumer<List<PriceSnapshot>, RuntimeException> onChunkFailed) {
+        return new PriceSnapshotIngestor(
+                priceSnapshotWriter,
+                ingestProperties.chunkSize(),
+                this::afterIngest,
+                onChunkFailed);
+    }
+
+    public IngestReport ingest(Stream<PriceSnapshot> snapshots) {
+        PriceSnapshotIngestor ingestor = open();
+        snapshots.forEach(ingestor::add);
+        return ingestor.close();
+    }
+
+    private void afterIngest(IngestReport report) {
+        priceSeriesStoreSyncer.ifAvailable(syncer -> syncer.sync(report.snapshotDates()));
+    }
+}
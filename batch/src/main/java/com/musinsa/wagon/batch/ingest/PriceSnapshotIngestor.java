@@ -0,0 +1,145 @@
+package com.musinsa.wagon.batch.ingest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 한 번의 적재 실행 단위. 여러 크롤링 스레드가 동시에 add 해도 되며, chunkSize 만큼 모이면 한 번에 기록한다.
+ *
+ * <p>청크는 한 트랜잭션으로 쓰이므로 실패하면 다른 스레드가 넣은 스냅샷까지 통째로 롤백된다. 이때 예외를 add 호출자에게 던지지 않고
+ * 청크 전체를 onChunkFailed 로 넘겨 스냅샷마다 실패로 셀 수 있게 한다. 여기서 재시도하지는 않는다. 메모리의 통계와 지문은
+ * 커밋된 뒤에만 바뀌므로, 실패한 스냅샷은 다음 크롤링에서 다시 들어와도 처음처럼 product_details 까지 쓰인다.
+ */
+@Slf4j
+public class PriceSnapshotIngestor {
+
+    private final PriceSnapshotWriter priceSnapshotWriter;
+    private final int chunkSize;
+    private final Consumer<IngestReport> onClose;
+    private final BiConsumer<List<PriceSnapshot>, RuntimeException> onChunkFailed;
+    private final long startedAt = System.nanoTime();
+    private final AtomicInteger chunkSequence = new AtomicInteger();
+    private final AtomicInteger failedRows = new AtomicInteger();
+
+    // 청크를 꺼낸 스레드가 쓰기를 마칠 때까지 읽기 락을 잡는다. flushBuffered 는 쓰기 락으로 진행 중인 청크를 기다린다.
+    private final ReadWriteLock writing = new ReentrantReadWriteLock();
+    private final ConcurrentLinkedQueue<ChunkThroughput> chunks = new ConcurrentLinkedQueue<>();
+    private final Set<LocalDate> snapshotDates = ConcurrentHashMap.newKeySet();
+
+    private List<PriceSnapshot> buffer;
+
+    PriceSnapshotIngestor(
+            PriceSnapshotWriter priceSnapshotWriter,
+            int chunkSize,
+            Consumer<IngestReport> onClose,
+            BiConsumer<List<PriceSnapshot>, RuntimeException> onChunkFailed) {
+        this.priceSnapshotWriter = priceSnapshotWriter;
+        this.chunkSize = chunkSize;
+        this.onClose = onClose;
+        this.onChunkFailed = onChunkFailed;
+        this.buffer = new ArrayList<>(chunkSize);
+    }
+
+    public void add(PriceSnapshot snapshot) {
+        List<PriceSnapshot> full = null;
+        synchronized (this) {
+            buffer.add(snapshot);
+            if (buffer.size() >= chunkSize) {
+                full = buffer;
+                buffer = new ArrayList<>(chunkSize);
+                writing.readLock().lock();
+            }
+        }
+        if (full != null) {
+            flush(full);
+        }
+    }
+
+    /**
+     * 모인 스냅샷을 청크가 차지 않아도 바로 쓰고, 다른 스레드가 쓰고 있던 청크도 끝날 때까지 기다린다. 돌아온 뒤에는 그때까지 add 한
+     * 스냅샷의 성공·실패가 모두 정해져 있다.
+     */
+    public void flushBuffered() {
+        List<PriceSnapshot> remaining;
+        synchronized (this) {
+            remaining = buffer;
+            buffer = new ArrayList<>(chunkSize);
+            writing.readLock().lock();
+        }
+        flush(remaining);
+        writing.writeLock().lock();
+        writing.writeLock().unlock();
+    }
+
+    public IngestReport close() {
+        flushBuffered();
+
+        IngestReport report =
+                new IngestReport(
+                        List.copyOf(chunks),
+                        Set.copyOf(snapshotDates),
+                        failedRows.get(),
+                        System.nanoTime() - startedAt);
+        log.info(
+                "[PriceIngest] completed chunks={} rows={} changed={} failed={} throughput={}"
+                        + " rows/s",
+                report.chunks().size(),
+                report.totalRows(),
+                report.changedRows(),
+                report.failedRows(),
+                String.format("%.1f", report.rowsPerSecond()));
+        onClose.accept(report);
+        return report;
+    }
+
+    // 호출 전에 writing 읽기 락을 잡아 두어야 한다.
+    private void flush(List<PriceSnapshot> chunk) {
+        try {
+            if (!chunk.isEmpty()) {
+                write(chunk);
+            }
+        } finally {
+            writing.readLock().unlock();
+        }
+    }
+
+    private void write(List<PriceSnapshot> chunk) {
+        int chunkNo = chunkSequence.incrementAndGet();
+        long start = System.nanoTime();
+        int changedRows;
+        try {
+            changedRows = priceSnapshotWriter.write(chunk);
+        } catch (RuntimeException e) {
+            failedRows.addAndGet(chunk.size());
+            log.error("[PriceIngest] chunk={} rows={} failed", chunkNo, chunk.size(), e);
+            onChunkFailed.accept(chunk, e);
+            return;
+        }
+        for (PriceSnapshot snapshot : chunk) {
+            snapshotDates.add(snapshot.snapshotDate());
+        }
+
+        ChunkThroughput throughput =
+                new ChunkThroughput(
+                        chunkNo, chunk.size(), changedRows, System.nanoTime() - start);
+        chunks.add(throughput);
+        log.info(
+                "[PriceIngest] chunk={} rows={} changed={} elapsed={}ms throughput={} rows/s",
+                throughput.chunkNo(),
+                throughput.rows(),
+                throughput.changedRows(),
+                throughput.elapsedMillis(),
+                String.format("%.1f", throughput.rowsPerSecond()));
+    }
+}
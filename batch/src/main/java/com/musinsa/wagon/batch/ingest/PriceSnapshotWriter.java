@@ -0,0 +1,540 @@
+package com.musinsa.wagon.batch.ingest;
+
+import com.musinsa.wagon.batch.brand.BrandStatsDeltas;
+import com.musinsa.wagon.batch.brand.BrandStatsWriter;
+import com.musinsa.wagon.batch.metrics.CrawlMetrics;
+import com.musinsa.wagon.batch.metrics.CrawlStage;
+import com.musinsa.wagon.batch.rollup.PriceRollupWriter;
+import com.musinsa.wagon.batch.stats.PriceStatisticsEngine;
+import com.musinsa.wagon.core.entity.enums.PriceLabel;
+import com.musinsa.wagon.core.entity.enums.ShopType;
+import com.musinsa.wagon.core.price.PriceLabelClassifier;
+import com.musinsa.wagon.core.price.RollingPriceStatistics;
+import com.musinsa.wagon.core.product.ProductUrlCanonicalizer;
+import com.musinsa.wagon.core.product.ProductViewVersions;
+import com.musinsa.wagon.core.utils.TransactionSynchronizations;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * IDENTITY 전략은 Hibernate 배치 INSERT 를 막기 때문에 가격 스냅샷은 JDBC 로 직접 적재한다.
+ * rewriteBatchedStatements 가 켜져 있으면 드라이버가 multi-row INSERT 로 재작성한다.
+ *
+ * <p>대부분의 상품은 하루 사이에 바뀌지 않는다. {@link ProductFingerprintIndex} 의 지문이 같은 스냅샷은 상품·이력·요약 테이블을
+ * 건드리지 않고 메모리의 통계에만 반영한다. 그래서 product_histories 에는 값이 바뀐 날만 남고, 읽는 쪽이 빈 날을 직전 값으로
+ * 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceSnapshotWriter {
+
+    private static final String UPSERT_PRODUCT_SQL =
+            """
+            INSERT INTO products (product_number, shop_type, name, brand, img_url,
+                                  current_price, original_price, discount_rate,
+                                  star_score, review_count, like_count,
+                                  price_label, is_fake_discount, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'NORMAL', false, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                name = COALESCE(VALUES(name), name),
+                current_price = VALUES(current_price),
+                original_price = VALUES(original_price),
+                discount_rate = VALUES(discount_rate),
+                star_score = COALESCE(VALUES(star_score), star_score),
+                review_count = COALESCE(VALUES(review_count), review_count),
+                like_count = COALESCE(VALUES(like_count), like_count),
+                updated_at = VALUES(updated_at)
+            """;
+
+    private static final String SELECT_PRODUCTS_SQL =
+            """
+            SELECT id, product_number, name, brand, current_price, discount_rate, price_label
+              FROM products
+             WHERE product_number IN (:productNumbers)
+            """;
+
+    private static final String INSERT_HISTORY_SQL =
+            """
+            INSERT INTO product_histories
+                   (product_id, price, original_price, discount_rate, created_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_PRODUCTS_WITHOUT_DETAIL_SQL =
+            "SELECT id FROM products WHERE id IN (:productIds) AND product_detail_id IS NULL";
+
+    // 상세 행이 없는 상품은 정규 URL 로 상세 행을 만들거나 찾아 통계를 쓰고 products 에 연결한다.
+    private static final String UPSERT_DETAIL_STATISTICS_SQL =
+            """
+            INSERT INTO product_details (product_url, high_price30, low_price30, avg_price30,
+                                         high_price90, low_price90, avg_price90,
+                                         all_time_high_price, all_time_low_price, crawl_status)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 'PENDING')
+            ON DUPLICATE KEY UPDATE
+                high_price30 = VALUES(high_price30),
+                low_price30 = VALUES(low_price30),
+                avg_price30 = VALUES(avg_price30),
+                high_price90 = VALUES(high_price90),
+                low_price90 = VALUES(low_price90),
+                avg_price90 = VALUES(avg_price90),
+                all_time_high_price = VALUES(all_time_high_price),
+                all_time_low_price = VALUES(all_time_low_price)
+            """;
+
+    private static final String LINK_DETAIL_SQL =
+            """
+            UPDATE products p
+              JOIN product_details pd ON pd.product_url = ?
+               SET p.product_detail_id = pd.id
+             WHERE p.id = ? AND p.product_detail_id IS NULL
+            """;
+
+    private static final String UPDATE_DETAIL_STATISTICS_SQL =
+            """
+            UPDATE product_details pd
+              JOIN products p ON p.product_detail_id = pd.id
+               SET pd.high_price30 = ?, pd.low_price30 = ?, pd.avg_price30 = ?,
+                   pd.high_price90 = ?, pd.low_price90 = ?, pd.avg_price90 = ?,
+                   pd.all_time_high_price = ?, pd.all_time_low_price = ?
+             WHERE p.id = ?
+            """;
+
+    private static final String UPDATE_PRICE_LABEL_SQL =
+            "UPDATE products SET price_label = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final PriceStatisticsEngine priceStatisticsEngine;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ProductViewVersions productViewVersions;
+    private final PriceRollupWriter priceRollupWriter;
+    private final ProductFingerprintIndex productFingerprintIndex;
+    private final CrawlMetrics crawlMetrics;
+    private final BrandStatsWriter brandStatsWriter;
+
+    /** 바뀐 스냅샷 수를 돌려준다. */
+    @Transactional
+    public int write(List<PriceSnapshot> chunk) {
+        Map<Long, Long> productIds = new HashMap<>(chunk.size() * 2);
+        Map<Long, Long> fingerprints = new HashMap<>(chunk.size() * 2);
+        List<PriceSnapshot> changed = new ArrayList<>();
+        Map<ShopType, int[]> rowsByShop = new EnumMap<>(ShopType.class);
+        for (PriceSnapshot snapshot : chunk) {
+            long fingerprint = ProductFingerprintIndex.fingerprint(snapshot);
+            long productId =
+                    productFingerprintIndex.productIdIfUnchanged(
+                            snapshot.productNumber(), fingerprint);
+            int[] rows = rowsByShop.computeIfAbsent(snapshot.shopType(), ignored -> new int[2]);
+            if (productId == ProductFingerprintIndex.NOT_FOUND) {
+                changed.add(snapshot);
+                fingerprints.put(snapshot.productNumber(), fingerprint);
+                rows[0]++;
+            } else {
+                productIds.put(snapshot.productNumber(), productId);
+                rows[1]++;
+            }
+        }
+
+        // 청크에는 여러 쇼핑몰이 섞여 있어 적재·통계 시간은 쇼핑몰을 나누지 않고 기록한다.
+        long start = System.nanoTime();
+        BrandStatsDeltas brandStats = new BrandStatsDeltas();
+        Map<Long, ExistingProduct> existing = findProducts(changed);
+        // 브랜드 집계는 크롤링한 값이 아니라 products 에 저장된 브랜드로 센다. upsert 는 브랜드를 바꾸지 않는다.
+        Map<Long, String> storedBrands = new HashMap<>(chunk.size() * 2);
+        existing.forEach(
+                (productNumber, product) -> storedBrands.put(productNumber, product.brand()));
+        if (!changed.isEmpty()) {
+            productIds.putAll(writeChanged(changed, existing, storedBrands));
+            priceRollupWriter.write(changed, productIds);
+            countDiscountRates(changed, existing, storedBrands, brandStats);
+        }
+        crawlMetrics.record(CrawlStage.PERSIST, CrawlMetrics.ALL_SHOPS, start);
+
+        start = System.nanoTime();
+        StatisticsUpdate update =
+                updateStatistics(chunk, productIds, existing, storedBrands, brandStats);
+        crawlMetrics.record(CrawlStage.STATS, CrawlMetrics.ALL_SHOPS, start);
+        publishPriceDrops(changed, existing);
+        publishInserted(changed, productIds, existing);
+        publishRenamed(changed, existing);
+        if (!update.labelChanges().isEmpty()) {
+            applicationEventPublisher.publishEvent(
+                    new PriceLabelChangedEvent(update.labelChanges()));
+        }
+
+        // 가격·라벨·통계 중 하나라도 바뀐 상품만 화면 캐시를 무효화한다.
+        Set<Long> viewChangedIds = new HashSet<>(update.statisticsChangedIds());
+        for (PriceSnapshot snapshot : changed) {
+            viewChangedIds.add(productIds.get(snapshot.productNumber()));
+        }
+        for (PriceLabelChange change : update.labelChanges()) {
+            viewChangedIds.add(change.productId());
+        }
+        List<Long> changedProductIds = List.copyOf(viewChangedIds);
+        TransactionSynchronizations.afterCommit(
+                () -> {
+                    priceStatisticsEngine.replaceAll(update.staged());
+                    productViewVersions.bump(changedProductIds);
+                    rememberFingerprints(changed, fingerprints, productIds, update.labels());
+                });
+        rowsByShop.forEach(
+                (shopType, rows) -> crawlMetrics.countIngestedRows(shopType, rows[0], rows[1]));
+        brandStatsWriter.apply(brandStats);
+        return changed.size();
+    }
+
+    private static void countDiscountRates(
+            List<PriceSnapshot> changed,
+            Map<Long, ExistingProduct> existing,
+            Map<Long, String> storedBrands,
+            BrandStatsDeltas brandStats) {
+        for (PriceSnapshot snapshot : changed) {
+            ExistingProduct product = existing.get(snapshot.productNumber());
+            String brand = storedBrands.get(snapshot.productNumber());
+            if (product == null) {
+                brandStats.productAdded(snapshot.shopType(), brand, snapshot.discountRate());
+            } else {
+                brandStats.discountRateChanged(
+                        snapshot.shopType(),
+                        brand,
+                        product.discountRate(),
+                        snapshot.discountRate());
+            }
+        }
+    }
+
+    private Map<Long, Long> writeChanged(
+            List<PriceSnapshot> changed,
+            Map<Long, ExistingProduct> existing,
+            Map<Long, String> storedBrands) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                UPSERT_PRODUCT_SQL,
+                changed,
+                changed.size(),
+                (ps, snapshot) -> {
+                    ps.setLong(1, snapshot.productNumber());
+                    ps.setString(2, snapshot.shopType().name());
+                    ps.setString(3, snapshot.name());
+                    ps.setString(4, snapshot.brand());
+                    ps.setString(5, snapshot.imgUrl());
+                    ps.setInt(6, snapshot.currentPrice());
+                    ps.setObject(7, snapshot.originalPrice(), Types.INTEGER);
+                    ps.setObject(8, snapshot.discountRate(), Types.INTEGER);
+                    ps.setBigDecimal(9, snapshot.starScore());
+                    ps.setObject(10, snapshot.reviewCount(), Types.INTEGER);
+                    ps.setObject(11, snapshot.likeCount(), Types.INTEGER);
+                    ps.setTimestamp(12, now);
+                    ps.setTimestamp(13, now);
+                });
+
+        Map<Long, Long> productIds = resolveProductIds(changed, existing, storedBrands);
+        jdbcTemplate.batchUpdate(
+                INSERT_HISTORY_SQL,
+                changed,
+                changed.size(),
+                (ps, snapshot) -> {
+                    ps.setLong(1, productIds.get(snapshot.productNumber()));
+                    ps.setInt(2, snapshot.currentPrice());
+                    ps.setObject(3, snapshot.originalPrice(), Types.INTEGER);
+                    ps.setObject(4, snapshot.discountRate(), Types.INTEGER);
+                    ps.setDate(5, Date.valueOf(snapshot.snapshotDate()));
+                });
+        return productIds;
+    }
+
+    // 커밋된 상태만 지문으로 남긴다. 롤백되면 다음 적재에서 다시 바뀐 것으로 보고 쓴다.
+    private void rememberFingerprints(
+            List<PriceSnapshot> changed,
+            Map<Long, Long> fingerprints,
+            Map<Long, Long> productIds,
+            Map<Long, PriceLabel> labels) {
+        for (PriceSnapshot snapshot : changed) {
+            Long productId = productIds.get(snapshot.productNumber());
+            if (productId != null) {
+                productFingerprintIndex.put(
+                        snapshot.productNumber(),
+                        fingerprints.get(snapshot.productNumber()),
+                        productId,
+                        labels.get(snapshot.productNumber()));
+            }
+        }
+        labels.forEach(productFingerprintIndex::updateLabel);
+    }
+
+    // 커밋 이후 검색 인덱스에 새 상품을 넣는다.
+    private void publishInserted(
+            List<PriceSnapshot> changed,
+            Map<Long, Long> productIds,
+            Map<Long, ExistingProduct> existing) {
+        List<Long> inserted = new ArrayList<>();
+        for (PriceSnapshot snapshot : changed) {
+            if (!existing.containsKey(snapshot.productNumber())) {
+                inserted.add(productIds.get(snapshot.productNumber()));
+            }
+        }
+        if (!inserted.isEmpty()) {
+            applicationEventPublisher.publishEvent(new ProductsInsertedEvent(inserted));
+        }
+    }
+
+    // 상품명은 upsert 로 바뀌므로 이름이 달라진 기존 상품은 커밋 이후 다시 색인한다.
+    private void publishRenamed(List<PriceSnapshot> changed, Map<Long, ExistingProduct> existing) {
+        List<Long> renamed = new ArrayList<>();
+        for (PriceSnapshot snapshot : changed) {
+            ExistingProduct product = existing.get(snapshot.productNumber());
+            if (product != null
+                    && snapshot.name() != null
+                    && !snapshot.name().equals(product.name())) {
+                renamed.add(product.id());
+            }
+        }
+        if (!renamed.isEmpty()) {
+            applicationEventPublisher.publishEvent(new ProductsUpdatedEvent(renamed));
+        }
+    }
+
+    // 커밋 이후 위시리스트 목표가 알림 등으로 이어진다.
+    private void publishPriceDrops(List<PriceSnapshot> chunk, Map<Long, ExistingProduct> existing) {
+        List<PriceDrop> drops = new ArrayList<>();
+        for (PriceSnapshot snapshot : chunk) {
+            ExistingProduct product = existing.get(snapshot.productNumber());
+            if (product != null && snapshot.currentPrice() < product.currentPrice()) {
+                drops.add(
+                        new PriceDrop(
+                                product.id(), product.currentPrice(), snapshot.currentPrice()));
+            }
+        }
+        if (!drops.isEmpty()) {
+            applicationEventPublisher.publishEvent(new PriceDropEvent(drops));
+        }
+    }
+
+    // 라벨은 새 가격이 반영되기 전의 통계로 분류한 뒤 통계를 갱신한다. 통계는 가격이 그대로여도 창이 밀리며 바뀔 수 있으므로
+    // 모든 스냅샷을 반영하되, 값이 실제로 달라진 상품만 product_details 에 쓴다. 메모리의 통계는 복사본에 반영해 두었다가
+    // 커밋된 뒤에 바꿔 넣으므로, 롤백된 청크를 다시 써도 같은 변화를 다시 계산해 product_details 에 쓴다.
+    private StatisticsUpdate updateStatistics(
+            List<PriceSnapshot> chunk,
+            Map<Long, Long> productIds,
+            Map<Long, ExistingProduct> existing,
+            Map<Long, String> storedBrands,
+            BrandStatsDeltas brandStats) {
+        List<Object[]> rows = new ArrayList<>();
+        List<Object[]> labelRows = new ArrayList<>();
+        List<PriceLabelChange> labelChanges = new ArrayList<>();
+        List<BrandLabelChange> brandLabelChanges = new ArrayList<>();
+        List<Long> statisticsChangedIds = new ArrayList<>();
+        Map<Long, PriceSnapshot> statisticsSnapshots = new HashMap<>();
+        Map<Long, PriceLabel> labels = new HashMap<>();
+        Map<Long, RollingPriceStatistics> staged = new HashMap<>();
+        for (PriceSnapshot snapshot : chunk) {
+            Long productId = productIds.get(snapshot.productNumber());
+            RollingPriceStatistics stats =
+                    staged.computeIfAbsent(productId, priceStatisticsEngine::copyOf);
+            int[] before = statisticsOf(stats);
+            // 크롤링이 빠진 날은 rebuild 처럼 직전 가격이 이어진 것으로 채워 두어야 재시작 전후 통계가 같다.
+            int epochDay = (int) snapshot.snapshotDate().toEpochDay();
+            stats.carryForwardTo(epochDay - 1);
+            PriceLabel label = PriceLabelClassifier.classify(snapshot.currentPrice(), stats);
+            stats.record(epochDay, snapshot.currentPrice());
+            int[] after = statisticsOf(stats);
+            if (!Arrays.equals(before, after)) {
+                Object[] row = new Object[after.length + 1];
+                for (int i = 0; i < after.length; i++) {
+                    row[i] = after[i];
+                }
+                row[after.length] = productId;
+                rows.add(row);
+                statisticsChangedIds.add(productId);
+                statisticsSnapshots.put(productId, snapshot);
+            }
+
+            PriceLabel previous = previousLabel(snapshot.productNumber(), existing);
+            if (label != previous) {
+                labelRows.add(new Object[] {label.name(), productId});
+                labelChanges.add(
+                        new PriceLabelChange(productId, previous, label, snapshot.currentPrice()));
+                brandLabelChanges.add(
+                        new BrandLabelChange(
+                                snapshot.productNumber(), snapshot.shopType(), previous, label));
+            }
+            labels.put(snapshot.productNumber(), label);
+        }
+        if (!rows.isEmpty()) {
+            writeDetailStatistics(rows, statisticsSnapshots);
+        }
+        if (!labelRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_PRICE_LABEL_SQL, labelRows);
+        }
+        countLabelChanges(brandLabelChanges, storedBrands, brandStats);
+        return new StatisticsUpdate(labelChanges, statisticsChangedIds, labels, staged);
+    }
+
+    // 지문이 같아 상품 행을 읽지 않은 스냅샷도 라벨은 바뀔 수 있으므로, 그런 상품의 저장된 브랜드는 여기서 모아 읽는다.
+    private void countLabelChanges(
+            List<BrandLabelChange> changes,
+            Map<Long, String> storedBrands,
+            BrandStatsDeltas brandStats) {
+        List<Long> missing =
+                changes.stream()
+                        .map(BrandLabelChange::productNumber)
+                        .filter(productNumber -> !storedBrands.containsKey(productNumber))
+                        .toList();
+        findProducts(missing)
+                .forEach(
+                        (productNumber, product) ->
+                                storedBrands.put(productNumber, product.brand()));
+        for (BrandLabelChange change : changes) {
+            brandStats.labelChanged(
+                    change.shopType(),
+                    storedBrands.get(change.productNumber()),
+                    change.previous(),
+                    change.current());
+        }
+    }
+
+    // UPDATE ... JOIN 은 상세 행이 없는 상품을 건너뛰므로, 새로 들어온 상품처럼 연결된 상세 행이 없으면 만들어 연결한다.
+    private void writeDetailStatistics(
+            List<Object[]> rows, Map<Long, PriceSnapshot> statisticsSnapshots) {
+        Set<Long> withoutDetail =
+                new HashSet<>(
+                        namedParameterJdbcTemplate.queryForList(
+                                SELECT_PRODUCTS_WITHOUT_DETAIL_SQL,
+                                new MapSqlParameterSource(
+                                        "productIds", statisticsSnapshots.keySet()),
+                                Long.class));
+        List<Object[]> updates = new ArrayList<>(rows.size());
+        List<Object[]> upserts = new ArrayList<>(withoutDetail.size());
+        List<Object[]> links = new ArrayList<>(withoutDetail.size());
+        for (Object[] row : rows) {
+            Long productId = (Long) row[row.length - 1];
+            if (!withoutDetail.contains(productId)) {
+                updates.add(row);
+                continue;
+            }
+            PriceSnapshot snapshot = statisticsSnapshots.get(productId);
+            String productUrl =
+                    ProductUrlCanonicalizer.of(snapshot.shopType(), snapshot.productNumber())
+                            .url();
+            Object[] upsert = new Object[row.length];
+            upsert[0] = productUrl;
+            System.arraycopy(row, 0, upsert, 1, row.length - 1);
+            upserts.add(upsert);
+            links.add(new Object[] {productUrl, productId});
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_DETAIL_STATISTICS_SQL, updates);
+        }
+        if (!upserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_DETAIL_STATISTICS_SQL, upserts);
+            jdbcTemplate.batchUpdate(LINK_DETAIL_SQL, links);
+        }
+    }
+
+    private PriceLabel previousLabel(long productNumber, Map<Long, ExistingProduct> existing) {
+        ExistingProduct product = existing.get(productNumber);
+        if (product != null) {
+            return product.priceLabel();
+        }
+        PriceLabel label = productFingerprintIndex.labelOf(productNumber);
+        return label == null ? PriceLabel.NORMAL : label;
+    }
+
+    private static int[] statisticsOf(RollingPriceStatistics stats) {
+        return new int[] {
+            stats.getHighPrice30(),
+            stats.getLowPrice30(),
+            stats.getAvgPrice30(),
+            stats.getHighPrice90(),
+            stats.getLowPrice90(),
+            stats.getAvgPrice90(),
+            stats.getAllTimeHighPrice(),
+            stats.getAllTimeLowPrice()
+        };
+    }
+
+    private Map<Long, ExistingProduct> findProducts(List<PriceSnapshot> chunk) {
+        return findProducts(chunk.stream().map(PriceSnapshot::productNumber).toList());
+    }
+
+    private Map<Long, ExistingProduct> findProducts(List<Long> productNumbers) {
+        Map<Long, ExistingProduct> products = new HashMap<>(productNumbers.size() * 2);
+        if (productNumbers.isEmpty()) {
+            return products;
+        }
+        namedParameterJdbcTemplate.query(
+                SELECT_PRODUCTS_SQL,
+                new MapSqlParameterSource("productNumbers", productNumbers),
+                rs -> {
+                    products.put(
+                            rs.getLong("product_number"),
+                            new ExistingProduct(
+                                    rs.getLong("id"),
+                                    rs.getString("name"),
+                                    rs.getString("brand"),
+                                    rs.getInt("current_price"),
+                                    rs.getObject("discount_rate", Integer.class),
+                                    PriceLabel.valueOf(rs.getString("price_label"))));
+                });
+        return products;
+    }
+
+    // 이번 청크에서 새로 INSERT 된 상품만 다시 조회해 id 와 저장된 브랜드를 채운다.
+    private Map<Long, Long> resolveProductIds(
+            List<PriceSnapshot> chunk,
+            Map<Long, ExistingProduct> existing,
+            Map<Long, String> storedBrands) {
+        Map<Long, Long> productIds = new HashMap<>(chunk.size() * 2);
+        existing.forEach((productNumber, product) -> productIds.put(productNumber, product.id()));
+
+        List<Long> inserted =
+                chunk.stream()
+                        .map(PriceSnapshot::productNumber)
+                        .filter(productNumber -> !existing.containsKey(productNumber))
+                        .toList();
+        findProducts(inserted)
+                .forEach(
+                        (productNumber, product) -> {
+                            productIds.put(productNumber, product.id());
+                            storedBrands.put(productNumber, product.brand());
+                        });
+        return productIds;
+    }
+
+    private record ExistingProduct(
+            Long id,
+            String name,
+            String brand,
+            int currentPrice,
+            Integer discountRate,
+            PriceLabel priceLabel) {}
+
+    private record BrandLabelChange(
+            long productNumber, ShopType shopType, PriceLabel previous, PriceLabel current) {}
+
+    private record StatisticsUpdate(
+            List<PriceLabelChange> labelChanges,
+            List<Long> statisticsChangedIds,
+            Map<Long, PriceLabel> labels,
+            Map<Long, RollingPriceStatistics> staged) {}
+}
@@ -0,0 +1,215 @@
+package com.musinsa.wagon.batch.ingest;
+
+import com.musinsa.wagon.core.entity.enums.PriceLabel;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+import javax.sql.DataSource;
+
+/**
+ * productNumber 별로 마지막으로 적재한 크롤링 상태의 지문과 상품 id, 가격 라벨을 들고 있는 open addressing 해시 테이블. 상품
+ * 수백만 개를 엔트리 객체 없이 배열 네 개로 담는다. 처음 쓸 때 products 를 한 번 스트리밍해 채우고, 이후에는 적재가 커밋된 뒤
+ * 갱신한다.
+ *
+ * <p>지문은 가격·정가·할인율·별점·리뷰 수·좋아요 수·상품명을 섞은 64비트 해시다. 지문이 같으면 바뀐 것이 없다고 보고 쓰기를
+ * 건너뛴다.
+ */
+@Slf4j
+@Component
+public class ProductFingerprintIndex {
+
+    public static final long NOT_FOUND = -1L;
+
+    private static final long EMPTY_KEY = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 1 << 16;
+    private static final PriceLabel[] LABELS = PriceLabel.values();
+
+    private static final String STREAM_PRODUCTS_SQL =
+            """
+            SELECT product_number, id, current_price, original_price, discount_rate,
+                   star_score, review_count, like_count, price_label, name
+              FROM products
+            """;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    private long[] keys;
+    private long[] fingerprints;
+    private long[] productIds;
+    private byte[] labels;
+    private int size;
+    private boolean loaded;
+
+    public ProductFingerprintIndex(DataSource dataSource) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        allocate(INITIAL_CAPACITY);
+    }
+
+    public static long fingerprint(
+            int currentPrice,
+            Integer originalPrice,
+            Integer discountRate,
+            BigDecimal starScore,
+            Integer reviewCount,
+            Integer likeCount,
+            String name) {
+        long hash = mix(0x9E3779B97F4A7C15L ^ currentPrice);
+        hash = mix(hash ^ valueOf(originalPrice));
+        hash = mix(hash ^ valueOf(discountRate));
+        hash = mix(hash ^ valueOf(starScore));
+        hash = mix(hash ^ valueOf(reviewCount));
+        hash = mix(hash ^ valueOf(likeCount));
+        return mix(hash ^ (name == null ? Long.MIN_VALUE : name.hashCode()));
+    }
+
+    public static long fingerprint(PriceSnapshot snapshot) {
+        return fingerprint(
+                snapshot.currentPrice(),
+                snapshot.originalPrice(),
+                snapshot.discountRate(),
+                snapshot.starScore(),
+                snapshot.reviewCount(),
+                snapshot.likeCount(),
+                snapshot.name());
+    }
+
+    /** 지문이 같으면 상품 id, 다르거나 처음 보는 상품이면 {@link #NOT_FOUND}. */
+    public synchronized long productIdIfUnchanged(long productNumber, long fingerprint) {
+        ensureLoaded();
+        int slot = slotOf(productNumber);
+        if (keys[slot] == EMPTY_KEY || fingerprints[slot] != fingerprint) {
+            return NOT_FOUND;
+        }
+        return productIds[slot];
+    }
+
+    /** 마지막으로 기록한 라벨. 처음 보는 상품이면 null. */
+    public synchronized PriceLabel labelOf(long productNumber) {
+        ensureLoaded();
+        int slot = slotOf(productNumber);
+        return keys[slot] == EMPTY_KEY ? null : LABELS[labels[slot]];
+    }
+
+    public synchronized void put(
+            long productNumber, long fingerprint, long productId, PriceLabel label) {
+        ensureLoaded();
+        store(productNumber, fingerprint, productId, label);
+    }
+
+    public synchronized void updateLabel(long productNumber, PriceLabel label) {
+        ensureLoaded();
+        int slot = slotOf(productNumber);
+        if (keys[slot] != EMPTY_KEY) {
+            labels[slot] = (byte) label.ordinal();
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        long start = System.nanoTime();
+        streamingJdbcTemplate.query(
+                STREAM_PRODUCTS_SQL,
+                rs -> {
+                    store(
+                            rs.getLong(1),
+                            fingerprint(
+                                    rs.getInt(3),
+                                    rs.getObject(4, Integer.class),
+                                    rs.getObject(5, Integer.class),
+                                    rs.getBigDecimal(6),
+                                    rs.getObject(7, Integer.class),
+                                    rs.getObject(8, Integer.class),
+                                    rs.getString(10)),
+                            rs.getLong(2),
+                            PriceLabel.valueOf(rs.getString(9)));
+                });
+        loaded = true;
+        log.info(
+                "[Fingerprint] loaded products={} elapsed={}ms",
+                size,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void store(long productNumber, long fingerprint, long productId, PriceLabel label) {
+        int slot = slotOf(productNumber);
+        if (keys[slot] == EMPTY_KEY) {
+            keys[slot] = productNumber;
+            size++;
+        }
+        fingerprints[slot] = fingerprint;
+        productIds[slot] = productId;
+        labels[slot] = (byte) label.ordinal();
+        // 부하율 1/2 을 넘으면 두 배로 늘린다.
+        if (size * 2 > keys.length) {
+            grow();
+        }
+    }
+
+    // 선형 탐사. 같은 키가 있으면 그 칸, 없으면 처음 만난 빈 칸.
+    private int slotOf(long productNumber) {
+        int mask = keys.length - 1;
+        int slot = (int) mix(productNumber) & mask;
+        while (keys[slot] != EMPTY_KEY && keys[slot] != productNumber) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldFingerprints = fingerprints;
+        long[] oldProductIds = productIds;
+        byte[] oldLabels = labels;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                fingerprints[slot] = oldFingerprints[i];
+                productIds[slot] = oldProductIds[i];
+                labels[slot] = oldLabels[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY_KEY);
+        fingerprints = new long[capacity];
+        productIds = new long[capacity];
+        labels = new byte[capacity];
+    }
+
+    private static long valueOf(Integer value) {
+        return value == null ? Long.MIN_VALUE : value;
+    }
+
+    // star_score 컬럼과 같은 소수 둘째 자리까지만 비교한다.
+    private static long valueOf(BigDecimal value) {
+        return value == null
+                ? Long.MIN_VALUE
+                : value.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue();
+    }
+
+    // SplitMix64 의 마무리 단계.
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,6 @@
+package com.musinsa.wagon.batch.ingest;
+
+import java.util.List;
+
+/** 적재 청크에서 처음 INSERT 된 상품. */
+public record ProductsInsertedEvent(List<Long> productIds) {}
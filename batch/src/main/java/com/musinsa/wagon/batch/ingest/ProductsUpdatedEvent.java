@@ -0,0 +1,6 @@
+package com.musinsa.wagon.batch.ingest;
+
+import java.util.List;
+
+/** 적재 청크에서 검색에 쓰이는 값(상품명)이 바뀐 기존 상품. */
+public record ProductsUpdatedEvent(List<Long> productIds) {}
@@ -0,0 +1,149 @@
+package com.musinsa.wagon.batch.metrics;
+
+import com.musinsa.wagon.core.entity.enums.ShopType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 배치 파이프라인 지표를 한곳에서 이름 붙여 등록한다. 단계별 타이머는 (stage, shop) 으로 나뉘고 히스토그램을 내보내므로
+ * Prometheus 에서 쇼핑몰·단계별 분위수를 계산할 수 있다. 여러 쇼핑몰이 섞인 청크를 다루는 단계는 shop 을
+ * {@link #ALL_SHOPS} 로 기록한다.
+ *
+ * <p>크롤링 스레드마다 호출되므로 빌더를 매번 만들지 않도록 미터를 캐시해 둔다.
+ */
+@Component
+public class CrawlMetrics {
+
+    public static final String ALL_SHOPS = "ALL";
+
+    private static final String STAGE_TIMER = "wagon.crawl.stage";
+    private static final String RUN_TIMER = "wagon.crawl.run";
+    private static final String ERROR_COUNTER = "wagon.crawl.errors";
+    private static final String INGEST_ROWS_COUNTER = "wagon.ingest.rows";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<CrawlStage, Map<String, Timer>> stageTimers = new EnumMap<>(CrawlStage.class);
+    private final Map<ErrorKey, Counter> errorCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> changedRows = new ConcurrentHashMap<>();
+    private final Map<String, Counter> unchangedRows = new ConcurrentHashMap<>();
+
+    public CrawlMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (CrawlStage stage : CrawlStage.values()) {
+            stageTimers.put(stage, new ConcurrentHashMap<>());
+        }
+    }
+
+    public void record(CrawlStage stage, ShopType shopType, long startNanos) {
+        record(stage, shopTag(shopType), startNanos);
+    }
+
+    public void record(CrawlStage stage, String shop, long startNanos) {
+        stageTimers
+                .get(stage)
+                .computeIfAbsent(shop, ignored -> stageTimer(stage, shop))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** 쇼핑몰 파티션 하나가 시작부터 끝까지 걸린 시간. 야간 수집이 어느 쇼핑몰 때문에 늦어지는지 본다. */
+    public void recordRun(ShopType shopType, boolean success, long startNanos) {
+        Timer.builder(RUN_TIMER)
+                .description("Elapsed time of one shop partition of a crawl run")
+                .tag("shop", shopTag(shopType))
+                .tag("result", success ? "success" : "failure")
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordError(CrawlStage stage, ShopType shopType, Throwable error) {
+        recordError(stage, shopTag(shopType), error);
+    }
+
+    public void recordError(CrawlStage stage, String shop, Throwable error) {
+        ErrorKey key = new ErrorKey(stage, shop, error.getClass().getSimpleName());
+        errorCounters
+                .computeIfAbsent(
+                        key,
+                        ignored ->
+                                Counter.builder(ERROR_COUNTER)
+                                        .description("Failures in the crawl pipeline")
+                                        .tag("stage", stage.tag())
+                                        .tag("shop", shop)
+                                        .tag("exception", key.exception())
+                                        .register(meterRegistry))
+                .increment();
+    }
+
+    public void countIngestedRows(ShopType shopType, int changed, int unchanged) {
+        String shop = shopTag(shopType);
+        if (changed > 0) {
+            changedRows
+                    .computeIfAbsent(shop, ignored -> ingestRowsCounter(shop, "changed"))
+                    .increment(changed);
+        }
+        if (unchanged > 0) {
+            unchangedRows
+                    .computeIfAbsent(shop, ignored -> ingestRowsCounter(shop, "unchanged"))
+                    .increment(unchanged);
+        }
+    }
+
+    public <T> void gauge(String name, String description, T target, ToDoubleFunction<T> value) {
+        Gauge.builder(name, target, value).description(description).register(meterRegistry);
+    }
+
+    public <T> void gauge(
+            String name,
+            String description,
+            ShopType shopType,
+            T target,
+            ToDoubleFunction<T> value) {
+        Gauge.builder(name, target, value)
+                .description(description)
+                .tag("shop", shopTag(shopType))
+                .register(meterRegistry);
+    }
+
+    /** 이미 누적 중인 카운터(LongAdder 등)를 그대로 내보낸다. */
+    public <T> void functionCounter(
+            String name, String description, T target, ToDoubleFunction<T> value) {
+        FunctionCounter.builder(name, target, value)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    private Timer stageTimer(CrawlStage stage, String shop) {
+        return Timer.builder(STAGE_TIMER)
+                .description("Elapsed time of each crawl pipeline stage")
+                .tag("stage", stage.tag())
+                .tag("shop", shop)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter ingestRowsCounter(String shop, String result) {
+        return Counter.builder(INGEST_ROWS_COUNTER)
+                .description("Ingested snapshots split by whether anything changed")
+                .tag("shop", shop)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String shopTag(ShopType shopType) {
+        return shopType == null ? ALL_SHOPS : shopType.name();
+    }
+
+    private record ErrorKey(CrawlStage stage, String shop, String exception) {}
+}
@@ -0,0 +1,19 @@
+package com.musinsa.wagon.batch.metrics;
+
+import java.util.Locale;
+
+/** 수집 파이프라인의 단계. 지표의 stage 태그 값이 된다. */
+public enum CrawlStage {
+    FETCH,
+    PARSE,
+    PERSIST,
+    STATS,
+    DETECTION,
+    NOTIFY;
+
+    private final String tag = name().toLowerCase(Locale.ROOT);
+
+    public String tag() {
+        return tag;
+    }
+}
@@ -0,0 +1,15 @@
+package com.musinsa.wagon.batch.notification;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "batch.notification")
+public record NotificationDispatchProperties(
+        @DefaultValue("200000") int queueCapacity,
+        @DefaultValue("2s") Duration coalesceWindow,
+        @DefaultValue("50000") int maxDrainSize,
+        @DefaultValue("4") int sendConcurrency,
+        @DefaultValue("6h") Duration sweepMaxAge,
+        @DefaultValue("10000") int sweepBatchSize) {}
@@ -0,0 +1,104 @@
+package com.musinsa.wagon.batch.notification;
+
+import com.musinsa.wagon.core.entity.enums.NotificationType;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationDispatchRepository {
+
+    private static final int IN_CLAUSE_SIZE = 1000;
+
+    private static final String SELECT_PUSH_TOKENS_SQL =
+            """
+            SELECT id, fcm_token
+              FROM users
+             WHERE id IN (:userIds)
+               AND notification_enabled = true
+               AND fcm_token IS NOT NULL
+            """;
+
+    private static final String SELECT_UNSENT_SQL =
+            """
+            SELECT n.id, n.user_id, n.product_id, n.notification_type, n.title, n.message
+              FROM notifications n
+              JOIN users u ON u.id = n.user_id
+             WHERE n.sent_at IS NULL
+               AND n.created_at >= :createdFrom
+               AND n.created_at < :createdTo
+               AND n.id > :afterId
+               AND u.notification_enabled = true
+               AND u.fcm_token IS NOT NULL
+             ORDER BY n.id
+             LIMIT :limit
+            """;
+
+    private static final String UPDATE_SENT_AT_SQL =
+            "UPDATE notifications SET sent_at = :sentAt WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public Map<Long, String> findPushTokens(Collection<Long> userIds) {
+        Map<Long, String> tokens = new HashMap<>(userIds.size() * 2);
+        List<Long> ids = List.copyOf(userIds);
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_SIZE) {
+            List<Long> slice = ids.subList(from, Math.min(from + IN_CLAUSE_SIZE, ids.size()));
+            namedParameterJdbcTemplate.query(
+                    SELECT_PUSH_TOKENS_SQL,
+                    new MapSqlParameterSource("userIds", slice),
+                    rs -> {
+                        tokens.put(rs.getLong("id"), rs.getString("fcm_token"));
+                    });
+        }
+        return tokens;
+    }
+
+    /** 생성 시각이 [createdFrom, createdTo) 이고 아직 보내지 않은 알림을 afterId 다음부터 id 순으로 limit 개 읽는다. */
+    public List<QueuedNotification> findUnsent(
+            LocalDateTime createdFrom, LocalDateTime createdTo, long afterId, int limit) {
+        return namedParameterJdbcTemplate.query(
+                SELECT_UNSENT_SQL,
+                new MapSqlParameterSource()
+                        .addValue("createdFrom", Timestamp.valueOf(createdFrom))
+                        .addValue("createdTo", Timestamp.valueOf(createdTo))
+                        .addValue("afterId", afterId)
+                        .addValue("limit", limit),
+                (rs, rowNum) ->
+                        new QueuedNotification(
+                                rs.getLong("id"),
+                                rs.getLong("user_id"),
+                                rs.getLong("product_id"),
+                                NotificationType.valueOf(rs.getString("notification_type")),
+                                rs.getString("title"),
+                                rs.getString("message")));
+    }
+
+    public int markAsSent(List<Long> notificationIds, LocalDateTime sentAt) {
+        int updated = 0;
+        Timestamp timestamp = Timestamp.valueOf(sentAt);
+        for (int from = 0; from < notificationIds.size(); from += IN_CLAUSE_SIZE) {
+            List<Long> slice =
+                    notificationIds.subList(
+                            from, Math.min(from + IN_CLAUSE_SIZE, notificationIds.size()));
+            updated +=
+                    namedParameterJdbcTemplate.update(
+                            UPDATE_SENT_AT_SQL,
+                            new MapSqlParameterSource()
+                                    .addValue("sentAt", timestamp)
+                                    .addValue("ids", slice));
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,434 @@
+package com.musinsa.wagon.batch.notification;
+
+import com.musinsa.wagon.batch.metrics.CrawlMetrics;
+import com.musinsa.wagon.batch.metrics.CrawlStage;
+import com.musinsa.wagon.core.entity.enums.NotificationType;
+import com.musinsa.wagon.core.infra.push.MulticastResult;
+import com.musinsa.wagon.core.infra.push.PushGateway;
+import com.musinsa.wagon.core.infra.push.PushMessage;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 알림을 큐에 모았다가 coalesce-window 동안 들어온 것을 한 번에 보낸다. 같은 (사용자, 상품, 알림 종류) 는 마지막 내용 하나로
+ * 합치고, 같은 내용끼리 토큰을 묶어 {@link PushGateway#MAX_MULTICAST_TOKENS} 개씩 multicast 한 뒤 sentAt 을 한 번에
+ * 갱신한다.
+ *
+ * <p>enqueue 는 적재 경로에서 불리므로 막지 않는다. 큐가 가득 차면 바로 버리고 overflow 로 센다. 버려진 알림은 sentAt 이
+ * 비어 있는 채로 남고, sweep 이 sweep-interval 마다 coalesce-window 보다 오래된 미발송 알림을 다시 읽어 큐에 넣으므로
+ * 손실이 아니라 지연이 된다. 큐에 있거나 보내는 중인 알림은 inFlight 로 기억해 sweep 이 두 번 넣지 않게 한다. 푸시 토큰
+ * 조회처럼 아무것도 보내기 전에 실패한 묶음은 큐에 다시 넣고, 보낸 뒤 sentAt 기록이 실패하면 중복 발송을 피하려고 다시 보내지
+ * 않고 sweep 이 sentAt 기록만 다시 시도한다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private final PushGateway pushGateway;
+    private final NotificationDispatchRepository notificationDispatchRepository;
+    private final NotificationDispatchProperties properties;
+    private final CrawlMetrics crawlMetrics;
+    private final BlockingQueue<QueuedNotification> queue;
+
+    private final LongAdder overflow = new LongAdder();
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Set<Long> unrecorded = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService dispatchThread;
+    private ExecutorService sendExecutor;
+    private volatile boolean running;
+
+    public NotificationDispatcher(
+            PushGateway pushGateway,
+            NotificationDispatchRepository notificationDispatchRepository,
+            NotificationDispatchProperties properties,
+            CrawlMetrics crawlMetrics) {
+        this.pushGateway = pushGateway;
+        this.notificationDispatchRepository = notificationDispatchRepository;
+        this.properties = properties;
+        this.crawlMetrics = crawlMetrics;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        crawlMetrics.gauge(
+                "wagon.notification.queue.size",
+                "Notifications waiting to be dispatched",
+                queue,
+                BlockingQueue::size);
+        crawlMetrics.functionCounter(
+                "wagon.notification.overflow",
+                "Notifications deferred to the sweep because the queue was full",
+                overflow,
+                LongAdder::sum);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        sendExecutor =
+                Executors.newFixedThreadPool(
+                        properties.sendConcurrency(),
+                        new CustomizableThreadFactory("notification-send-"));
+        dispatchThread =
+                Executors.newSingleThreadExecutor(
+                        new CustomizableThreadFactory("notification-dispatch-"));
+        dispatchThread.execute(this::dispatchLoop);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        dispatchThread.shutdown();
+        if (!dispatchThread.awaitTermination(
+                properties.coalesceWindow().toMillis() * 5, TimeUnit.MILLISECONDS)) {
+            dispatchThread.shutdownNow();
+        }
+        sendExecutor.shutdown();
+    }
+
+    public void enqueueAll(Collection<QueuedNotification> notifications) {
+        for (QueuedNotification notification : notifications) {
+            enqueue(notification);
+        }
+    }
+
+    public boolean enqueue(QueuedNotification notification) {
+        if (offer(notification)) {
+            return true;
+        }
+        overflow.increment();
+        log.warn(
+                "[Notification] queue is full. left to sweep notificationId={}",
+                notification.notificationId());
+        return false;
+    }
+
+    public int queueSize() {
+        return queue.size();
+    }
+
+    /**
+     * 보낸 뒤 sentAt 기록에 실패한 알림의 기록을 다시 시도하고, 큐에 없는 미발송 알림을 큐가 받을 수 있는 만큼 다시 넣는다.
+     * coalesce-window 보다 최근 알림은 아직 커밋 직후 enqueue 중일 수 있어서, sweep-max-age 보다 오래된 알림은 더 보낼 의미가
+     * 없어서 건너뛴다.
+     */
+    @Scheduled(fixedDelayString = "${batch.notification.sweep-interval:PT1M}")
+    public void sweep() {
+        if (!running) {
+            return;
+        }
+        try {
+            retryUnrecorded();
+            // 조회 도중 보내고 풀려난 알림을 다시 넣지 않도록 조회 전의 inFlight 도 함께 거른다.
+            Set<Long> queuedBeforeSweep = Set.copyOf(inFlight);
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime createdFrom = now.minus(properties.sweepMaxAge());
+            LocalDateTime createdTo = now.minus(properties.coalesceWindow());
+            long afterId = 0;
+            int requeued = 0;
+            int limit;
+            while ((limit = Math.min(queue.remainingCapacity(), properties.sweepBatchSize())) > 0) {
+                List<QueuedNotification> unsent =
+                        notificationDispatchRepository.findUnsent(
+                                createdFrom, createdTo, afterId, limit);
+                for (QueuedNotification notification : unsent) {
+                    Long id = notification.notificationId();
+                    afterId = id;
+                    if (queuedBeforeSweep.contains(id) || unrecorded.contains(id)) {
+                        continue;
+                    }
+                    if (!offer(notification)) {
+                        break;
+                    }
+                    requeued++;
+                }
+                if (unsent.size() < limit) {
+                    break;
+                }
+            }
+            if (requeued > 0) {
+                log.info("[Notification] swept unsent notifications. requeued={}", requeued);
+            }
+        } catch (RuntimeException e) {
+            crawlMetrics.recordError(CrawlStage.NOTIFY, CrawlMetrics.ALL_SHOPS, e);
+            log.error("[Notification] sweep failed", e);
+        }
+    }
+
+    private void retryUnrecorded() {
+        if (unrecorded.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(unrecorded);
+        try {
+            notificationDispatchRepository.markAsSent(ids, LocalDateTime.now());
+        } catch (RuntimeException e) {
+            // 다시 보내지 않도록 unrecorded 에 남겨 두고 미발송 알림 sweep 은 계속한다.
+            log.error("[Notification] failed to record sentAt on retry. size={}", ids.size(), e);
+            return;
+        }
+        ids.forEach(unrecorded::remove);
+        log.info("[Notification] recorded sentAt on retry. size={}", ids.size());
+    }
+
+    /** 큐에 넣은 알림은 inFlight 에 먼저 올려, 보내고 풀려나기 전까지 sweep 이 다시 넣지 않게 한다. */
+    private boolean offer(QueuedNotification notification) {
+        Long id = notification.notificationId();
+        if (!inFlight.add(id)) {
+            return true;
+        }
+        if (queue.offer(notification)) {
+            return true;
+        }
+        inFlight.remove(id);
+        return false;
+    }
+
+    private void release(List<QueuedNotification> notifications) {
+        for (QueuedNotification notification : notifications) {
+            inFlight.remove(notification.notificationId());
+        }
+    }
+
+    private void dispatchLoop() {
+        List<QueuedNotification> drained = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                QueuedNotification first =
+                        queue.poll(properties.coalesceWindow().toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                if (running) {
+                    // 첫 알림 이후 창이 닫힐 때까지 들어오는 중복을 함께 합친다.
+                    Thread.sleep(properties.coalesceWindow().toMillis());
+                }
+                drained.add(first);
+                queue.drainTo(drained, properties.maxDrainSize() - 1);
+                dispatch(drained);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                crawlMetrics.recordError(CrawlStage.NOTIFY, CrawlMetrics.ALL_SHOPS, e);
+                log.error("[Notification] dispatch failed. size={}", drained.size(), e);
+            } finally {
+                drained.clear();
+            }
+        }
+    }
+
+    private void dispatch(List<QueuedNotification> drained) {
+        long start = System.nanoTime();
+        Collection<Coalesced> merged = coalesce(drained);
+
+        Set<Long> userIds = new HashSet<>();
+        for (Coalesced notification : merged) {
+            userIds.add(notification.userId);
+        }
+        Map<Long, String> tokens;
+        try {
+            tokens = notificationDispatchRepository.findPushTokens(userIds);
+        } catch (RuntimeException e) {
+            // 아직 아무것도 보내지 않았으므로 다음 주기에 다시 보낸다.
+            requeue(drained);
+            throw e;
+        }
+
+        try {
+            sendAll(merged, tokens, start, drained.size());
+        } finally {
+            release(drained);
+        }
+    }
+
+    private void sendAll(
+            Collection<Coalesced> merged, Map<Long, String> tokens, long start, int drainedSize) {
+        // 같은 내용의 알림은 토큰만 다르므로 하나의 multicast 로 묶는다.
+        Map<MessageKey, List<Coalesced>> byMessage = new LinkedHashMap<>();
+        for (Coalesced notification : merged) {
+            String token = tokens.get(notification.userId);
+            if (token == null) {
+                continue;
+            }
+            notification.token = token;
+            byMessage
+                    .computeIfAbsent(MessageKey.of(notification), key -> new ArrayList<>())
+                    .add(notification);
+        }
+
+        List<CompletableFuture<List<Long>>> sends = new ArrayList<>();
+        byMessage.forEach(
+                (key, recipients) -> {
+                    for (int from = 0;
+                            from < recipients.size();
+                            from += PushGateway.MAX_MULTICAST_TOKENS) {
+                        List<Coalesced> batch =
+                                recipients.subList(
+                                        from,
+                                        Math.min(
+                                                from + PushGateway.MAX_MULTICAST_TOKENS,
+                                                recipients.size()));
+                        sends.add(
+                                CompletableFuture.supplyAsync(
+                                        () -> send(key, batch), sendExecutor));
+                    }
+                });
+
+        List<Long> sentIds = new ArrayList<>();
+        for (CompletableFuture<List<Long>> send : sends) {
+            sentIds.addAll(send.join());
+        }
+        try {
+            notificationDispatchRepository.markAsSent(sentIds, LocalDateTime.now());
+        } catch (RuntimeException e) {
+            unrecorded.addAll(sentIds);
+            log.error(
+                    "[Notification] pushed but failed to record sentAt. retry on sweep."
+                            + " notificationIds={}",
+                    sentIds,
+                    e);
+            throw e;
+        }
+        crawlMetrics.record(CrawlStage.NOTIFY, CrawlMetrics.ALL_SHOPS, start);
+
+        log.info(
+                "[Notification] drained={} merged={} multicasts={} sent={} queued={} overflow={}"
+                        + " elapsed={}ms",
+                drainedSize,
+                merged.size(),
+                sends.size(),
+                sentIds.size(),
+                queue.size(),
+                overflow.sum(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void requeue(List<QueuedNotification> drained) {
+        List<Long> droppedIds = new ArrayList<>();
+        for (QueuedNotification notification : drained) {
+            if (!queue.offer(notification)) {
+                inFlight.remove(notification.notificationId());
+                droppedIds.add(notification.notificationId());
+            }
+        }
+        if (!droppedIds.isEmpty()) {
+            overflow.add(droppedIds.size());
+            log.warn(
+                    "[Notification] queue is full. left to sweep on requeue notificationIds={}",
+                    droppedIds);
+        }
+    }
+
+    private List<Long> send(MessageKey key, List<Coalesced> batch) {
+        List<String> batchTokens = new ArrayList<>(batch.size());
+        for (Coalesced notification : batch) {
+            batchTokens.add(notification.token);
+        }
+        PushMessage message =
+                new PushMessage(
+                        key.title,
+                        key.message,
+                        Map.of(
+                                "productId", String.valueOf(key.productId),
+                                "type", key.notificationType.name()));
+
+        MulticastResult result;
+        try {
+            result = pushGateway.sendMulticast(message, batchTokens);
+        } catch (RuntimeException e) {
+            crawlMetrics.recordError(CrawlStage.NOTIFY, CrawlMetrics.ALL_SHOPS, e);
+            log.warn("[Notification] multicast failed. tokens={}", batchTokens.size(), e);
+            return List.of();
+        }
+
+        Set<String> failed = new HashSet<>(result.failedTokens());
+        List<Long> sentIds = new ArrayList<>();
+        for (Coalesced notification : batch) {
+            if (!failed.contains(notification.token)) {
+                sentIds.addAll(notification.notificationIds);
+            }
+        }
+        return sentIds;
+    }
+
+    private static Collection<Coalesced> coalesce(List<QueuedNotification> drained) {
+        Map<CoalesceKey, Coalesced> merged = new HashMap<>(drained.size() * 2);
+        for (QueuedNotification notification : drained) {
+            CoalesceKey key =
+                    new CoalesceKey(
+                            notification.userId(),
+                            notification.productId(),
+                            notification.notificationType());
+            Coalesced current = merged.get(key);
+            if (current == null) {
+                merged.put(key, new Coalesced(notification));
+            } else {
+                current.merge(notification);
+            }
+        }
+        return merged.values();
+    }
+
+    private record CoalesceKey(Long userId, Long productId, NotificationType notificationType) {}
+
+    private record MessageKey(
+            Long productId, NotificationType notificationType, String title, String message) {
+
+        static MessageKey of(Coalesced notification) {
+            return new MessageKey(
+                    notification.productId,
+                    notification.notificationType,
+                    notification.title,
+                    notification.message);
+        }
+    }
+
+    /** 합쳐진 알림. 푸시는 마지막 내용으로 한 번만 보내고 sentAt 은 합쳐진 알림 모두에 기록한다. */
+    private static final class Coalesced {
+
+        private final Long userId;
+        private final Long productId;
+        private final NotificationType notificationType;
+        private final List<Long> notificationIds = new ArrayList<>(1);
+        private String title;
+        private String message;
+        private String token;
+
+        Coalesced(QueuedNotification notification) {
+            this.userId = notification.userId();
+            this.productId = notification.productId();
+            this.notificationType = notification.notificationType();
+            merge(notification);
+        }
+
+        void merge(QueuedNotification notification) {
+            notificationIds.add(notification.notificationId());
+            this.title = notification.title();
+            this.message = notification.message();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.musinsa.wagon.batch.notification;
+
+import com.musinsa.wagon.core.entity.Notification;
+import com.musinsa.wagon.core.repository.NotificationRepository;
+import com.musinsa.wagon.core.utils.TransactionSynchronizations;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/** 알림을 저장하고, 커밋된 뒤에 전송 큐에 넣는다. 호출자의 트랜잭션 안에서 불려야 한다. */
+@Component
+@RequiredArgsConstructor
+public class NotificationPublisher {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationDispatcher notificationDispatcher;
+
+    public void publish(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        List<QueuedNotification> queued =
+                notificationRepository.saveAll(notifications).stream()
+                        .map(QueuedNotification::from)
+                        .toList();
+        TransactionSynchronizations.afterCommit(() -> notificationDispatcher.enqueueAll(queued));
+    }
+}
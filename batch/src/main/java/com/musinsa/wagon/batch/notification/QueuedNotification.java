@@ -0,0 +1,23 @@
+package com.musinsa.wagon.batch.notification;
+
+import com.musinsa.wagon.core.entity.Notification;
+import com.musinsa.wagon.core.entity.enums.NotificationType;
+
+public record QueuedNotification(
+        Long notificationId,
+        Long userId,
+        Long productId,
+        NotificationType notificationType,
+        String title,
+        String message) {
+
+    public static QueuedNotification from(Notification notification) {
+        return new QueuedNotification(
+                notification.getId(),
+                notification.getUser().getId(),
+                notification.getProduct().getId(),
+                notification.getNotificationType(),
+                notification.getTitle(),
+                notification.getMessage());
+    }
+}
@@ -0,0 +1,8 @@
+package com.musinsa.wagon.batch.ondemand;
+
+import com.musinsa.wagon.core.entity.enums.ShopType;
+
+import java.time.LocalDateTime;
+
+public record ClaimedCrawlRequest(
+        Long id, String productUrl, ShopType shopType, LocalDateTime requestedAt) {}
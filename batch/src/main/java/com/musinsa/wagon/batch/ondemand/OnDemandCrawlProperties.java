@@ -0,0 +1,14 @@
+package com.musinsa.wagon.batch.ondemand;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "batch.on-demand-crawl")
+public record OnDemandCrawlProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("500ms") Duration pollInterval,
+        @DefaultValue("50") int claimSize,
+        @DefaultValue("16") int concurrency,
+        @DefaultValue("10m") Duration staleAfter) {}
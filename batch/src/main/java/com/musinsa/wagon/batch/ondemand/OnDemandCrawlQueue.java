@@ -0,0 +1,284 @@
+package com.musinsa.wagon.batch.ondemand;
+
+import com.musinsa.wagon.batch.crawl.CrawlProperties;
+import com.musinsa.wagon.batch.crawl.CrawlProperties.ShopLimit;
+import com.musinsa.wagon.batch.crawl.CrawlTarget;
+import com.musinsa.wagon.batch.crawl.ShopCrawler;
+import com.musinsa.wagon.batch.crawl.TokenBucketRateLimiter;
+import com.musinsa.wagon.batch.ingest.PriceSnapshot;
+import com.musinsa.wagon.batch.ingest.PriceSnapshotWriter;
+import com.musinsa.wagon.batch.metrics.CrawlMetrics;
+import com.musinsa.wagon.batch.metrics.CrawlStage;
+import com.musinsa.wagon.core.entity.enums.ShopType;
+import com.musinsa.wagon.core.product.CanonicalProductUrl;
+import com.musinsa.wagon.core.product.ProductUrlCanonicalizer;
+import com.musinsa.wagon.core.product.ProductUrlIndex;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자가 붙여 넣은 URL 을 바로 수집한다. fo 는 PENDING 요청만 저장하고, 여기서 poll-interval 마다 빈 슬롯만큼 요청을
+ * 가져가 concurrency 크기의 풀에서 수집한다. 일일 수집의 스케줄러 스레드와 겹치지 않도록 자체 스레드로 돈다.
+ *
+ * <p>URL 은 {@link ProductUrlCanonicalizer} 로 정규화해 같은 상품이면 진행 중인 수집 하나에 합류한다. 수집이 끝나면 그
+ * 상품을 기다리던 요청을 UPDATE 한 번으로 함께 완료한다. 이미 추적 중인 상품은 수집하지 않고 바로 완료한다.
+ */
+@Slf4j
+@Component
+public class OnDemandCrawlQueue {
+
+    private final OnDemandCrawlRepository onDemandCrawlRepository;
+    private final PriceSnapshotWriter priceSnapshotWriter;
+    private final ProductUrlIndex productUrlIndex;
+    private final OnDemandCrawlProperties properties;
+    private final CrawlMetrics crawlMetrics;
+    private final Map<ShopType, ShopCrawler> crawlers = new EnumMap<>(ShopType.class);
+    private final Map<ShopType, TokenBucketRateLimiter> rateLimiters =
+            new EnumMap<>(ShopType.class);
+
+    private final Map<String, CompletableFuture<Long>> inFlight = new ConcurrentHashMap<>();
+    private final Semaphore slots;
+
+    private ExecutorService pollThread;
+    private ExecutorService crawlExecutor;
+    private volatile boolean running;
+    private long nextStaleCheck;
+
+    public OnDemandCrawlQueue(
+            OnDemandCrawlRepository onDemandCrawlRepository,
+            PriceSnapshotWriter priceSnapshotWriter,
+            ProductUrlIndex productUrlIndex,
+            List<ShopCrawler> shopCrawlers,
+            CrawlProperties crawlProperties,
+            OnDemandCrawlProperties properties,
+            CrawlMetrics crawlMetrics) {
+        this.onDemandCrawlRepository = onDemandCrawlRepository;
+        this.priceSnapshotWriter = priceSnapshotWriter;
+        this.productUrlIndex = productUrlIndex;
+        this.properties = properties;
+        this.crawlMetrics = crawlMetrics;
+        this.slots = new Semaphore(properties.concurrency());
+        crawlMetrics.gauge(
+                "wagon.on.demand.crawl.in.flight",
+                "Distinct products being crawled on demand",
+                inFlight,
+                Map::size);
+        for (ShopCrawler crawler : shopCrawlers) {
+            ShopLimit limit = crawlProperties.limitOf(crawler.shopType());
+            crawlers.put(crawler.shopType(), crawler);
+            rateLimiters.put(
+                    crawler.shopType(),
+                    new TokenBucketRateLimiter(limit.permitsPerSecond(), limit.burst()));
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        running = true;
+        crawlExecutor =
+                Executors.newFixedThreadPool(
+                        properties.concurrency(),
+                        new CustomizableThreadFactory("on-demand-crawl-"));
+        pollThread =
+                Executors.newSingleThreadExecutor(
+                        new CustomizableThreadFactory("on-demand-crawl-poll-"));
+        pollThread.execute(this::pollLoop);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        pollThread.shutdownNow();
+        crawlExecutor.shutdown();
+        // 끝내지 못한 요청은 PROCESSING 으로 남았다가 stale-after 이후 다시 대기열에 들어간다.
+        crawlExecutor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private void pollLoop() {
+        long pollMillis = properties.pollInterval().toMillis();
+        while (running) {
+            try {
+                requeueStaleIfDue();
+                int free = slots.availablePermits();
+                List<ClaimedCrawlRequest> claimed =
+                        free == 0
+                                ? List.of()
+                                : onDemandCrawlRepository.claim(
+                                        Math.min(properties.claimSize(), free));
+                if (claimed.isEmpty()) {
+                    Thread.sleep(pollMillis);
+                    continue;
+                }
+                dispatch(claimed);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                log.error("[OnDemandCrawl] poll failed", e);
+                sleepQuietly(pollMillis);
+            }
+        }
+    }
+
+    private void dispatch(List<ClaimedCrawlRequest> claimed) {
+        Map<String, List<ClaimedCrawlRequest>> byProduct = new LinkedHashMap<>();
+        Map<String, CanonicalProductUrl> productUrls = new HashMap<>();
+        List<ClaimedCrawlRequest> unsupported = new ArrayList<>();
+        for (ClaimedCrawlRequest request : claimed) {
+            Optional<CanonicalProductUrl> productUrl =
+                    ProductUrlCanonicalizer.canonicalize(
+                            request.shopType(), request.productUrl());
+            if (productUrl.isEmpty()) {
+                unsupported.add(request);
+                continue;
+            }
+            String key = productUrl.get().key();
+            productUrls.putIfAbsent(key, productUrl.get());
+            byProduct.computeIfAbsent(key, ignored -> new ArrayList<>()).add(request);
+        }
+        if (!unsupported.isEmpty()) {
+            finish(unsupported, null, new IllegalArgumentException("Unsupported product url"));
+        }
+
+        byProduct.forEach(
+                (key, requests) -> {
+                    CanonicalProductUrl productUrl = productUrls.get(key);
+                    Optional<Long> tracked = productUrlIndex.find(productUrl);
+                    if (tracked.isPresent()) {
+                        finish(requests, tracked.get(), null);
+                        return;
+                    }
+                    CompletableFuture<Long> crawl =
+                            inFlight.computeIfAbsent(key, ignored -> start(key, productUrl));
+                    crawl.whenComplete((productId, error) -> finish(requests, productId, error));
+                });
+    }
+
+    // 폴링 스레드만 슬롯을 가져가고 가져갈 수 있는 만큼만 요청을 가져왔으므로 acquire 가 막히지 않는다.
+    private CompletableFuture<Long> start(String key, CanonicalProductUrl productUrl) {
+        CompletableFuture<Long> crawl = new CompletableFuture<>();
+        slots.acquireUninterruptibly();
+        crawlExecutor.execute(
+                () -> {
+                    try {
+                        crawl.complete(crawl(productUrl));
+                    } catch (Exception e) {
+                        crawl.completeExceptionally(e);
+                    } finally {
+                        inFlight.remove(key, crawl);
+                        slots.release();
+                    }
+                });
+        return crawl;
+    }
+
+    private Long crawl(CanonicalProductUrl productUrl) throws Exception {
+        ShopType shopType = productUrl.shopType();
+        ShopCrawler crawler = crawlers.get(shopType);
+        if (crawler == null) {
+            throw new IllegalStateException("No crawler for shopType: " + shopType);
+        }
+        rateLimiters.get(shopType).acquire();
+        CrawlTarget target = new CrawlTarget(productUrl.productNumber(), productUrl.url());
+        CrawlStage stage = CrawlStage.FETCH;
+        PriceSnapshot snapshot;
+        try {
+            long start = System.nanoTime();
+            String body = crawler.fetch(target);
+            crawlMetrics.record(CrawlStage.FETCH, shopType, start);
+
+            stage = CrawlStage.PARSE;
+            start = System.nanoTime();
+            snapshot = crawler.parse(target, body);
+            crawlMetrics.record(CrawlStage.PARSE, shopType, start);
+
+            stage = CrawlStage.PERSIST;
+            priceSnapshotWriter.write(List.of(snapshot));
+        } catch (Exception e) {
+            crawlMetrics.recordError(stage, shopType, e);
+            throw e;
+        }
+        Long productId = onDemandCrawlRepository.findProductId(snapshot.productNumber());
+        if (productId != null) {
+            productUrlIndex.register(productUrl, productId);
+        }
+        return productId;
+    }
+
+    private void finish(List<ClaimedCrawlRequest> requests, Long productId, Throwable error) {
+        List<Long> requestIds = requests.stream().map(ClaimedCrawlRequest::id).toList();
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            if (error == null) {
+                onDemandCrawlRepository.complete(requestIds, productId, now);
+            } else {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                onDemandCrawlRepository.fail(requestIds, cause.getMessage(), now);
+                log.warn(
+                        "[OnDemandCrawl] url={} failed: {}",
+                        requests.get(0).productUrl(),
+                        cause.getMessage());
+            }
+            log.info(
+                    "[OnDemandCrawl] url={} requests={} success={} latency={}ms",
+                    requests.get(0).productUrl(),
+                    requestIds.size(),
+                    error == null,
+                    Duration.between(requests.get(0).requestedAt(), now).toMillis());
+        } catch (RuntimeException e) {
+            // 상태를 남기지 못한 요청은 stale-after 이후 다시 수집된다.
+            log.error("[OnDemandCrawl] failed to update requests={}", requestIds, e);
+        }
+    }
+
+    private void requeueStaleIfDue() {
+        long now = System.currentTimeMillis();
+        if (now < nextStaleCheck) {
+            return;
+        }
+        nextStaleCheck = now + properties.staleAfter().toMillis() / 2;
+        int requeued =
+                onDemandCrawlRepository.requeueStale(
+                        LocalDateTime.now().minus(properties.staleAfter()));
+        if (requeued > 0) {
+            log.warn("[OnDemandCrawl] requeued stale requests={}", requeued);
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.musinsa.wagon.batch.ondemand;
+
+import com.musinsa.wagon.core.entity.enums.ShopType;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * user_product_crawl_requests 를 작업 큐로 쓴다. PENDING 행을 SKIP LOCKED 로 잠가 가져가므로 배치 인스턴스가 여럿이어도 같은
+ * 요청을 두 번 가져가지 않고, 다른 인스턴스가 잠근 행을 기다리지도 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OnDemandCrawlRepository {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+
+    private static final String SELECT_PENDING_FOR_UPDATE_SQL =
+            """
+            SELECT id, product_url, shop_type, requested_at
+              FROM user_product_crawl_requests
+             WHERE status = 'PENDING'
+             ORDER BY id
+             LIMIT :limit
+               FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String UPDATE_PROCESSING_SQL =
+            """
+            UPDATE user_product_crawl_requests
+               SET status = 'PROCESSING', claimed_at = :claimedAt
+             WHERE id IN (:ids)
+            """;
+
+    private static final String UPDATE_COMPLETED_SQL =
+            """
+            UPDATE user_product_crawl_requests
+               SET status = 'COMPLETED', product_id = :productId, processed_at = :processedAt
+             WHERE id IN (:ids)
+            """;
+
+    private static final String UPDATE_FAILED_SQL =
+            """
+            UPDATE user_product_crawl_requests
+               SET status = 'FAILED', error_message = :errorMessage, processed_at = :processedAt
+             WHERE id IN (:ids)
+            """;
+
+    private static final String REQUEUE_STALE_SQL =
+            """
+            UPDATE user_product_crawl_requests
+               SET status = 'PENDING'
+             WHERE status = 'PROCESSING'
+               AND claimed_at < :claimedBefore
+            """;
+
+    private static final String SELECT_PRODUCT_ID_SQL =
+            "SELECT id FROM products WHERE product_number = :productNumber";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /** 최대 limit 개의 PENDING 요청을 PROCESSING 으로 바꾸고 돌려준다. 잠금은 커밋과 함께 바로 풀린다. */
+    @Transactional
+    public List<ClaimedCrawlRequest> claim(int limit) {
+        List<ClaimedCrawlRequest> claimed = new ArrayList<>(limit);
+        namedParameterJdbcTemplate.query(
+                SELECT_PENDING_FOR_UPDATE_SQL,
+                new MapSqlParameterSource("limit", limit),
+                rs -> {
+                    claimed.add(
+                            new ClaimedCrawlRequest(
+                                    rs.getLong("id"),
+                                    rs.getString("product_url"),
+                                    ShopType.valueOf(rs.getString("shop_type")),
+                                    rs.getTimestamp("requested_at").toLocalDateTime()));
+                });
+        if (!claimed.isEmpty()) {
+            namedParameterJdbcTemplate.update(
+                    UPDATE_PROCESSING_SQL,
+                    new MapSqlParameterSource()
+                            .addValue("claimedAt", Timestamp.valueOf(LocalDateTime.now()))
+                            .addValue(
+                                    "ids",
+                                    claimed.stream().map(ClaimedCrawlRequest::id).toList()));
+        }
+        return claimed;
+    }
+
+    public void complete(List<Long> requestIds, Long productId, LocalDateTime processedAt) {
+        namedParameterJdbcTemplate.update(
+                UPDATE_COMPLETED_SQL,
+                new MapSqlParameterSource()
+                        .addValue("productId", productId)
+                        .addValue("processedAt", Timestamp.valueOf(processedAt))
+                        .addValue("ids", requestIds));
+    }
+
+    public void fail(List<Long> requestIds, String errorMessage, LocalDateTime processedAt) {
+        namedParameterJdbcTemplate.update(
+                UPDATE_FAILED_SQL,
+                new MapSqlParameterSource()
+                        .addValue("errorMessage", truncate(errorMessage))
+                        .addValue("processedAt", Timestamp.valueOf(processedAt))
+                        .addValue("ids", requestIds));
+    }
+
+    /**
+     * 처리 중에 프로세스가 죽어 PROCESSING 으로 남은 요청을 다시 대기열에 넣는다. 워커가 가져간 시각으로 판단하므로 오래 기다렸다가
+     * 막 가져간 요청은 건드리지 않는다.
+     */
+    public int requeueStale(LocalDateTime claimedBefore) {
+        return namedParameterJdbcTemplate.update(
+                REQUEUE_STALE_SQL,
+                new MapSqlParameterSource("claimedBefore", Timestamp.valueOf(claimedBefore)));
+    }
+
+    public Long findProductId(Long productNumber) {
+        List<Long> ids =
+                namedParameterJdbcTemplate.queryForList(
+                        SELECT_PRODUCT_ID_SQL,
+                        new MapSqlParameterSource("productNumber", productNumber),
+                        Long.class);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    private static String truncate(String errorMessage) {
+        if (errorMessage == null || errorMessage.length() <= MAX_ERROR_MESSAGE_LENGTH) {
+            return errorMessage;
+        }
+        return errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+    }
+}
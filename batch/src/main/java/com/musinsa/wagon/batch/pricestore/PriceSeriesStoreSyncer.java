@@ -0,0 +1,144 @@
+package com.musinsa.wagon.batch.pricestore;
+
+import com.musinsa.wagon.core.infra.pricestore.MappedPriceSeriesStore;
+import com.musinsa.wagon.core.infra.pricestore.PriceSeries;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+
+import javax.sql.DataSource;
+
+/** 야간 적재가 끝난 날짜의 히스토리를 MySQL 에서 읽어 컬럼 파일 저장소에 반영한다. */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "price-store", name = "enabled", havingValue = "true")
+public class PriceSeriesStoreSyncer {
+
+    private static final String SELECT_DAY_SQL =
+            """
+            SELECT p.product_number, h.created_at, h.price, h.original_price, h.discount_rate
+              FROM product_histories h
+              JOIN products p ON p.id = h.product_id
+             WHERE h.created_at = ?
+            """;
+
+    private static final String SELECT_ALL_SQL =
+            """
+            SELECT p.product_number, h.created_at, h.price, h.original_price, h.discount_rate
+              FROM product_histories h
+              JOIN products p ON p.id = h.product_id
+             ORDER BY h.product_id, h.created_at
+            """;
+
+    private final MappedPriceSeriesStore mappedPriceSeriesStore;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public PriceSeriesStoreSyncer(
+            MappedPriceSeriesStore mappedPriceSeriesStore, DataSource dataSource) {
+        this.mappedPriceSeriesStore = mappedPriceSeriesStore;
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (mappedPriceSeriesStore.isEmpty()) {
+            rebuild();
+        }
+    }
+
+    public void sync(Collection<LocalDate> dates) {
+        for (LocalDate date : dates.stream().sorted().toList()) {
+            long start = System.nanoTime();
+            long[] rows = new long[1];
+            streamingJdbcTemplate.query(
+                    SELECT_DAY_SQL,
+                    rs -> {
+                        mappedPriceSeriesStore.append(
+                                rs.getLong(1),
+                                (int) rs.getDate(2).toLocalDate().toEpochDay(),
+                                rs.getInt(3),
+                                PriceSeries.fromNullable(rs.getObject(4, Integer.class)),
+                                PriceSeries.fromNullable(rs.getObject(5, Integer.class)));
+                        rows[0]++;
+                    },
+                    Date.valueOf(date));
+            log.info(
+                    "[PriceStore] synced date={} rows={} elapsed={}ms",
+                    date,
+                    rows[0],
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    public void rebuild() {
+        long start = System.nanoTime();
+        SeriesAccumulator accumulator = new SeriesAccumulator();
+        streamingJdbcTemplate.query(
+                SELECT_ALL_SQL,
+                rs -> {
+                    long productNumber = rs.getLong(1);
+                    if (productNumber != accumulator.productNumber) {
+                        accumulator.flushTo(mappedPriceSeriesStore);
+                        accumulator.productNumber = productNumber;
+                    }
+                    accumulator.add(
+                            (int) rs.getDate(2).toLocalDate().toEpochDay(),
+                            rs.getInt(3),
+                            PriceSeries.fromNullable(rs.getObject(4, Integer.class)),
+                            PriceSeries.fromNullable(rs.getObject(5, Integer.class)));
+                });
+        accumulator.flushTo(mappedPriceSeriesStore);
+        log.info(
+                "[PriceStore] rebuilt products={} elapsed={}ms",
+                accumulator.products,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static final class SeriesAccumulator {
+
+        private long productNumber = Long.MIN_VALUE;
+        private long products;
+        private int[] epochDays = new int[512];
+        private int[] prices = new int[512];
+        private int[] originalPrices = new int[512];
+        private int[] discountRates = new int[512];
+        private int size;
+
+        void add(int epochDay, int price, int originalPrice, int discountRate) {
+            if (size == epochDays.length) {
+                int grown = size * 2;
+                epochDays = Arrays.copyOf(epochDays, grown);
+                prices = Arrays.copyOf(prices, grown);
+                originalPrices = Arrays.copyOf(originalPrices, grown);
+                discountRates = Arrays.copyOf(discountRates, grown);
+            }
+            epochDays[size] = epochDay;
+            prices[size] = price;
+            originalPrices[size] = originalPrice;
+            discountRates[size] = discountRate;
+            size++;
+        }
+
+        void flushTo(MappedPriceSeriesStore store) {
+            if (size == 0) {
+                return;
+            }
+            store.replace(
+                    productNumber,
+                    PriceSeries.of(epochDays, prices, originalPrices, discountRates, size));
+            products++;
+            size = 0;
+        }
+    }
+}
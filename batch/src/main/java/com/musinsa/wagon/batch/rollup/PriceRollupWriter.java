@@ -0,0 +1,226 @@
+package com.musinsa.wagon.batch.rollup;
+
+import com.musinsa.wagon.batch.ingest.PriceSnapshot;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.UnaryOperator;
+
+/**
+ * 스냅샷이 들어온 주·월 구간의 요약 행을 product_histories 에서 다시 계산해 덮어쓴다. 누적하지 않으므로 같은 날을 다시 적재해도
+ * 결과가 같다. 하루에 이력이 여러 건이면 마지막 건 하나만 그날의 값으로 센다.
+ *
+ * <p>이력에는 값이 바뀐 날만 남으므로 각 가격을 유지된 일수만큼 센다. 구간 시작 전의 마지막 값은 구간 첫 변경일 전까지 이어진
+ * 것으로 본다. 요약 행은 구간 시작부터 close_date 까지를 담고, 그 뒤로 구간이 끝날 때까지는 종가가 이어진다고 읽는 쪽이 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceRollupWriter {
+
+    // created_at 을 날짜 값과 직접 비교해야 구간에 걸친 월 파티션만 읽는다. 구간 앞부분을 채우도록 from 이전의 마지막
+    // 지점도 함께 읽는다.
+    private static final String SELECT_POINTS_SQL =
+            """
+            (SELECT h.product_id, h.created_at, h.price, h.id
+               FROM product_histories h
+               JOIN (SELECT product_id, MAX(created_at) AS created_at
+                       FROM product_histories
+                      WHERE product_id IN (:productIds)
+                        AND created_at < :from
+                      GROUP BY product_id) s
+                 ON s.product_id = h.product_id AND s.created_at = h.created_at)
+            UNION ALL
+            (SELECT product_id, created_at, price, id
+               FROM product_histories
+              WHERE product_id IN (:productIds)
+                AND created_at BETWEEN :from AND :to)
+             ORDER BY product_id, created_at, id
+            """;
+
+    private static final String UPSERT_SQL_TEMPLATE =
+            """
+            INSERT INTO %s (product_id, period_start, min_price, max_price, price_sum,
+                            sample_count, close_price, close_date)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                min_price = VALUES(min_price),
+                max_price = VALUES(max_price),
+                price_sum = VALUES(price_sum),
+                sample_count = VALUES(sample_count),
+                close_price = VALUES(close_price),
+                close_date = VALUES(close_date)
+            """;
+
+    private static final String UPSERT_WEEKLY_SQL =
+            UPSERT_SQL_TEMPLATE.formatted("product_price_weekly");
+    private static final String UPSERT_MONTHLY_SQL =
+            UPSERT_SQL_TEMPLATE.formatted("product_price_monthly");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /** 스냅샷 이력을 넣은 뒤 같은 트랜잭션에서 호출한다. */
+    public void write(List<PriceSnapshot> chunk, Map<Long, Long> productIds) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Map<Long, Set<LocalDate>> weeks = new HashMap<>();
+        Map<Long, Set<LocalDate>> months = new HashMap<>();
+        LocalDate from = LocalDate.MAX;
+        LocalDate to = LocalDate.MIN;
+        for (PriceSnapshot snapshot : chunk) {
+            Long productId = productIds.get(snapshot.productNumber());
+            LocalDate week = weekStart(snapshot.snapshotDate());
+            LocalDate month = monthStart(snapshot.snapshotDate());
+            weeks.computeIfAbsent(productId, id -> new TreeSet<>()).add(week);
+            months.computeIfAbsent(productId, id -> new TreeSet<>()).add(month);
+            LocalDate start = week.isBefore(month) ? week : month;
+            LocalDate end = max(weekEnd(week), monthEnd(month));
+            from = start.isBefore(from) ? start : from;
+            to = end.isAfter(to) ? end : to;
+        }
+
+        Map<Long, List<DailyPrice>> points = findPoints(weeks.keySet(), from, to);
+        jdbcTemplate.batchUpdate(
+                UPSERT_WEEKLY_SQL, rows(weeks, points, PriceRollupWriter::weekEnd));
+        jdbcTemplate.batchUpdate(
+                UPSERT_MONTHLY_SQL, rows(months, points, PriceRollupWriter::monthEnd));
+    }
+
+    private Map<Long, List<DailyPrice>> findPoints(
+            Set<Long> productIds, LocalDate from, LocalDate to) {
+        MapSqlParameterSource params =
+                new MapSqlParameterSource()
+                        .addValue("productIds", productIds)
+                        .addValue("from", Date.valueOf(from))
+                        .addValue("to", Date.valueOf(to));
+        Map<Long, List<DailyPrice>> points = new HashMap<>(productIds.size() * 2);
+        namedParameterJdbcTemplate.query(
+                SELECT_POINTS_SQL,
+                params,
+                rs -> {
+                    List<DailyPrice> prices =
+                            points.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>());
+                    DailyPrice point = new DailyPrice(rs.getDate(2).toLocalDate(), rs.getInt(3));
+                    int last = prices.size() - 1;
+                    // id 순으로 읽으므로 같은 날의 나중 건이 앞의 건을 대신한다.
+                    if (last >= 0 && prices.get(last).date().equals(point.date())) {
+                        prices.set(last, point);
+                    } else {
+                        prices.add(point);
+                    }
+                });
+        return points;
+    }
+
+    private static List<Object[]> rows(
+            Map<Long, Set<LocalDate>> periods,
+            Map<Long, List<DailyPrice>> points,
+            UnaryOperator<LocalDate> periodEnd) {
+        List<Object[]> rows = new ArrayList<>();
+        periods.forEach(
+                (productId, starts) -> {
+                    List<DailyPrice> prices = points.getOrDefault(productId, List.of());
+                    for (LocalDate start : starts) {
+                        Object[] row = aggregate(productId, start, periodEnd.apply(start), prices);
+                        if (row != null) {
+                            rows.add(row);
+                        }
+                    }
+                });
+        return rows;
+    }
+
+    private static Object[] aggregate(
+            Long productId, LocalDate start, LocalDate end, List<DailyPrice> prices) {
+        Bucket bucket = new Bucket();
+        DailyPrice held = null;
+        LocalDate heldFrom = null;
+        for (DailyPrice price : prices) {
+            if (price.date().isAfter(end)) {
+                break;
+            }
+            if (price.date().isBefore(start)) {
+                held = price;
+                heldFrom = start;
+                continue;
+            }
+            if (held != null) {
+                bucket.add(held.price(), price.date().toEpochDay() - heldFrom.toEpochDay());
+            }
+            held = price;
+            heldFrom = price.date();
+            bucket.close = price;
+        }
+        if (bucket.close == null) {
+            return null;
+        }
+        bucket.add(held.price(), 1);
+        return new Object[] {
+            productId,
+            Date.valueOf(start),
+            bucket.min,
+            bucket.max,
+            bucket.sum,
+            bucket.days,
+            bucket.close.price(),
+            Date.valueOf(bucket.close.date())
+        };
+    }
+
+    private static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static LocalDate weekEnd(LocalDate weekStart) {
+        return weekStart.plusDays(6);
+    }
+
+    private static LocalDate monthStart(LocalDate date) {
+        return date.withDayOfMonth(1);
+    }
+
+    private static LocalDate monthEnd(LocalDate monthStart) {
+        return monthStart.plusMonths(1).minusDays(1);
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private record DailyPrice(LocalDate date, int price) {}
+
+    private static final class Bucket {
+
+        private int min = Integer.MAX_VALUE;
+        private int max = Integer.MIN_VALUE;
+        private long sum;
+        private int days;
+        private DailyPrice close;
+
+        void add(int price, long heldDays) {
+            if (heldDays <= 0) {
+                return;
+            }
+            min = Math.min(min, price);
+            max = Math.max(max, price);
+            sum += price * heldDays;
+            days += (int) heldDays;
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.musinsa.wagon.batch.search;
+
+import com.musinsa.wagon.batch.ingest.ProductsInsertedEvent;
+import com.musinsa.wagon.batch.ingest.ProductsUpdatedEvent;
+import com.musinsa.wagon.core.entity.Category;
+import com.musinsa.wagon.core.entity.enums.ShopType;
+import com.musinsa.wagon.core.infra.cache.ReferenceEntityChangedEvent;
+import com.musinsa.wagon.core.infra.search.ProductSearchDocument;
+import com.musinsa.wagon.core.infra.search.ProductSearchIndexWriter;
+import com.musinsa.wagon.core.infra.search.SearchIndexProperties;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+/**
+ * 상품 검색 인덱스를 갱신한다. 적재 청크가 커밋되면 새로 들어온 상품과 상품명이 바뀐 상품만 색인하고, 인덱스가 비어 있으면 시작할
+ * 때 products 를 스트리밍해 전체를 만든다. 가격만 바뀐 상품은 다시 색인하지 않는다. 카테고리 이름이 바뀌거나 옮겨지면 문서의
+ * 카테고리 경로가 달라지므로 그 서브트리의 상품을 다시 색인한다. 다른 프로세스에서의 카테고리 변경은
+ * {@link ReferenceEntityChangedEvent} 로 전해지고, 메시지가 유실되면 다음 전체 재색인 때 바로잡힌다.
+ *
+ * <p>색인은 메모리 버퍼에 쌓이고 commit-interval 마다 커밋돼야 fo 에 보인다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "search-index", name = "enabled", havingValue = "true")
+public class ProductSearchIndexer {
+
+    private static final int QUERY_CHUNK_SIZE = 1000;
+
+    private static final String SELECT_PRODUCTS_SQL =
+            """
+            SELECT id, shop_type, name, brand, category_id
+              FROM products
+             WHERE id IN (:productIds)
+            """;
+
+    private static final String SELECT_ALL_PRODUCTS_SQL =
+            "SELECT id, shop_type, name, brand, category_id FROM products";
+
+    private static final String SELECT_SUBTREE_PRODUCTS_SQL =
+            """
+            SELECT p.id, p.shop_type, p.name, p.brand, p.category_id
+              FROM category_closures c
+              JOIN products p ON p.category_id = c.descendant_id
+             WHERE c.ancestor_id = ?
+            """;
+
+    private static final String SELECT_CATEGORIES_SQL =
+            "SELECT id, parent_category_id, category_name FROM categories";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final SearchIndexProperties properties;
+
+    private ProductSearchIndexWriter indexWriter;
+    private ScheduledExecutorService committer;
+
+    public ProductSearchIndexer(
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            JdbcTemplate jdbcTemplate,
+            DataSource dataSource,
+            SearchIndexProperties properties) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    void start() {
+        indexWriter = new ProductSearchIndexWriter(Path.of(properties.path()));
+        committer =
+                Executors.newSingleThreadScheduledExecutor(
+                        new CustomizableThreadFactory("search-index-commit-"));
+        long millis = properties.commitInterval().toMillis();
+        committer.scheduleWithFixedDelay(this::commit, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws IOException {
+        committer.shutdownNow();
+        try {
+            indexWriter.commit();
+        } finally {
+            indexWriter.close();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (indexWriter.numDocs() == 0) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onProductsInserted(ProductsInsertedEvent event) {
+        indexCommitted(event.productIds());
+    }
+
+    @TransactionalEventListener
+    public void onProductsUpdated(ProductsUpdatedEvent event) {
+        indexCommitted(event.productIds());
+    }
+
+    // 서브트리가 크면 오래 걸리므로 카테고리를 바꾼 스레드가 아니라 색인 커밋 스레드에서 돌린다.
+    @EventListener
+    public void onReferenceEntityChanged(ReferenceEntityChangedEvent event) {
+        if (!event.isOf(Category.class)) {
+            return;
+        }
+        try {
+            committer.execute(() -> reindexCategory(event.id()));
+        } catch (RejectedExecutionException e) {
+            log.warn("[Search] shutting down, skipped category={}", event.id());
+        }
+    }
+
+    private void indexCommitted(List<Long> productIds) {
+        try {
+            index(productIds);
+        } catch (RuntimeException e) {
+            // 색인에 실패해도 적재는 이미 커밋됐다. 빠진 상품은 다음 전체 재색인 때 들어간다.
+            log.warn("[Search] failed to index products={}", productIds.size(), e);
+        }
+    }
+
+    private void reindexCategory(long categoryId) {
+        try {
+            long indexed = stream(SELECT_SUBTREE_PRODUCTS_SQL, categoryId);
+            log.info("[Search] reindexed category={} products={}", categoryId, indexed);
+        } catch (RuntimeException e) {
+            log.warn("[Search] failed to reindex category={}", categoryId, e);
+        }
+    }
+
+    public void index(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        CategoryPaths categoryPaths = loadCategoryPaths();
+        List<Long> ids = List.copyOf(productIds);
+        for (int from = 0; from < ids.size(); from += QUERY_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + QUERY_CHUNK_SIZE, ids.size()));
+            List<ProductSearchDocument> documents = new ArrayList<>(chunk.size());
+            namedParameterJdbcTemplate.query(
+                    SELECT_PRODUCTS_SQL,
+                    new MapSqlParameterSource("productIds", chunk),
+                    rs -> {
+                        documents.add(toDocument(rs, categoryPaths));
+                    });
+            indexWriter.update(documents);
+        }
+    }
+
+    public void rebuild() {
+        long start = System.nanoTime();
+        long indexed = stream(SELECT_ALL_PRODUCTS_SQL);
+        indexWriter.commit();
+        log.info(
+                "[Search] rebuilt products={} elapsed={}ms",
+                indexed,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private long stream(String sql, Object... args) {
+        CategoryPaths categoryPaths = loadCategoryPaths();
+        List<ProductSearchDocument> buffer = new ArrayList<>(QUERY_CHUNK_SIZE);
+        long[] indexed = new long[1];
+        streamingJdbcTemplate.query(
+                sql,
+                rs -> {
+                    buffer.add(toDocument(rs, categoryPaths));
+                    if (buffer.size() == QUERY_CHUNK_SIZE) {
+                        indexWriter.update(buffer);
+                        indexed[0] += buffer.size();
+                        buffer.clear();
+                    }
+                },
+                args);
+        indexWriter.update(buffer);
+        indexed[0] += buffer.size();
+        return indexed[0];
+    }
+
+    private void commit() {
+        try {
+            indexWriter.commit();
+        } catch (RuntimeException e) {
+            log.warn("[Search] commit failed", e);
+        }
+    }
+
+    private static ProductSearchDocument toDocument(ResultSet rs, CategoryPaths categoryPaths)
+            throws SQLException {
+        return new ProductSearchDocument(
+                rs.getLong(1),
+                ShopType.valueOf(rs.getString(2)),
+                rs.getString(3),
+                rs.getString(4),
+                categoryPaths.pathOf(rs.getObject(5, Long.class)));
+    }
+
+    private CategoryPaths loadCategoryPaths() {
+        CategoryPaths categoryPaths = new CategoryPaths();
+        jdbcTemplate.query(
+                SELECT_CATEGORIES_SQL,
+                rs -> {
+                    categoryPaths.add(
+                            rs.getLong(1), rs.getObject(2, Long.class), rs.getString(3));
+                });
+        return categoryPaths;
+    }
+
+    /** 카테고리는 수백 개라 색인할 때마다 통째로 읽어 경로를 만든다. */
+    private static final class CategoryPaths {
+
+        private static final int MAX_DEPTH = 16;
+
+        private final Map<Long, Long> parents = new HashMap<>();
+        private final Map<Long, String> names = new HashMap<>();
+        private final Map<Long, String> paths = new HashMap<>();
+
+        void add(long id, Long parentId, String name) {
+            parents.put(id, parentId);
+            names.put(id, name);
+        }
+
+        // 부모 사슬이 순환하더라도 MAX_DEPTH 에서 끊는다.
+        String pathOf(Long categoryId) {
+            if (categoryId == null || !names.containsKey(categoryId)) {
+                return null;
+            }
+            return paths.computeIfAbsent(
+                    categoryId,
+                    id -> {
+                        List<String> path = new ArrayList<>();
+                        Long current = id;
+                        while (current != null
+                                && names.containsKey(current)
+                                && path.size() < MAX_DEPTH) {
+                            path.add(0, names.get(current));
+                            current = parents.get(current);
+                        }
+                        return String.join(" > ", path);
+                    });
+        }
+    }
+}
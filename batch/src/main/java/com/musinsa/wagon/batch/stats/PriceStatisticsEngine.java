@@ -0,0 +1,112 @@
+package com.musinsa.wagon.batch.stats;
+
+import com.musinsa.wagon.core.price.RollingPriceStatistics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+/**
+ * 상품별 {@link RollingPriceStatistics} 를 메모리에 유지한다. 처음 사용할 때 product_histories 를 상품·날짜 순으로 한 번
+ * 스트리밍해서 복원하고, 이후에는 적재되는 스냅샷만 반영한다.
+ *
+ * <p>적재 중인 트랜잭션은 {@link #copyOf} 로 받은 복사본에 반영하고, 커밋된 뒤에 {@link #replaceAll} 로 바꿔 넣는다.
+ * 그래서 한 번 넣은 통계 객체는 바뀌지 않고, 롤백된 청크는 메모리에 흔적을 남기지 않는다.
+ *
+ * <p>이력에는 값이 바뀐 날만 있으므로 복원할 때 빈 날을 직전 가격으로 채우고, 마지막 지점 이후는 이력의 마지막 날짜까지
+ * 이어 붙인다. 적재 경로도 스냅샷 전날까지 같은 방식으로 채운 뒤 반영하므로 재시작 전후의 통계가 같다.
+ */
+@Slf4j
+@Component
+public class PriceStatisticsEngine {
+
+    private static final String STREAM_HISTORY_SQL =
+            "SELECT product_id, created_at, price FROM product_histories"
+                    + " ORDER BY product_id, created_at";
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final Map<Long, RollingPriceStatistics> statistics = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded;
+
+    public PriceStatisticsEngine(DataSource dataSource) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        // MySQL 드라이버는 fetchSize 가 Integer.MIN_VALUE 일 때만 행 단위로 스트리밍한다.
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /** 트랜잭션 안에서 반영할 복사본. 없으면 빈 통계를 돌려준다. */
+    public RollingPriceStatistics copyOf(Long productId) {
+        RollingPriceStatistics stats = get(productId);
+        return stats == null ? new RollingPriceStatistics() : stats.copy();
+    }
+
+    /** 커밋된 청크의 복사본으로 바꾼다. 다른 청크가 더 나중 날짜까지 반영해 두었으면 그대로 둔다. */
+    public void replaceAll(Map<Long, RollingPriceStatistics> staged) {
+        staged.forEach(
+                (productId, updated) ->
+                        statistics.merge(
+                                productId,
+                                updated,
+                                (current, next) ->
+                                        next.getLastEpochDay() >= current.getLastEpochDay()
+                                                ? next
+                                                : current));
+    }
+
+    public RollingPriceStatistics get(Long productId) {
+        ensureLoaded();
+        return statistics.get(productId);
+    }
+
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        statistics.clear();
+
+        long[] rows = new long[1];
+        int[] lastEpochDay = {Integer.MIN_VALUE};
+        RollingPriceStatistics[] current = new RollingPriceStatistics[1];
+        long[] currentProductId = {-1L};
+        streamingJdbcTemplate.query(
+                STREAM_HISTORY_SQL,
+                rs -> {
+                    long productId = rs.getLong(1);
+                    if (productId != currentProductId[0]) {
+                        current[0] = new RollingPriceStatistics();
+                        currentProductId[0] = productId;
+                        statistics.put(productId, current[0]);
+                    }
+                    int epochDay = (int) rs.getDate(2).toLocalDate().toEpochDay();
+                    current[0].carryForwardTo(epochDay - 1);
+                    current[0].record(epochDay, rs.getInt(3));
+                    lastEpochDay[0] = Math.max(lastEpochDay[0], epochDay);
+                    rows[0]++;
+                });
+        for (RollingPriceStatistics stats : statistics.values()) {
+            stats.carryForwardTo(lastEpochDay[0]);
+        }
+
+        loaded = true;
+        log.info(
+                "[PriceStatistics] rebuilt products={} rows={} elapsed={}ms",
+                statistics.size(),
+                rows[0],
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+}
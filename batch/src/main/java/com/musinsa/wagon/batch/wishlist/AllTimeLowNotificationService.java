@@ -0,0 +1,76 @@
+package com.musinsa.wagon.batch.wishlist;
+
+import com.musinsa.wagon.batch.ingest.PriceLabelChange;
+import com.musinsa.wagon.batch.ingest.PriceLabelChangedEvent;
+import com.musinsa.wagon.batch.notification.NotificationPublisher;
+import com.musinsa.wagon.core.entity.Notification;
+import com.musinsa.wagon.core.entity.Product;
+import com.musinsa.wagon.core.entity.User;
+import com.musinsa.wagon.core.entity.enums.NotificationType;
+import com.musinsa.wagon.core.entity.enums.PriceLabel;
+import com.musinsa.wagon.core.repository.WishlistRepository;
+import com.musinsa.wagon.core.repository.WishlistRepository.Subscriber;
+
+import jakarta.persistence.EntityManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** 라벨이 ALL_TIME_LOW 로 바뀐 상품을 알림을 켜 둔 채 찜한 사용자에게 알린다. 라벨이 유지되는 동안은 다시 보내지 않는다. */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AllTimeLowNotificationService {
+
+    private static final String TITLE = "역대 최저가";
+
+    private final WishlistRepository wishlistRepository;
+    private final EntityManager entityManager;
+    private final NotificationPublisher notificationPublisher;
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPriceLabelChanged(PriceLabelChangedEvent event) {
+        Map<Long, Integer> allTimeLowPrices = new HashMap<>();
+        for (PriceLabelChange change : event.changes()) {
+            if (change.currentLabel() == PriceLabel.ALL_TIME_LOW) {
+                allTimeLowPrices.put(change.productId(), change.currentPrice());
+            }
+        }
+        if (allTimeLowPrices.isEmpty()) {
+            return;
+        }
+
+        List<Subscriber> subscribers =
+                wishlistRepository.findSubscribers(allTimeLowPrices.keySet());
+        List<Notification> notifications = new ArrayList<>(subscribers.size());
+        for (Subscriber subscriber : subscribers) {
+            notifications.add(
+                    Notification.create(
+                            entityManager.getReference(User.class, subscriber.getUserId()),
+                            entityManager.getReference(Product.class, subscriber.getProductId()),
+                            NotificationType.ALL_TIME_LOW,
+                            TITLE,
+                            message(allTimeLowPrices.get(subscriber.getProductId()))));
+        }
+        notificationPublisher.publish(notifications);
+        log.info(
+                "[AllTimeLow] products={} notifications={}",
+                allTimeLowPrices.size(),
+                notifications.size());
+    }
+
+    private static String message(int price) {
+        return "찜한 상품이 %,d원으로 역대 최저가를 갱신했어요.".formatted(price);
+    }
+}
@@ -0,0 +1,76 @@
+package com.musinsa.wagon.batch.wishlist;
+
+import com.musinsa.wagon.batch.ingest.PriceDrop;
+import com.musinsa.wagon.batch.ingest.PriceDropEvent;
+import com.musinsa.wagon.batch.notification.NotificationPublisher;
+import com.musinsa.wagon.core.entity.Notification;
+import com.musinsa.wagon.core.entity.Product;
+import com.musinsa.wagon.core.entity.User;
+import com.musinsa.wagon.core.entity.enums.NotificationType;
+import com.musinsa.wagon.core.wishlist.TriggeredWishlists;
+import com.musinsa.wagon.core.wishlist.WishlistTargetPriceIndex;
+
+import jakarta.persistence.EntityManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가격 적재 청크가 커밋된 뒤 가격이 내려간 상품만 인덱스에 물어 목표가에 새로 도달한 위시리스트에 알림을 만든다. 위시리스트
+ * 전체를 훑지 않으므로 비용은 가격이 내려간 상품 수와 실제로 도달한 위시리스트 수에만 비례한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TargetPriceTriggerService {
+
+    private static final String TITLE = "목표가 도달";
+
+    private final WishlistTargetPriceIndex wishlistTargetPriceIndex;
+    private final EntityManager entityManager;
+    private final NotificationPublisher notificationPublisher;
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPriceDrop(PriceDropEvent event) {
+        List<Notification> notifications = new ArrayList<>();
+        for (PriceDrop drop : event.drops()) {
+            TriggeredWishlists triggered =
+                    wishlistTargetPriceIndex.findTriggered(
+                            drop.productId(), drop.previousPrice(), drop.currentPrice());
+            if (triggered.isEmpty()) {
+                continue;
+            }
+            Product product = entityManager.getReference(Product.class, drop.productId());
+            for (int i = 0; i < triggered.size(); i++) {
+                notifications.add(
+                        Notification.create(
+                                entityManager.getReference(User.class, triggered.userId(i)),
+                                product,
+                                NotificationType.TARGET_PRICE_REACHED,
+                                TITLE,
+                                message(triggered.targetPrice(i), drop.currentPrice())));
+            }
+        }
+        if (notifications.isEmpty()) {
+            return;
+        }
+        notificationPublisher.publish(notifications);
+        log.info(
+                "[TargetPrice] drops={} notifications={}",
+                event.drops().size(),
+                notifications.size());
+    }
+
+    private static String message(int targetPrice, int currentPrice) {
+        return "설정한 목표가 %,d원 이하인 %,d원이 되었어요.".formatted(targetPrice, currentPrice);
+    }
+}
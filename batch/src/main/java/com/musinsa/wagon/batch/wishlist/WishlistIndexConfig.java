@@ -0,0 +1,18 @@
+package com.musinsa.wagon.batch.wishlist;
+
+import com.musinsa.wagon.core.wishlist.WishlistTargetPriceIndex;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/** 목표가 인덱스는 가격을 적재하는 배치에서만 필요하므로 core 컴포넌트로 두지 않고 여기서 등록한다. */
+@Configuration
+public class WishlistIndexConfig {
+
+    @Bean
+    public WishlistTargetPriceIndex wishlistTargetPriceIndex(DataSource dataSource) {
+        return new WishlistTargetPriceIndex(dataSource);
+    }
+}
@@ -0,0 +1,101 @@
+package com.musinsa.wagon.batch.brand;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.musinsa.wagon.core.entity.enums.PriceLabel;
+import com.musinsa.wagon.core.entity.enums.ShopType;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+class BrandStatsDeltasTest {
+
+    @Test
+    void aggregatesPerShopAndBrand() {
+        BrandStatsDeltas deltas = new BrandStatsDeltas();
+        deltas.productAdded(ShopType.MUSINSA, "nike", 10);
+        deltas.productAdded(ShopType.MUSINSA, "nike", null);
+        deltas.productAdded(ShopType.ZIGZAG, "nike", 30);
+        deltas.labelChanged(ShopType.MUSINSA, "nike", PriceLabel.NORMAL, PriceLabel.GOOD_DEAL);
+        deltas.fakeDiscountChanged(ShopType.MUSINSA, "nike", false, true);
+
+        List<Map.Entry<BrandStatsDeltas.Key, BrandStatsDeltas.Delta>> sorted = deltas.sorted();
+
+        assertEquals(2, sorted.size());
+        BrandStatsDeltas.Delta musinsa = sorted.get(0).getValue();
+        assertEquals(new BrandStatsDeltas.Key(ShopType.MUSINSA, "nike"), sorted.get(0).getKey());
+        assertEquals(2, musinsa.productCount);
+        assertEquals(10, musinsa.discountRateSum);
+        assertEquals(1, musinsa.discountRateCount);
+        assertEquals(1, musinsa.goodDealCount);
+        assertEquals(1, musinsa.fakeDiscountCount);
+        assertEquals(30, sorted.get(1).getValue().discountRateSum);
+    }
+
+    @Test
+    void discountRateChangeMovesSumAndCount() {
+        BrandStatsDeltas deltas = new BrandStatsDeltas();
+        deltas.discountRateChanged(ShopType.ABLY, "adidas", 10, 25);
+        deltas.discountRateChanged(ShopType.ABLY, "adidas", null, 5);
+        deltas.discountRateChanged(ShopType.ABLY, "adidas", 40, null);
+
+        BrandStatsDeltas.Delta delta = deltas.sorted().get(0).getValue();
+
+        assertEquals(15 + 5 - 40, delta.discountRateSum);
+        assertEquals(0, delta.discountRateCount);
+    }
+
+    @Test
+    void labelChangeMovesBetweenCounters() {
+        BrandStatsDeltas deltas = new BrandStatsDeltas();
+        deltas.labelChanged(
+                ShopType.ABLY, "adidas", PriceLabel.GOOD_DEAL, PriceLabel.ALL_TIME_LOW);
+
+        BrandStatsDeltas.Delta delta = deltas.sorted().get(0).getValue();
+
+        assertEquals(-1, delta.goodDealCount);
+        assertEquals(1, delta.allTimeLowCount);
+    }
+
+    @Test
+    void changesThatCancelOutAreDropped() {
+        BrandStatsDeltas deltas = new BrandStatsDeltas();
+        deltas.labelChanged(ShopType.ABLY, "adidas", PriceLabel.NORMAL, PriceLabel.GOOD_DEAL);
+        deltas.labelChanged(ShopType.ABLY, "adidas", PriceLabel.GOOD_DEAL, PriceLabel.NORMAL);
+        deltas.discountRateChanged(ShopType.ABLY, "adidas", 10, 10);
+        deltas.fakeDiscountChanged(ShopType.ABLY, "adidas", true, true);
+
+        assertTrue(deltas.sorted().isEmpty());
+    }
+
+    @Test
+    void productsWithoutBrandAreNotCounted() {
+        BrandStatsDeltas deltas = new BrandStatsDeltas();
+        deltas.productAdded(ShopType.MUSINSA, null, 10);
+        deltas.productAdded(ShopType.MUSINSA, " ", 10);
+        deltas.labelChanged(ShopType.MUSINSA, null, PriceLabel.NORMAL, PriceLabel.GOOD_DEAL);
+
+        assertTrue(deltas.sorted().isEmpty());
+    }
+
+    @Test
+    void sortsByShopThenBrand() {
+        BrandStatsDeltas deltas = new BrandStatsDeltas();
+        deltas.productAdded(ShopType.ZIGZAG, "a", null);
+        deltas.productAdded(ShopType.MUSINSA, "b", null);
+        deltas.productAdded(ShopType.MUSINSA, "a", null);
+
+        List<BrandStatsDeltas.Key> keys =
+                deltas.sorted().stream().map(Map.Entry::getKey).toList();
+
+        assertEquals(
+                List.of(
+                        new BrandStatsDeltas.Key(ShopType.MUSINSA, "a"),
+                        new BrandStatsDeltas.Key(ShopType.MUSINSA, "b"),
+                        new BrandStatsDeltas.Key(ShopType.ZIGZAG, "a")),
+                keys);
+    }
+}
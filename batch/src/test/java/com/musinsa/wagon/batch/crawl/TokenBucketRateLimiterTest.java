@@ -0,0 +1,66 @@
+package com.musinsa.wagon.batch.crawl;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+class TokenBucketRateLimiterTest {
+
+    @Test
+    void burstIsGrantedWithoutWaiting() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 5);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire();
+        }
+
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    void permitsBeyondBurstArePacedByRate() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(20, 1);
+        limiter.acquire();
+        limiter.acquire();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire();
+        }
+
+        // 50ms 간격으로 네 번. 타이머 오차를 감안해 하한만 본다.
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(150));
+    }
+
+    @Test
+    void interruptedCallerStillWaitsAndKeepsInterruptFlag() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 1);
+        limiter.acquire();
+        limiter.acquire();
+
+        // 인터럽트된 스레드에서는 parkNanos 가 바로 돌아오므로, 한 번만 잠들면 간격을 지키지 못한다.
+        Thread.currentThread().interrupt();
+        long start = System.nanoTime();
+        limiter.acquire();
+        long elapsed = System.nanoTime() - start;
+
+        assertTrue(Thread.interrupted());
+        assertTrue(elapsed >= TimeUnit.MILLISECONDS.toNanos(80));
+    }
+
+    @Test
+    void rejectsNonPositiveOrInfiniteRate() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(-1, 1));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new TokenBucketRateLimiter(Double.NaN, 1));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new TokenBucketRateLimiter(Double.POSITIVE_INFINITY, 1));
+    }
+}
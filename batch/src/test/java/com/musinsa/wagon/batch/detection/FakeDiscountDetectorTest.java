@@ -0,0 +1,171 @@
+package com.musinsa.wagon.batch.detection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.musinsa.wagon.core.entity.enums.FakeDiscountPattern;
+import com.musinsa.wagon.core.infra.pricestore.PriceSeries;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+class FakeDiscountDetectorTest {
+
+    private static final int HOLIDAY = 20_000;
+    private static final HolidayWindow WINDOW =
+            new HolidayWindow(1L, HOLIDAY - 14, HOLIDAY, HOLIDAY + 7);
+
+    private final FakeDiscountDetector detector = new FakeDiscountDetector();
+
+    @Test
+    void steadyPriceIsNotFlagged() {
+        PriceSeries series = new SeriesBuilder().days(WINDOW.startDay() - 60, 90, 10_000).build();
+
+        assertTrue(detector.detect(series, List.of(WINDOW)).isEmpty());
+    }
+
+    @Test
+    void raiseBeforeHolidayThenDiscountToBaselineIsPriceSpike() {
+        int start = WINDOW.startDay();
+        PriceSeries series =
+                new SeriesBuilder()
+                        .days(start - 30, 30, 10_000)
+                        .days(start, 10, 12_000)
+                        .days(start + 10, 12, 10_000)
+                        .build();
+
+        List<FakeDiscountDetection> detections = detector.detect(series, List.of(WINDOW));
+
+        assertEquals(
+                List.of(
+                        new FakeDiscountDetection(
+                                1L,
+                                FakeDiscountPattern.PRICE_SPIKE_BEFORE_HOLIDAY,
+                                10_000,
+                                12_000,
+                                10_000,
+                                90)),
+                detections);
+    }
+
+    @Test
+    void spikeNeedsEnoughBaselineDays() {
+        int start = WINDOW.startDay();
+        PriceSeries series =
+                new SeriesBuilder()
+                        .days(start - 3, 3, 10_000)
+                        .days(start, 10, 12_000)
+                        .days(start + 10, 12, 10_000)
+                        .build();
+
+        assertTrue(detector.detect(series, List.of(WINDOW)).isEmpty());
+    }
+
+    @Test
+    void originalPriceFarAboveSoldPriceIsInflated() {
+        int start = WINDOW.startDay();
+        PriceSeries series =
+                new SeriesBuilder()
+                        .days(start - 60, 60, 10_000)
+                        .days(start, 22, 9_000, 15_000)
+                        .build();
+
+        List<FakeDiscountDetection> detections = detector.detect(series, List.of(WINDOW));
+
+        assertEquals(
+                List.of(
+                        new FakeDiscountDetection(
+                                1L,
+                                FakeDiscountPattern.INFLATED_ORIGINAL_PRICE,
+                                10_000,
+                                15_000,
+                                9_000,
+                                80)),
+                detections);
+    }
+
+    @Test
+    void threeShortRaiseAndReturnCyclesAreRepeatedSale() {
+        SeriesBuilder builder = new SeriesBuilder();
+        int day = WINDOW.startDay() - 120;
+        builder.days(day, 10, 10_000);
+        day += 10;
+        for (int i = 0; i < 3; i++) {
+            builder.days(day, 5, 12_000).days(day + 5, 10, 10_000);
+            day += 15;
+        }
+        builder.days(day, WINDOW.endDay() - day + 1, 10_000);
+
+        List<FakeDiscountDetection> detections =
+                detector.detect(builder.build(), List.of(WINDOW));
+
+        assertEquals(
+                List.of(
+                        new FakeDiscountDetection(
+                                1L,
+                                FakeDiscountPattern.REPEATED_FAKE_SALE,
+                                10_000,
+                                12_000,
+                                10_000,
+                                85)),
+                detections);
+    }
+
+    @Test
+    void raiseHeldLongerThanCycleIsNotASale() {
+        SeriesBuilder builder = new SeriesBuilder();
+        int day = WINDOW.startDay() - 170;
+        builder.days(day, 10, 10_000);
+        day += 10;
+        for (int i = 0; i < 3; i++) {
+            builder.days(day, 40, 12_000).days(day + 40, 10, 10_000);
+            day += 50;
+        }
+        builder.days(day, WINDOW.endDay() - day + 1, 10_000);
+
+        assertTrue(detector.detect(builder.build(), List.of(WINDOW)).isEmpty());
+    }
+
+    @Test
+    void emptyInputsDetectNothing() {
+        PriceSeries series = new SeriesBuilder().days(HOLIDAY, 1, 10_000).build();
+
+        assertTrue(detector.detect(PriceSeries.empty(), List.of(WINDOW)).isEmpty());
+        assertTrue(detector.detect(series, List.of()).isEmpty());
+    }
+
+    private static final class SeriesBuilder {
+
+        private int[] epochDays = new int[16];
+        private int[] prices = new int[16];
+        private int[] originalPrices = new int[16];
+        private int size;
+
+        SeriesBuilder days(int from, int count, int price) {
+            return days(from, count, price, PriceSeries.NO_VALUE);
+        }
+
+        SeriesBuilder days(int from, int count, int price, int originalPrice) {
+            for (int day = from; day < from + count; day++) {
+                if (size == epochDays.length) {
+                    epochDays = Arrays.copyOf(epochDays, size * 2);
+                    prices = Arrays.copyOf(prices, size * 2);
+                    originalPrices = Arrays.copyOf(originalPrices, size * 2);
+                }
+                epochDays[size] = day;
+                prices[size] = price;
+                originalPrices[size] = originalPrice;
+                size++;
+            }
+            return this;
+        }
+
+        PriceSeries build() {
+            int[] discountRates = new int[size];
+            Arrays.fill(discountRates, PriceSeries.NO_VALUE);
+            return PriceSeries.of(epochDays, prices, originalPrices, discountRates, size);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.musinsa.wagon.batch.ingest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.musinsa.wagon.core.entity.enums.PriceLabel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+class ProductFingerprintIndexTest {
+
+    private final ResultSet products = mock(ResultSet.class);
+    private ProductFingerprintIndex index;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.createStatement()).willReturn(statement);
+        given(statement.executeQuery(anyString())).willReturn(products);
+        index = new ProductFingerprintIndex(dataSource);
+    }
+
+    @Test
+    void returnsProductIdOnlyWhileFingerprintIsUnchanged() {
+        long fingerprint = fingerprint(10_000, "셔츠");
+        assertEquals(
+                ProductFingerprintIndex.NOT_FOUND, index.productIdIfUnchanged(1L, fingerprint));
+
+        index.put(1L, fingerprint, 100L, PriceLabel.NORMAL);
+
+        assertEquals(100L, index.productIdIfUnchanged(1L, fingerprint));
+        assertEquals(
+                ProductFingerprintIndex.NOT_FOUND,
+                index.productIdIfUnchanged(1L, fingerprint(9_000, "셔츠")));
+    }
+
+    @Test
+    void fingerprintCoversEveryCrawledField() {
+        long base =
+                ProductFingerprintIndex.fingerprint(
+                        10_000, 12_000, 16, new BigDecimal("4.5"), 10, 20, "셔츠");
+
+        assertNotEquals(
+                base,
+                ProductFingerprintIndex.fingerprint(
+                        10_000, 12_000, 16, new BigDecimal("4.5"), 10, 20, "긴팔 셔츠"));
+        assertNotEquals(
+                base,
+                ProductFingerprintIndex.fingerprint(
+                        10_000, null, 16, new BigDecimal("4.5"), 10, 20, "셔츠"));
+        assertNotEquals(
+                base,
+                ProductFingerprintIndex.fingerprint(
+                        10_000, 12_000, 16, new BigDecimal("4.5"), 11, 20, "셔츠"));
+        // star_score 컬럼의 자릿수만 비교한다.
+        assertEquals(
+                base,
+                ProductFingerprintIndex.fingerprint(
+                        10_000, 12_000, 16, new BigDecimal("4.500"), 10, 20, "셔츠"));
+    }
+
+    @Test
+    void loadsStoredProductsOnFirstUse() throws SQLException {
+        given(products.next()).willReturn(true, false);
+        given(products.getLong(1)).willReturn(7L);
+        given(products.getLong(2)).willReturn(700L);
+        given(products.getInt(3)).willReturn(10_000);
+        given(products.getObject(4, Integer.class)).willReturn(null);
+        given(products.getObject(5, Integer.class)).willReturn(null);
+        given(products.getBigDecimal(6)).willReturn(null);
+        given(products.getObject(7, Integer.class)).willReturn(3);
+        given(products.getObject(8, Integer.class)).willReturn(null);
+        given(products.getString(9)).willReturn("GOOD_DEAL");
+        given(products.getString(10)).willReturn("셔츠");
+
+        long stored = ProductFingerprintIndex.fingerprint(10_000, null, null, null, 3, null, "셔츠");
+
+        assertEquals(700L, index.productIdIfUnchanged(7L, stored));
+        assertEquals(PriceLabel.GOOD_DEAL, index.labelOf(7L));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void keepsEntriesAcrossGrowth() {
+        int count = 200_000;
+        for (long productNumber = 1; productNumber <= count; productNumber++) {
+            index.put(productNumber, productNumber * 31, productNumber + 1, PriceLabel.NORMAL);
+        }
+
+        assertEquals(count, index.size());
+        for (long productNumber = 1; productNumber <= count; productNumber++) {
+            assertEquals(
+                    productNumber + 1,
+                    index.productIdIfUnchanged(productNumber, productNumber * 31));
+        }
+    }
+
+    @Test
+    void updatesLabelOfKnownProductsOnly() {
+        index.put(1L, 11L, 100L, PriceLabel.NORMAL);
+
+        index.updateLabel(1L, PriceLabel.ALL_TIME_LOW);
+        index.updateLabel(2L, PriceLabel.EXPENSIVE);
+
+        assertEquals(PriceLabel.ALL_TIME_LOW, index.labelOf(1L));
+        assertNull(index.labelOf(2L));
+        assertEquals(1, index.size());
+    }
+
+    private static long fingerprint(int currentPrice, String name) {
+        return ProductFingerprintIndex.fingerprint(
+                currentPrice, null, null, null, null, null, name);
+    }
+}
@@ -0,0 +1,52 @@
+package com.musinsa.wagon.benchmarks;
+
+import com.musinsa.wagon.core.entity.FakeDiscountHistory;
+import com.musinsa.wagon.core.entity.enums.FakeDiscountPattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/** 탐지 결과 한 건마다 불리는 할인율 계산과 엔티티 생성 비용. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FakeDiscountHistoryBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final int[] before = new int[SIZE];
+    private final int[] raised = new int[SIZE];
+    private final int[] discounted = new int[SIZE];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < SIZE; i++) {
+            before[i] = 30_000 + random.nextInt(100_000);
+            raised[i] = before[i] * (110 + random.nextInt(40)) / 100;
+            discounted[i] = raised[i] * (60 + random.nextInt(30)) / 100;
+        }
+    }
+
+    @Benchmark
+    public FakeDiscountHistory create() {
+        int i = cursor++ & (SIZE - 1);
+        return FakeDiscountHistory.create(
+                null,
+                null,
+                before[i],
+                raised[i],
+                discounted[i],
+                80,
+                FakeDiscountPattern.PRICE_SPIKE_BEFORE_HOLIDAY);
+    }
+}
@@ -0,0 +1,61 @@
+package com.musinsa.wagon.benchmarks;
+
+import com.musinsa.wagon.core.entity.Holiday;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/** 날짜 하나가 어느 명절 감시 구간에 걸리는지 명절 목록을 훑어 찾는 비용. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HolidayMonitoringBenchmark {
+
+    private static final int DATES = 1024;
+
+    @Param({"16", "256", "4096"})
+    public int holidayCount;
+
+    private final List<Holiday> holidays = new ArrayList<>();
+    private final LocalDate[] dates = new LocalDate[DATES];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        int spanDays = holidayCount * 30;
+        for (int i = 0; i < holidayCount; i++) {
+            holidays.add(
+                    Holiday.createWithDefaultMonitoring(
+                            "holiday-" + i,
+                            SyntheticSeries.START.plusDays(random.nextInt(spanDays))));
+        }
+        for (int i = 0; i < DATES; i++) {
+            dates[i] = SyntheticSeries.START.plusDays(random.nextInt(spanDays));
+        }
+    }
+
+    @Benchmark
+    public int countCovering() {
+        LocalDate date = dates[cursor++ & (DATES - 1)];
+        int covering = 0;
+        for (Holiday holiday : holidays) {
+            if (holiday.isInMonitoringPeriod(date)) {
+                covering++;
+            }
+        }
+        return covering;
+    }
+}
@@ -0,0 +1,90 @@
+package com.musinsa.wagon.benchmarks;
+
+import com.musinsa.wagon.core.entity.ProductHistory;
+import com.musinsa.wagon.core.entity.enums.PriceLabel;
+import com.musinsa.wagon.core.price.PriceLabelClassifier;
+import com.musinsa.wagon.core.price.RollingPriceStatistics;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 현재가의 가격 라벨 계산 비용. 기준선은 히스토리를 스트림으로 훑어 경계값을 구하고, {@link PriceLabelClassifier} 는 적재
+ * 경로에서 유지되는 통계의 경계값만 비교한다. 분류 규칙은 둘이 같다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PriceLabelBenchmark {
+
+    private static final int PRICES = 1024;
+
+    @Param({"90", "365", "1095"})
+    public int days;
+
+    private List<ProductHistory> histories;
+    private LocalDate lastDate;
+    private int[] currentPrices;
+    private RollingPriceStatistics statistics;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        int[] prices = SyntheticSeries.dailyPrices(days, 42);
+        histories = SyntheticSeries.histories(prices);
+        lastDate = SyntheticSeries.START.plusDays(days - 1);
+        currentPrices = SyntheticSeries.dailyPrices(PRICES, 7);
+
+        statistics = new RollingPriceStatistics();
+        int startDay = (int) SyntheticSeries.START.toEpochDay();
+        for (int day = 0; day < days; day++) {
+            statistics.record(startDay + day, prices[day]);
+        }
+    }
+
+    @Benchmark
+    public PriceLabel naiveFromHistory() {
+        int currentPrice = currentPrices[cursor++ & (PRICES - 1)];
+        LocalDate from30 = lastDate.minusDays(29);
+        LocalDate from90 = lastDate.minusDays(89);
+
+        int allTimeLow = histories.stream().mapToInt(ProductHistory::getPrice).min().orElse(0);
+        int allTimeHigh = histories.stream().mapToInt(ProductHistory::getPrice).max().orElse(0);
+        int low90 =
+                histories.stream()
+                        .filter(history -> !history.getCreatedAt().isBefore(from90))
+                        .mapToInt(ProductHistory::getPrice)
+                        .min()
+                        .orElse(0);
+        int high90 =
+                histories.stream()
+                        .filter(history -> !history.getCreatedAt().isBefore(from90))
+                        .mapToInt(ProductHistory::getPrice)
+                        .max()
+                        .orElse(0);
+        double avg30 =
+                histories.stream()
+                        .filter(history -> !history.getCreatedAt().isBefore(from30))
+                        .mapToInt(ProductHistory::getPrice)
+                        .average()
+                        .orElse(0);
+
+        return PriceLabelClassifier.classify(
+                currentPrice, allTimeLow, allTimeHigh, low90, high90, (int) Math.round(avg30));
+    }
+
+    @Benchmark
+    public PriceLabel classifier() {
+        return PriceLabelClassifier.classify(currentPrices[cursor++ & (PRICES - 1)], statistics);
+    }
+}
@@ -0,0 +1,117 @@
+package com.musinsa.wagon.benchmarks;
+
+import com.musinsa.wagon.core.entity.ProductHistory;
+import com.musinsa.wagon.core.price.RollingPriceStatistics;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 하나의 30/90일 통계를 하루치 가격이 들어올 때마다 갱신하는 비용. 히스토리 전체를 다시 훑는 방식과 {@link
+ * RollingPriceStatistics} 의 증분 갱신, 그리고 콜드 스타트 시 전체 재생 비용을 비교한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PriceStatisticsBenchmark {
+
+    @Param({"90", "365", "1095"})
+    public int days;
+
+    private int[] prices;
+    private List<ProductHistory> histories;
+    private LocalDate lastDate;
+
+    private RollingPriceStatistics rolling;
+    private int nextEpochDay;
+
+    @Setup
+    public void setUp() {
+        prices = SyntheticSeries.dailyPrices(days, 42);
+        histories = SyntheticSeries.histories(prices);
+        lastDate = SyntheticSeries.START.plusDays(days - 1);
+
+        rolling = new RollingPriceStatistics();
+        int startDay = (int) SyntheticSeries.START.toEpochDay();
+        for (int day = 0; day < days; day++) {
+            rolling.record(startDay + day, prices[day]);
+        }
+        nextEpochDay = startDay + days;
+    }
+
+    @Benchmark
+    public long naiveRecompute() {
+        LocalDate from30 = lastDate.minusDays(RollingPriceStatistics.SHORT_WINDOW_DAYS - 1);
+        LocalDate from90 = lastDate.minusDays(RollingPriceStatistics.LONG_WINDOW_DAYS - 1);
+        int high30 = Integer.MIN_VALUE;
+        int low30 = Integer.MAX_VALUE;
+        long sum30 = 0;
+        int count30 = 0;
+        int high90 = Integer.MIN_VALUE;
+        int low90 = Integer.MAX_VALUE;
+        long sum90 = 0;
+        int count90 = 0;
+        int allTimeHigh = Integer.MIN_VALUE;
+        int allTimeLow = Integer.MAX_VALUE;
+        for (ProductHistory history : histories) {
+            int price = history.getPrice();
+            LocalDate date = history.getCreatedAt();
+            allTimeHigh = Math.max(allTimeHigh, price);
+            allTimeLow = Math.min(allTimeLow, price);
+            if (!date.isBefore(from90)) {
+                high90 = Math.max(high90, price);
+                low90 = Math.min(low90, price);
+                sum90 += price;
+                count90++;
+            }
+            if (!date.isBefore(from30)) {
+                high30 = Math.max(high30, price);
+                low30 = Math.min(low30, price);
+                sum30 += price;
+                count30++;
+            }
+        }
+        return high30
+                + low30
+                + sum30 / count30
+                + high90
+                + low90
+                + sum90 / count90
+                + allTimeHigh
+                + allTimeLow;
+    }
+
+    @Benchmark
+    public long rollingRecord() {
+        int epochDay = nextEpochDay++;
+        rolling.record(epochDay, prices[epochDay % days]);
+        return rolling.getHighPrice30()
+                + rolling.getLowPrice30()
+                + rolling.getAvgPrice30()
+                + rolling.getHighPrice90()
+                + rolling.getLowPrice90()
+                + rolling.getAvgPrice90()
+                + rolling.getAllTimeHighPrice()
+                + rolling.getAllTimeLowPrice();
+    }
+
+    @Benchmark
+    public RollingPriceStatistics rollingReplay() {
+        RollingPriceStatistics statistics = new RollingPriceStatistics();
+        int startDay = (int) SyntheticSeries.START.toEpochDay();
+        for (int day = 0; day < days; day++) {
+            statistics.record(startDay + day, prices[day]);
+        }
+        return statistics;
+    }
+}
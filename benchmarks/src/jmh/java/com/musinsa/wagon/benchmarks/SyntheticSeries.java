@@ -0,0 +1,44 @@
+package com.musinsa.wagon.benchmarks;
+
+import com.musinsa.wagon.core.entity.ProductHistory;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/** 벤치마크 입력. 시드를 고정해 실행마다 같은 가격 흐름을 만든다. */
+final class SyntheticSeries {
+
+    static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    private SyntheticSeries() {}
+
+    /** 기준가 근처에서 움직이다 가끔 할인이 들어가는 하루 한 건짜리 가격. */
+    static int[] dailyPrices(int days, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] prices = new int[days];
+        int base = 30_000 + random.nextInt(170_000);
+        for (int day = 0; day < days; day++) {
+            int drift = random.nextInt(base / 10) - base / 20;
+            boolean sale = random.nextInt(20) == 0;
+            int price = base + drift;
+            prices[day] = sale ? price * (60 + random.nextInt(30)) / 100 : price;
+        }
+        return prices;
+    }
+
+    static List<ProductHistory> histories(int[] prices) {
+        List<ProductHistory> histories = new ArrayList<>(prices.length);
+        for (int day = 0; day < prices.length; day++) {
+            histories.add(
+                    ProductHistory.builder()
+                            .price(prices[day])
+                            .originalPrice(prices[day])
+                            .discountRate(0)
+                            .createdAt(START.plusDays(day))
+                            .build());
+        }
+        return histories;
+    }
+}
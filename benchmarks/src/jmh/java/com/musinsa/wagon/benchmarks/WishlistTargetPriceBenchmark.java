@@ -0,0 +1,53 @@
+package com.musinsa.wagon.benchmarks;
+
+import com.musinsa.wagon.core.entity.Wishlist;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/** 가격이 바뀐 상품 하나에 걸린 위시리스트를 전부 돌며 목표가 도달을 확인하는 비용. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WishlistTargetPriceBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int wishlistCount;
+
+    private final List<Wishlist> wishlists = new ArrayList<>();
+    private int currentPrice;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < wishlistCount; i++) {
+            // 10% 는 목표가 없이 찜만 한 위시리스트
+            Integer targetPrice = random.nextInt(10) == 0 ? null : 50_000 + random.nextInt(50_000);
+            wishlists.add(
+                    Wishlist.builder().targetPrice(targetPrice).notificationEnabled(true).build());
+        }
+        currentPrice = 70_000;
+    }
+
+    @Benchmark
+    public void fanOut(Blackhole blackhole) {
+        Integer price = currentPrice;
+        for (Wishlist wishlist : wishlists) {
+            if (wishlist.getNotificationEnabled() && wishlist.isTargetPriceReached(price)) {
+                blackhole.consume(wishlist);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.musinsa.wagon.core.category;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * category_closures 를 카테고리 변경과 같은 트랜잭션 안에서 고친다. 노드를 옮기면 서브트리 전체가 함께 옮겨지므로, 옛 조상과
+ * 서브트리 사이의 행을 지우고 새 부모의 조상과 서브트리 사이의 행을 한 번에 넣는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryClosureWriter {
+
+    private static final String INSERT_NODE_SQL =
+            """
+            INSERT INTO category_closures (ancestor_id, descendant_id, depth)
+            SELECT ancestor_id, :id, depth + 1
+              FROM category_closures
+             WHERE descendant_id = :parentId
+            UNION ALL
+            SELECT :id, :id, 0
+            """;
+
+    private static final String COUNT_LINK_SQL =
+            """
+            SELECT COUNT(*)
+              FROM category_closures
+             WHERE ancestor_id = :ancestorId AND descendant_id = :descendantId
+            """;
+
+    private static final String DETACH_SUBTREE_SQL =
+            """
+            DELETE link
+              FROM category_closures link
+              JOIN category_closures sub ON sub.descendant_id = link.descendant_id
+              JOIN category_closures sup ON sup.ancestor_id = link.ancestor_id
+             WHERE sub.ancestor_id = :id
+               AND sup.descendant_id = :id
+               AND sup.depth > 0
+            """;
+
+    private static final String ATTACH_SUBTREE_SQL =
+            """
+            INSERT INTO category_closures (ancestor_id, descendant_id, depth)
+            SELECT sup.ancestor_id, sub.descendant_id, sup.depth + sub.depth + 1
+              FROM category_closures sup
+              JOIN category_closures sub
+             WHERE sup.descendant_id = :parentId
+               AND sub.ancestor_id = :id
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void insertNode(Long id, Long parentId) {
+        namedParameterJdbcTemplate.update(
+                INSERT_NODE_SQL,
+                new MapSqlParameterSource().addValue("id", id).addValue("parentId", parentId));
+    }
+
+    public void moveSubtree(Long id, Long newParentId) {
+        if (newParentId != null && isSelfOrDescendant(id, newParentId)) {
+            throw new IllegalArgumentException(
+                    "category " + newParentId + " is in the subtree of " + id);
+        }
+        MapSqlParameterSource params =
+                new MapSqlParameterSource().addValue("id", id).addValue("parentId", newParentId);
+        namedParameterJdbcTemplate.update(DETACH_SUBTREE_SQL, params);
+        if (newParentId != null) {
+            namedParameterJdbcTemplate.update(ATTACH_SUBTREE_SQL, params);
+        }
+    }
+
+    private boolean isSelfOrDescendant(Long ancestorId, Long descendantId) {
+        Integer count =
+                namedParameterJdbcTemplate.queryForObject(
+                        COUNT_LINK_SQL,
+                        new MapSqlParameterSource()
+                                .addValue("ancestorId", ancestorId)
+                                .addValue("descendantId", descendantId),
+                        Integer.class);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,108 @@
+package com.musinsa.wagon.core.category;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 카테고리 트리 스냅샷을 들고 있다가 Category 가 바뀌면 {@link CategoryTreeListener} 가 커밋 후 무효화한다. 다른 프로세스에서의
+ * 변경은 refresh-interval 이 지나면 다시 읽어 반영한다. 모르는 id 를 찾으면 다른 프로세스에서 막 만든 카테고리일 수 있으므로
+ * 마지막으로 읽은 지 miss-refresh-interval 이 지났을 때 한 번 더 읽어 본다.
+ */
+@Slf4j
+@Component
+public class CategoryTreeIndex {
+
+    private static final String SELECT_CATEGORIES_SQL =
+            "SELECT id, parent_category_id FROM categories";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    @Value("${category-tree.refresh-interval:PT10M}")
+    private Duration refreshInterval;
+
+    // 없는 id 로 계속 요청해도 이 간격마다 한 번만 다시 읽는다.
+    @Value("${category-tree.miss-refresh-interval:PT1S}")
+    private Duration missRefreshInterval;
+
+    private volatile CategoryTreeSnapshot snapshot;
+    private volatile boolean stale = true;
+    private volatile long builtAtNanos;
+
+    public CategoryTreeIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public CategoryTreeSnapshot snapshot() {
+        CategoryTreeSnapshot current = snapshot;
+        if (current == null || stale || isExpired()) {
+            current = rebuild(current);
+        }
+        return current;
+    }
+
+    public long[] subtreeIds(long categoryId) {
+        long[] ids = snapshot().subtreeIds(categoryId);
+        if (ids.length == 0 && System.nanoTime() - builtAtNanos > missRefreshInterval.toNanos()) {
+            stale = true;
+            ids = snapshot().subtreeIds(categoryId);
+        }
+        return ids;
+    }
+
+    public void invalidate() {
+        stale = true;
+    }
+
+    private boolean isExpired() {
+        return System.nanoTime() - builtAtNanos > refreshInterval.toNanos();
+    }
+
+    private CategoryTreeSnapshot rebuild(CategoryTreeSnapshot current) {
+        if (current != null && !rebuildLock.tryLock()) {
+            return current;
+        }
+        if (current == null) {
+            rebuildLock.lock();
+        }
+        try {
+            if (snapshot != null && snapshot != current) {
+                return snapshot;
+            }
+            stale = false;
+            CategoryTreeSnapshot rebuilt = load();
+            snapshot = rebuilt;
+            builtAtNanos = System.nanoTime();
+            log.debug("[CategoryTree] rebuilt categories={}", rebuilt.size());
+            return rebuilt;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private CategoryTreeSnapshot load() {
+        long[][] columns = {new long[256], new long[256]};
+        int[] size = {0};
+        jdbcTemplate.query(
+                SELECT_CATEGORIES_SQL,
+                rs -> {
+                    if (size[0] == columns[0].length) {
+                        columns[0] = Arrays.copyOf(columns[0], size[0] * 2);
+                        columns[1] = Arrays.copyOf(columns[1], size[0] * 2);
+                    }
+                    columns[0][size[0]] = rs.getLong(1);
+                    // NULL 이면 getLong 이 0 을 돌려주고, 스냅샷은 0 을 부모 없음으로 본다.
+                    columns[1][size[0]] = rs.getLong(2);
+                    size[0]++;
+                });
+        return new CategoryTreeSnapshot(
+                Arrays.copyOf(columns[0], size[0]), Arrays.copyOf(columns[1], size[0]));
+    }
+}
@@ -0,0 +1,73 @@
+package com.musinsa.wagon.core.category;
+
+import com.musinsa.wagon.core.entity.Category;
+import com.musinsa.wagon.core.infra.cache.ReferenceCacheInvalidator;
+import com.musinsa.wagon.core.utils.TransactionSynchronizations;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Category 변경을 category_closures 에는 같은 트랜잭션 안에서, 메모리 트리에는 커밋 후에 반영한다. 삭제된 카테고리의 closure
+ * 행은 FK 의 ON DELETE CASCADE 로 지워진다. 이름만 바뀌어도 다른 프로세스의 2차 캐시는 비우게 한다.
+ */
+public class CategoryTreeListener {
+
+    private final ObjectProvider<CategoryClosureWriter> categoryClosureWriter;
+    private final ObjectProvider<CategoryTreeIndex> categoryTreeIndex;
+    private final ObjectProvider<ReferenceCacheInvalidator> referenceCacheInvalidator;
+
+    public CategoryTreeListener(
+            ObjectProvider<CategoryClosureWriter> categoryClosureWriter,
+            ObjectProvider<CategoryTreeIndex> categoryTreeIndex,
+            ObjectProvider<ReferenceCacheInvalidator> referenceCacheInvalidator) {
+        this.categoryClosureWriter = categoryClosureWriter;
+        this.categoryTreeIndex = categoryTreeIndex;
+        this.referenceCacheInvalidator = referenceCacheInvalidator;
+    }
+
+    @PostPersist
+    public void onCreate(Category category) {
+        publishAfterCommit(category);
+        Long parentId = parentIdOf(category);
+        categoryClosureWriter.ifAvailable(writer -> writer.insertNode(category.getId(), parentId));
+        category.consumeParentChange();
+        invalidateAfterCommit();
+    }
+
+    @PostUpdate
+    public void onUpdate(Category category) {
+        publishAfterCommit(category);
+        if (!category.consumeParentChange()) {
+            return;
+        }
+        Long parentId = parentIdOf(category);
+        categoryClosureWriter.ifAvailable(
+                writer -> writer.moveSubtree(category.getId(), parentId));
+        invalidateAfterCommit();
+    }
+
+    @PostRemove
+    public void onRemove(Category category) {
+        publishAfterCommit(category);
+        invalidateAfterCommit();
+    }
+
+    private void invalidateAfterCommit() {
+        TransactionSynchronizations.afterCommit(
+                () -> categoryTreeIndex.ifAvailable(CategoryTreeIndex::invalidate));
+    }
+
+    private void publishAfterCommit(Category category) {
+        referenceCacheInvalidator.ifAvailable(
+                invalidator -> invalidator.publishAfterCommit(Category.class, category.getId()));
+    }
+
+    private static Long parentIdOf(Category category) {
+        Category parent = category.getParentCategory();
+        return parent == null ? null : parent.getId();
+    }
+}
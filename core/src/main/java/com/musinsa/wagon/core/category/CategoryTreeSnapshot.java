@@ -0,0 +1,157 @@
+package com.musinsa.wagon.core.category;
+
+import java.util.Arrays;
+
+/**
+ * 카테고리 트리를 전위 순회 순서로 펼친 불변 스냅샷. 한 노드의 자손은 전위 순서에서 연속 구간을 이루므로 노드마다 구간 끝만
+ * 기억하면 자손 id 를 배열 복사 한 번으로 돌려줄 수 있다. id 로 노드를 찾을 때는 정렬된 id 배열을 이진 탐색한다.
+ */
+public final class CategoryTreeSnapshot {
+
+    private static final long NO_PARENT = 0L;
+
+    // id 오름차순
+    private final long[] sortedIds;
+    private final int[] preorderOfSorted;
+
+    // 전위 순서
+    private final long[] preorderIds;
+    private final int[] subtreeEnds;
+    private final int[] depths;
+
+    /** ids[i] 의 부모가 parentIds[i]. 부모가 없으면 0. 부모를 찾을 수 없는 노드는 루트로 본다. */
+    CategoryTreeSnapshot(long[] ids, long[] parentIds) {
+        int size = ids.length;
+        sortedIds = ids.clone();
+        Arrays.sort(sortedIds);
+
+        // 부모별 자식 목록을 CSR(offset + 배열) 형태로 만든다.
+        int[] parentOf = new int[size];
+        int[] childCounts = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            int sorted = Arrays.binarySearch(sortedIds, ids[i]);
+            int parent =
+                    parentIds[i] == NO_PARENT ? -1 : Arrays.binarySearch(sortedIds, parentIds[i]);
+            parentOf[sorted] = parent < 0 ? -1 : parent;
+        }
+        for (int i = 0; i < size; i++) {
+            if (parentOf[i] >= 0) {
+                childCounts[parentOf[i] + 1]++;
+            }
+        }
+        int[] childOffsets = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            childOffsets[i + 1] = childOffsets[i] + childCounts[i + 1];
+        }
+        int[] children = new int[childOffsets[size]];
+        int[] cursor = Arrays.copyOf(childOffsets, size);
+        for (int i = 0; i < size; i++) {
+            if (parentOf[i] >= 0) {
+                children[cursor[parentOf[i]]++] = i;
+            }
+        }
+
+        preorderIds = new long[size];
+        subtreeEnds = new int[size];
+        depths = new int[size];
+        preorderOfSorted = new int[size];
+        Arrays.fill(preorderOfSorted, -1);
+
+        int[] stack = new int[size];
+        int[] nextChild = new int[size];
+        int position = 0;
+        for (int root = 0; root < size; root++) {
+            if (parentOf[root] >= 0) {
+                continue;
+            }
+            position = visit(root, position, stack, nextChild, children, childOffsets);
+        }
+        if (position < size) {
+            // 부모 사슬이 순환하는 노드는 루트에서 닿지 않는다. 각자를 자손 없는 루트로 취급한다.
+            for (int node = 0; node < size; node++) {
+                if (preorderOfSorted[node] < 0) {
+                    place(node, position, 0);
+                    subtreeEnds[position] = position + 1;
+                    position++;
+                }
+            }
+        }
+    }
+
+    private int visit(
+            int root,
+            int position,
+            int[] stack,
+            int[] nextChild,
+            int[] children,
+            int[] childOffsets) {
+        int top = 0;
+        stack[top] = root;
+        nextChild[root] = childOffsets[root];
+        place(root, position++, 0);
+        while (top >= 0) {
+            int node = stack[top];
+            if (nextChild[node] < childOffsets[node + 1]) {
+                int child = children[nextChild[node]++];
+                if (preorderOfSorted[child] >= 0) {
+                    continue;
+                }
+                place(child, position++, top + 1);
+                nextChild[child] = childOffsets[child];
+                stack[++top] = child;
+            } else {
+                subtreeEnds[preorderOfSorted[node]] = position;
+                top--;
+            }
+        }
+        return position;
+    }
+
+    private void place(int sorted, int position, int depth) {
+        preorderOfSorted[sorted] = position;
+        preorderIds[position] = sortedIds[sorted];
+        depths[position] = depth;
+    }
+
+    public int size() {
+        return preorderIds.length;
+    }
+
+    public boolean contains(long categoryId) {
+        return Arrays.binarySearch(sortedIds, categoryId) >= 0;
+    }
+
+    /** 자기 자신을 포함한 모든 자손 id. 없는 카테고리면 빈 배열. */
+    public long[] subtreeIds(long categoryId) {
+        int position = positionOf(categoryId);
+        if (position < 0) {
+            return new long[0];
+        }
+        return Arrays.copyOfRange(preorderIds, position, subtreeEnds[position]);
+    }
+
+    public int subtreeSize(long categoryId) {
+        int position = positionOf(categoryId);
+        return position < 0 ? 0 : subtreeEnds[position] - position;
+    }
+
+    public boolean isSelfOrDescendant(long ancestorId, long descendantId) {
+        int ancestor = positionOf(ancestorId);
+        int descendant = positionOf(descendantId);
+        return ancestor >= 0
+                && descendant >= 0
+                && ancestor <= descendant
+                && descendant < subtreeEnds[ancestor];
+    }
+
+    /** 루트가 0. 없는 카테고리면 -1. */
+    public int depth(long categoryId) {
+        int position = positionOf(categoryId);
+        return position < 0 ? -1 : depths[position];
+    }
+
+    private int positionOf(long categoryId) {
+        int sorted = Arrays.binarySearch(sortedIds, categoryId);
+        return sorted < 0 ? -1 : preorderOfSorted[sorted];
+    }
+}
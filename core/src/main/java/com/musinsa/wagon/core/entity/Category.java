@@ -1,13 +1,18 @@
 package com.musinsa.wagon.core.entity;
 
+import com.musinsa.wagon.core.category.CategoryTreeListener;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -15,9 +20,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
+/** 자주 읽고 거의 바뀌지 않아 2차 캐시에 둔다. childCategories 는 캐시하지 않는다. */
 @Entity
 @Table(
         name = "categories",
@@ -25,6 +35,9 @@ import java.util.List;
 @Getter
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(CategoryTreeListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "category")
 public class Category extends BaseEntity {
 
     @Column(nullable = false, length = 100)
@@ -38,14 +51,30 @@ public class Category extends BaseEntity {
     @OneToMany(mappedBy = "parentCategory")
     private List<Category> childCategories = new ArrayList<>();
 
+    // 이번 트랜잭션에서 부모가 바뀌었는지. 리스너가 closure 테이블을 고칠 때만 쓴다.
+    @Transient private boolean parentChanged;
+
     public void updateCategoryName(String categoryName) {
         this.categoryName = categoryName;
     }
 
     public void updateParentCategory(Category parentCategory) {
+        if (!Objects.equals(idOf(this.parentCategory), idOf(parentCategory))) {
+            this.parentChanged = true;
+        }
         this.parentCategory = parentCategory;
     }
 
+    public boolean consumeParentChange() {
+        boolean changed = parentChanged;
+        parentChanged = false;
+        return changed;
+    }
+
+    private static Long idOf(Category category) {
+        return category == null ? null : category.getId();
+    }
+
     public boolean isRootCategory() {
         return this.parentCategory == null;
     }
@@ -84,6 +84,11 @@ public class CrawlJob extends BaseEntity {
         this.failCount++;
     }
 
+    public void updateProgress(Integer successCount, Integer failCount) {
+        this.successCount = successCount;
+        this.failCount = failCount;
+    }
+
     public void setTotalCount(Integer totalCount) {
         this.totalCount = totalCount;
     }
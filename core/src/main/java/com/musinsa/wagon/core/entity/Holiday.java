@@ -1,7 +1,11 @@
 package com.musinsa.wagon.core.entity;
 
+import com.musinsa.wagon.core.holiday.HolidayIndexInvalidationListener;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
@@ -11,6 +15,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.time.LocalDate;
 
 @Entity
@@ -18,6 +25,9 @@ import java.time.LocalDate;
 @Getter
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(HolidayIndexInvalidationListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "holiday")
 public class Holiday extends BaseEntity {
 
     @Column(nullable = false, length = 100)
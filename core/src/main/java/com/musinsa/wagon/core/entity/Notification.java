@@ -1,9 +1,11 @@
 package com.musinsa.wagon.core.entity;
 
 import com.musinsa.wagon.core.entity.enums.NotificationType;
+import com.musinsa.wagon.core.notification.UnreadCountSyncListener;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -11,6 +13,7 @@ import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -23,10 +26,14 @@ import java.time.LocalDateTime;
 @Entity
 @Table(
         name = "notifications",
-        indexes = {@Index(name = "idx_notification_user_read", columnList = "user_id, isRead")})
+        indexes = {
+            @Index(name = "idx_notification_user_read", columnList = "user_id, isRead"),
+            @Index(name = "idx_notification_sent_created", columnList = "sentAt, createdAt")
+        })
 @Getter
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(UnreadCountSyncListener.class)
 public class Notification extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -56,10 +63,22 @@ public class Notification extends BaseEntity {
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
+    // 이번 트랜잭션에서 읽음으로 바뀌었는지. 리스너가 안 읽은 수 캐시를 줄일 때만 쓴다.
+    @Transient private boolean readInThisTransaction;
+
     public void markAsRead() {
+        if (!Boolean.TRUE.equals(this.isRead)) {
+            this.readInThisTransaction = true;
+        }
         this.isRead = true;
     }
 
+    public boolean consumeReadTransition() {
+        boolean changed = readInThisTransaction;
+        readInThisTransaction = false;
+        return changed;
+    }
+
     public void markAsSent() {
         this.sentAt = LocalDateTime.now();
     }
@@ -2,9 +2,11 @@ package com.musinsa.wagon.core.entity;
 
 import com.musinsa.wagon.core.entity.enums.PriceLabel;
 import com.musinsa.wagon.core.entity.enums.ShopType;
+import com.musinsa.wagon.core.product.ProductViewInvalidationListener;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -13,6 +15,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -21,6 +24,7 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
 import java.math.BigDecimal;
+import java.util.Objects;
 
 @Entity
 @Table(
@@ -30,11 +34,15 @@ import java.math.BigDecimal;
             @Index(name = "idx_product_shop_type", columnList = "shopType"),
             @Index(name = "idx_product_price_label", columnList = "priceLabel"),
             @Index(name = "idx_product_fake_discount", columnList = "isFakeDiscount"),
-            @Index(name = "idx_product_category", columnList = "category_id")
+            @Index(name = "idx_product_category", columnList = "category_id"),
+            @Index(
+                    name = "idx_product_listing",
+                    columnList = "shopType, brand, priceLabel, id, isFakeDiscount, category_id")
         })
 @Getter
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(ProductViewInvalidationListener.class)
 public class Product extends BaseAuditEntity {
 
     @Column(length = 512)
@@ -63,6 +71,10 @@ public class Product extends BaseAuditEntity {
 
     private Integer likeCount;
 
+    // 우리 서비스의 위시리스트 수. WishlistCounter 가 증분만 더하므로 엔티티로는 쓰지 않는다.
+    @Column(insertable = false, updatable = false)
+    private Integer wishlistCount;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private ShopType shopType;
@@ -86,10 +98,20 @@ public class Product extends BaseAuditEntity {
     @JoinColumn(name = "product_detail_id")
     private ProductDetail productDetail;
 
+    // 이번 트랜잭션에서 상품 화면에 보이는 값이 바뀌었는지. 리스너가 화면 캐시 버전을 올릴 때만 쓴다.
+    @Transient private boolean viewChanged;
+
+    // 같은 값으로 다시 크롤링된 경우 dirty 로 만들지 않아 UPDATE 와 화면 캐시 무효화가 일어나지 않는다.
     public void updatePrice(Integer currentPrice, Integer originalPrice, Integer discountRate) {
+        if (Objects.equals(this.currentPrice, currentPrice)
+                && Objects.equals(this.originalPrice, originalPrice)
+                && Objects.equals(this.discountRate, discountRate)) {
+            return;
+        }
         this.currentPrice = currentPrice;
         this.originalPrice = originalPrice;
         this.discountRate = discountRate;
+        this.viewChanged = true;
     }
 
     public void updatePriceLabel(PriceLabel priceLabel) {
@@ -99,15 +121,24 @@ public class Product extends BaseAuditEntity {
     public void updateFakeDiscount(Boolean isFakeDiscount, Integer fakeDiscountScore) {
         this.isFakeDiscount = isFakeDiscount;
         this.fakeDiscountScore = fakeDiscountScore;
+        this.viewChanged = true;
     }
 
     public void updateReviewInfo(BigDecimal starScore, Integer reviewCount) {
+        if (sameValue(this.starScore, starScore) && Objects.equals(this.reviewCount, reviewCount)) {
+            return;
+        }
         this.starScore = starScore;
         this.reviewCount = reviewCount;
+        this.viewChanged = true;
     }
 
     public void updateLikeCount(Integer likeCount) {
+        if (Objects.equals(this.likeCount, likeCount)) {
+            return;
+        }
         this.likeCount = likeCount;
+        this.viewChanged = true;
     }
 
     public void updateCategory(Category category) {
@@ -117,4 +148,15 @@ public class Product extends BaseAuditEntity {
     public void updateProductDetail(ProductDetail productDetail) {
         this.productDetail = productDetail;
     }
+
+    public boolean consumeViewChange() {
+        boolean changed = viewChanged;
+        viewChanged = false;
+        return changed;
+    }
+
+    // DB 에서 읽은 값은 스케일이 붙어 있어 equals 로는 4.5 와 4.50 이 다르게 나온다.
+    private static boolean sameValue(BigDecimal current, BigDecimal next) {
+        return current == null ? next == null : next != null && current.compareTo(next) == 0;
+    }
 }
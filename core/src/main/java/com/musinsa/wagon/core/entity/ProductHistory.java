@@ -1,8 +1,10 @@
 package com.musinsa.wagon.core.entity;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -15,6 +17,10 @@ import lombok.experimental.SuperBuilder;
 
 import java.time.LocalDate;
 
+/**
+ * created_at 월 단위로 파티션된 테이블이다. 날짜 조건은 created_at 에 함수를 씌우지 않고 날짜 값과 직접 비교해야 파티션
+ * 프루닝이 된다. 파티션 테이블은 외래 키를 가질 수 없어 product_id 에 제약을 두지 않는다.
+ */
 @Entity
 @Table(
         name = "product_histories",
@@ -29,7 +35,10 @@ import java.time.LocalDate;
 public class ProductHistory extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "product_id", nullable = false)
+    @JoinColumn(
+            name = "product_id",
+            nullable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Product product;
 
     @Column(nullable = false)
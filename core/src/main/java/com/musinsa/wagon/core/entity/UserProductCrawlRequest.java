@@ -26,7 +26,8 @@ import java.time.LocalDateTime;
         name = "user_product_crawl_requests",
         indexes = {
             @Index(name = "idx_crawl_request_user", columnList = "user_id"),
-            @Index(name = "idx_crawl_request_status", columnList = "status")
+            @Index(name = "idx_crawl_request_status", columnList = "status"),
+            @Index(name = "idx_crawl_request_status_claimed", columnList = "status, claimedAt")
         })
 @Getter
 @SuperBuilder
@@ -59,10 +60,14 @@ public class UserProductCrawlRequest extends BaseEntity {
     @Column(nullable = false)
     private LocalDateTime requestedAt;
 
+    // 워커가 가져간 시각. 오래 PROCESSING 으로 남은 요청을 다시 대기열에 넣을 때 기준이 된다.
+    private LocalDateTime claimedAt;
+
     private LocalDateTime processedAt;
 
     public void startProcessing() {
         this.status = RequestStatus.PROCESSING;
+        this.claimedAt = LocalDateTime.now();
     }
 
     public void complete(Product product) {
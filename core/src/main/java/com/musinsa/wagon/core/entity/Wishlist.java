@@ -1,7 +1,11 @@
 package com.musinsa.wagon.core.entity;
 
+import com.musinsa.wagon.core.wishlist.WishlistCountListener;
+import com.musinsa.wagon.core.wishlist.WishlistIndexSyncListener;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -30,6 +34,7 @@ import lombok.experimental.SuperBuilder;
 @Getter
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners({WishlistIndexSyncListener.class, WishlistCountListener.class})
 public class Wishlist extends BaseAuditEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
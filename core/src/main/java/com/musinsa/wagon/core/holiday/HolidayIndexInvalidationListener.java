@@ -0,0 +1,34 @@
+package com.musinsa.wagon.core.holiday;
+
+import com.musinsa.wagon.core.entity.Holiday;
+import com.musinsa.wagon.core.infra.cache.ReferenceCacheInvalidator;
+import com.musinsa.wagon.core.utils.TransactionSynchronizations;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+public class HolidayIndexInvalidationListener {
+
+    private final ObjectProvider<HolidayIntervalIndex> holidayIntervalIndex;
+    private final ObjectProvider<ReferenceCacheInvalidator> referenceCacheInvalidator;
+
+    public HolidayIndexInvalidationListener(
+            ObjectProvider<HolidayIntervalIndex> holidayIntervalIndex,
+            ObjectProvider<ReferenceCacheInvalidator> referenceCacheInvalidator) {
+        this.holidayIntervalIndex = holidayIntervalIndex;
+        this.referenceCacheInvalidator = referenceCacheInvalidator;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Holiday holiday) {
+        TransactionSynchronizations.afterCommit(
+                () -> holidayIntervalIndex.ifAvailable(HolidayIntervalIndex::invalidate));
+        referenceCacheInvalidator.ifAvailable(
+                invalidator -> invalidator.publishAfterCommit(Holiday.class, holiday.getId()));
+    }
+}
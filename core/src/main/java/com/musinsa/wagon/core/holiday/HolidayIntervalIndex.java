@@ -0,0 +1,85 @@
+package com.musinsa.wagon.core.holiday;
+
+import com.musinsa.wagon.core.repository.HolidayRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 활성 명절 감시 구간의 메모리 인덱스. Holiday 가 바뀌면 {@link HolidayIndexInvalidationListener} 가 커밋 후 무효화하고,
+ * 다른 프로세스에서의 변경은 refresh-interval 이 지나면 다시 읽어 반영한다. 재구성 중에도 다른 스레드는 이전 스냅샷을 그대로
+ * 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidayIntervalIndex {
+
+    private final HolidayRepository holidayRepository;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    @Value("${holiday-index.refresh-interval:PT10M}")
+    private Duration refreshInterval;
+
+    private volatile HolidayIntervals intervals;
+    private volatile boolean stale = true;
+    private volatile long builtAtNanos;
+
+    public HolidayIntervals intervals() {
+        HolidayIntervals current = intervals;
+        if (current == null || stale || isExpired()) {
+            current = rebuild(current);
+        }
+        return current;
+    }
+
+    public boolean isCovered(LocalDate date) {
+        return intervals().isCovered((int) date.toEpochDay());
+    }
+
+    public int covering(LocalDate date, int[] out) {
+        return intervals().covering((int) date.toEpochDay(), out);
+    }
+
+    public int overlapping(LocalDate from, LocalDate to, int[] out) {
+        return intervals().overlapping((int) from.toEpochDay(), (int) to.toEpochDay(), out);
+    }
+
+    public void invalidate() {
+        stale = true;
+    }
+
+    private boolean isExpired() {
+        return System.nanoTime() - builtAtNanos > refreshInterval.toNanos();
+    }
+
+    private HolidayIntervals rebuild(HolidayIntervals current) {
+        if (current != null && !rebuildLock.tryLock()) {
+            return current;
+        }
+        if (current == null) {
+            rebuildLock.lock();
+        }
+        try {
+            if (intervals != null && intervals != current) {
+                return intervals;
+            }
+            stale = false;
+            HolidayIntervals rebuilt =
+                    new HolidayIntervals(holidayRepository.findAllByIsActiveTrue());
+            intervals = rebuilt;
+            builtAtNanos = System.nanoTime();
+            log.debug("[HolidayIndex] rebuilt holidays={}", rebuilt.size());
+            return rebuilt;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.musinsa.wagon.core.holiday;
+
+import com.musinsa.wagon.core.entity.Holiday;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 활성 명절의 감시 구간을 시작일 순으로 정렬한 불변 스냅샷. 시작일 배열과 종료일 누적 최댓값 배열만으로 조회하므로 조회 시 객체를
+ * 만들지 않는다.
+ */
+public final class HolidayIntervals {
+
+    private final long[] holidayIds;
+    private final String[] names;
+    private final int[] startDays;
+    private final int[] holidayDays;
+    private final int[] endDays;
+    private final int[] maxEndDays;
+
+    HolidayIntervals(List<Holiday> holidays) {
+        List<Holiday> sorted =
+                holidays.stream()
+                        .filter(
+                                holiday ->
+                                        holiday.getMonitoringStartDate() != null
+                                                && holiday.getMonitoringEndDate() != null)
+                        .sorted(Comparator.comparing(Holiday::getMonitoringStartDate))
+                        .toList();
+        int size = sorted.size();
+        holidayIds = new long[size];
+        names = new String[size];
+        startDays = new int[size];
+        holidayDays = new int[size];
+        endDays = new int[size];
+        maxEndDays = new int[size];
+        for (int i = 0; i < size; i++) {
+            Holiday holiday = sorted.get(i);
+            holidayIds[i] = holiday.getId();
+            names[i] = holiday.getName();
+            startDays[i] = (int) holiday.getMonitoringStartDate().toEpochDay();
+            holidayDays[i] = (int) holiday.getHolidayDate().toEpochDay();
+            endDays[i] = (int) holiday.getMonitoringEndDate().toEpochDay();
+            maxEndDays[i] = i == 0 ? endDays[i] : Math.max(maxEndDays[i - 1], endDays[i]);
+        }
+    }
+
+    public int size() {
+        return holidayIds.length;
+    }
+
+    public long holidayId(int index) {
+        return holidayIds[index];
+    }
+
+    public String name(int index) {
+        return names[index];
+    }
+
+    public int startDay(int index) {
+        return startDays[index];
+    }
+
+    public int holidayDay(int index) {
+        return holidayDays[index];
+    }
+
+    public int endDay(int index) {
+        return endDays[index];
+    }
+
+    public boolean isCovered(int epochDay) {
+        int i = upperBound(epochDay) - 1;
+        for (; i >= 0 && maxEndDays[i] >= epochDay; i--) {
+            if (endDays[i] >= epochDay) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * epochDay 를 감시 구간에 포함하는 명절의 인덱스를 out 에 채우고 개수를 반환한다. out 이 모자라면 담을 수 있는 만큼만 채운다.
+     */
+    public int covering(int epochDay, int[] out) {
+        return overlapping(epochDay, epochDay, out);
+    }
+
+    /** [fromDay, toDay] 와 감시 구간이 겹치는 명절의 인덱스를 out 에 채우고 개수를 반환한다. */
+    public int overlapping(int fromDay, int toDay, int[] out) {
+        int count = 0;
+        for (int i = upperBound(toDay) - 1; i >= 0 && maxEndDays[i] >= fromDay; i--) {
+            if (endDays[i] >= fromDay && count < out.length) {
+                out[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    // startDay <= epochDay 인 구간의 개수
+    private int upperBound(int epochDay) {
+        int low = 0;
+        int high = startDays.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (startDays[mid] <= epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public String toString() {
+        return "HolidayIntervals" + Arrays.toString(holidayIds);
+    }
+}
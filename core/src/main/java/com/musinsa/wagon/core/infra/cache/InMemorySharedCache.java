@@ -0,0 +1,68 @@
+package com.musinsa.wagon.core.infra.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+public class InMemorySharedCache implements SharedCache {
+
+    private final Map<String, Entry> values = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public String get(String key) {
+        Entry entry = values.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtNanos - System.nanoTime() < 0) {
+            values.remove(key, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    @Override
+    public void set(String key, String value, Duration ttl) {
+        values.put(key, new Entry(value, System.nanoTime() + ttl.toNanos()));
+    }
+
+    @Override
+    public void increment(Collection<String> keys) {
+        for (String key : keys) {
+            counters.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    @Override
+    public List<Long> counters(List<String> keys) {
+        List<Long> result = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            AtomicLong counter = counters.get(key);
+            result.add(counter == null ? 0L : counter.get());
+        }
+        return result;
+    }
+
+    /** 같은 프로세스의 구독자에게 호출 스레드에서 바로 전달한다. */
+    @Override
+    public void publish(String channel, String message) {
+        for (Consumer<String> listener : listeners.getOrDefault(channel, List.of())) {
+            listener.accept(message);
+        }
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        listeners.computeIfAbsent(channel, c -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    private record Entry(String value, long expiresAtNanos) {}
+}
@@ -0,0 +1,77 @@
+package com.musinsa.wagon.core.infra.cache;
+
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class RedisSharedCache implements SharedCache {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RedisSharedCache(
+            StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @Override
+    public String get(String key) {
+        return redisTemplate.opsForValue().get(key);
+    }
+
+    @Override
+    public void set(String key, String value, Duration ttl) {
+        redisTemplate.opsForValue().set(key, value, ttl);
+    }
+
+    // 청크 하나의 상품 수만큼 INCR 이 나가므로 파이프라인으로 한 번에 보낸다.
+    @Override
+    public void increment(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined(
+                (RedisCallback<Object>)
+                        connection -> {
+                            StringRedisConnection strings = (StringRedisConnection) connection;
+                            for (String key : keys) {
+                                strings.incr(key);
+                            }
+                            return null;
+                        });
+    }
+
+    @Override
+    public List<Long> counters(List<String> keys) {
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        List<Long> result = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            String value = values == null ? null : values.get(i);
+            result.add(value == null ? 0L : Long.parseLong(value));
+        }
+        return result;
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        listenerContainer.addMessageListener(
+                (message, pattern) ->
+                        listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(channel));
+    }
+}
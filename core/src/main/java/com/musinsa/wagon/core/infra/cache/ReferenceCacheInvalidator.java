@@ -0,0 +1,77 @@
+package com.musinsa.wagon.core.infra.cache;
+
+import com.musinsa.wagon.core.utils.TransactionSynchronizations;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 2차 캐시는 프로세스마다 따로 있으므로, 참조 엔티티가 바뀌면 커밋 후 {@link SharedCache} 채널로 알려 다른 프로세스가 같은 엔티티와
+ * 쿼리 캐시를 비우게 한다. 바꾼 프로세스 자신의 캐시는 Hibernate 가 이미 고쳤으므로 자기 메시지는 무시한다.
+ *
+ * <p>변경은 프로세스마다 한 번씩 {@link ReferenceEntityChangedEvent} 로도 알린다. 바꾼 프로세스는 커밋 후에, 다른 프로세스는
+ * 메시지를 받았을 때 발행한다.
+ *
+ * <p>메시지는 유실될 수 있다. 그래도 캐시 항목이 만료되면 바로잡힌다.
+ */
+@Slf4j
+@Component
+public class ReferenceCacheInvalidator {
+
+    private static final String CHANNEL = "cache:reference:invalidate";
+    private static final String SEPARATOR = "|";
+
+    private final String origin = UUID.randomUUID().toString();
+    private final SharedCache sharedCache;
+    private final Cache cache;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public ReferenceCacheInvalidator(
+            SharedCache sharedCache,
+            EntityManagerFactory entityManagerFactory,
+            ApplicationEventPublisher applicationEventPublisher) {
+        this.sharedCache = sharedCache;
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        sharedCache.subscribe(CHANNEL, this::onMessage);
+    }
+
+    public void publishAfterCommit(Class<?> entityType, Long id) {
+        String message = origin + SEPARATOR + entityType.getName() + SEPARATOR + id;
+        TransactionSynchronizations.afterCommit(
+                () -> {
+                    try {
+                        sharedCache.publish(CHANNEL, message);
+                    } catch (RuntimeException e) {
+                        log.warn("[ReferenceCache] failed to publish {}", message, e);
+                    }
+                    applicationEventPublisher.publishEvent(
+                            new ReferenceEntityChangedEvent(entityType.getName(), id));
+                });
+    }
+
+    private void onMessage(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length != 3 || origin.equals(parts[0])) {
+            return;
+        }
+        cache.evictEntityData(parts[1], Long.valueOf(parts[2]));
+        cache.evictQueryRegions();
+        applicationEventPublisher.publishEvent(
+                new ReferenceEntityChangedEvent(parts[1], Long.valueOf(parts[2])));
+        log.debug("[ReferenceCache] evicted entity={} id={}", parts[1], parts[2]);
+    }
+}
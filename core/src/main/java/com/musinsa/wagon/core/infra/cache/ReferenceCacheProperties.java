@@ -0,0 +1,9 @@
+package com.musinsa.wagon.core.infra.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "reference-cache")
+public record ReferenceCacheProperties(@DefaultValue("5m") Duration statisticsLogInterval) {}
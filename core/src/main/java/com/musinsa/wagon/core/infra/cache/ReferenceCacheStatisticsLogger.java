@@ -0,0 +1,94 @@
+package com.musinsa.wagon.core.infra.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/** 2차 캐시 영역과 쿼리 캐시의 hit/miss/put 을 직전 기록 이후 증가분으로 남긴다. */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+        prefix = "spring.jpa.properties.hibernate",
+        name = "generate_statistics",
+        havingValue = "true")
+public class ReferenceCacheStatisticsLogger {
+
+    private static final String QUERY_CACHE = "query-cache";
+
+    private final Statistics statistics;
+    private final ReferenceCacheProperties properties;
+    private final Map<String, long[]> previous = new HashMap<>();
+
+    private ScheduledExecutorService logger;
+
+    public ReferenceCacheStatisticsLogger(
+            EntityManagerFactory entityManagerFactory, ReferenceCacheProperties properties) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    void start() {
+        logger =
+                Executors.newSingleThreadScheduledExecutor(
+                        new CustomizableThreadFactory("reference-cache-stats-"));
+        long millis = properties.statisticsLogInterval().toMillis();
+        logger.scheduleWithFixedDelay(this::logStatistics, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        logger.shutdownNow();
+    }
+
+    private void logStatistics() {
+        try {
+            for (String region : statistics.getSecondLevelCacheRegionNames()) {
+                CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+                if (stats != null) {
+                    log(region, stats.getHitCount(), stats.getMissCount(), stats.getPutCount());
+                }
+            }
+            log(
+                    QUERY_CACHE,
+                    statistics.getQueryCacheHitCount(),
+                    statistics.getQueryCacheMissCount(),
+                    statistics.getQueryCachePutCount());
+        } catch (RuntimeException e) {
+            log.warn("[ReferenceCache] failed to read statistics", e);
+        }
+    }
+
+    private void log(String region, long hits, long misses, long puts) {
+        long[] last = previous.getOrDefault(region, new long[3]);
+        long hitDelta = hits - last[0];
+        long missDelta = misses - last[1];
+        long putDelta = puts - last[2];
+        previous.put(region, new long[] {hits, misses, puts});
+        if (hitDelta + missDelta + putDelta == 0) {
+            return;
+        }
+        log.info(
+                "[ReferenceCache] region={} hit={} miss={} put={} hitRatio={}%",
+                region,
+                hitDelta,
+                missDelta,
+                putDelta,
+                hitDelta + missDelta == 0 ? 0 : hitDelta * 100 / (hitDelta + missDelta));
+    }
+}
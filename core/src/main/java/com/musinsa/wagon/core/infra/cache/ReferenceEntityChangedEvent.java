@@ -0,0 +1,9 @@
+package com.musinsa.wagon.core.infra.cache;
+
+/** 커밋된 참조 엔티티 변경. entityName 은 엔티티 클래스의 전체 이름이다. */
+public record ReferenceEntityChangedEvent(String entityName, Long id) {
+
+    public boolean isOf(Class<?> entityType) {
+        return entityType.getName().equals(entityName);
+    }
+}
@@ -0,0 +1,28 @@
+package com.musinsa.wagon.core.infra.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 여러 프로세스가 함께 보는 L2 캐시. Redis 명령 중 필요한 것만 옮겨 두어 구현을 바꿔 끼울 수 있게 한다. 값은 직렬화된 문자열이고
+ * 카운터는 INCR 의미를 따른다.
+ */
+public interface SharedCache {
+
+    String get(String key);
+
+    void set(String key, String value, Duration ttl);
+
+    /** 키마다 1 을 더한다. 없는 키는 0 에서 시작한다. */
+    void increment(Collection<String> keys);
+
+    /** 카운터 값. 없는 키는 0. */
+    List<Long> counters(List<String> keys);
+
+    /** 구독 중인 모든 프로세스에 보낸다. 보내는 프로세스 자신도 받는다. 전달은 보장하지 않는다. */
+    void publish(String channel, String message);
+
+    void subscribe(String channel, Consumer<String> listener);
+}
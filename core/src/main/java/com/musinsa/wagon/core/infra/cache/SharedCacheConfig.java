@@ -0,0 +1,44 @@
+package com.musinsa.wagon.core.infra.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class SharedCacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "shared-cache",
+            name = "type",
+            havingValue = "redis",
+            matchIfMissing = true)
+    public RedisMessageListenerContainer sharedCacheListenerContainer(
+            RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "shared-cache",
+            name = "type",
+            havingValue = "redis",
+            matchIfMissing = true)
+    public SharedCache redisSharedCache(
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer sharedCacheListenerContainer) {
+        return new RedisSharedCache(stringRedisTemplate, sharedCacheListenerContainer);
+    }
+
+    /** 프로세스 하나에서만 보이는 캐시. 배치와 fo 를 함께 띄우면 무효화가 전달되지 않는다. */
+    @Bean
+    @ConditionalOnProperty(prefix = "shared-cache", name = "type", havingValue = "memory")
+    public SharedCache inMemorySharedCache() {
+        return new InMemorySharedCache();
+    }
+}
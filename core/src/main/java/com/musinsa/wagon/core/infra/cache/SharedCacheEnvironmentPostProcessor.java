@@ -0,0 +1,46 @@
+package com.musinsa.wagon.core.infra.cache;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * shared-cache.type=memory 이면 Redis 를 쓰지 않으므로 Redis 헬스 체크를 꺼서 /actuator/health 가 DOWN 이 되지 않게 한다.
+ * 가장 낮은 우선순위로 넣으므로 management.health.redis.enabled 를 직접 지정하면 그 값이 이긴다.
+ *
+ * <p>memory 이면 {@link ReferenceCacheInvalidator} 의 무효화가 다른 프로세스에 닿지 않아, 한 프로세스가 바꾼 참조 엔티티를
+ * 다른 프로세스의 2차 캐시가 만료될 때까지 계속 보여준다. 그래서 2차 캐시와 쿼리 캐시는 설정과 상관없이 가장 높은 우선순위로 끈다.
+ */
+public class SharedCacheEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    private static final String DEFAULTS_SOURCE_NAME = "sharedCacheDefaults";
+    private static final String OVERRIDES_SOURCE_NAME = "sharedCacheOverrides";
+
+    @Override
+    public void postProcessEnvironment(
+            ConfigurableEnvironment environment, SpringApplication application) {
+        if (!"memory".equals(environment.getProperty("shared-cache.type"))) {
+            return;
+        }
+        environment
+                .getPropertySources()
+                .addLast(
+                        new MapPropertySource(
+                                DEFAULTS_SOURCE_NAME,
+                                Map.of("management.health.redis.enabled", "false")));
+        environment
+                .getPropertySources()
+                .addFirst(
+                        new MapPropertySource(
+                                OVERRIDES_SOURCE_NAME,
+                                Map.of(
+                                        "spring.jpa.properties.hibernate.cache"
+                                                + ".use_second_level_cache",
+                                        "false",
+                                        "spring.jpa.properties.hibernate.cache.use_query_cache",
+                                        "false")));
+    }
+}
@@ -0,0 +1,16 @@
+package com.musinsa.wagon.core.infra.export;
+
+public enum ExportFormat {
+    CSV("csv"),
+    NDJSON("ndjson");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String fileName(String baseName) {
+        return baseName + "." + extension + ".gz";
+    }
+}
@@ -0,0 +1,24 @@
+package com.musinsa.wagon.core.infra.export;
+
+import com.musinsa.wagon.core.entity.enums.ShopType;
+
+import java.time.LocalDate;
+
+/** from, to 모두 포함한다. shopType 이 null 이면 모든 쇼핑몰. */
+public record HistoryExportQuery(
+        HistoryExportTarget target,
+        ExportFormat format,
+        ShopType shopType,
+        LocalDate from,
+        LocalDate to) {
+
+    public HistoryExportQuery {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+    }
+
+    public String fileName() {
+        return format.fileName(target.path() + "_" + from + "_" + to);
+    }
+}
@@ -0,0 +1,134 @@
+package com.musinsa.wagon.core.infra.export;
+
+import java.util.List;
+
+/**
+ * 내보낼 수 있는 이력 테이블. 기간 조건은 각 테이블의 날짜 컬럼을 값과 직접 비교해 product_histories 의 월 파티션과
+ * fake_discount_histories 의 detected_at 인덱스를 탄다.
+ *
+ * <p>product_histories 는 가격이 바뀐 날만 담은 변경 지점이다. 날마다 한 행으로 펼치지 않고 변경 지점 그대로 내보내되, 기간
+ * 첫날의 가격을 알 수 있도록 상품마다 from 이전의 마지막 변경 지점을 함께 넣는다. 어느 날의 가격은 그날 이전의 가장 최근
+ * 지점의 값이다.
+ *
+ * <p>SQL 의 %1$s 자리에 쇼핑몰 조건이 들어가고, ? 는 parameters 순서대로 채운다.
+ */
+public enum HistoryExportTarget {
+    PRODUCT_HISTORIES(
+            "product-histories",
+            """
+            SELECT h.product_id, p.product_number, p.shop_type, h.created_at,
+                   h.price, h.original_price, h.discount_rate
+              FROM product_histories h
+              JOIN products p ON p.id = h.product_id
+             WHERE h.created_at >= ? AND h.created_at < ?%1$s
+            UNION ALL
+            SELECT h.product_id, p.product_number, p.shop_type, h.created_at,
+                   h.price, h.original_price, h.discount_rate
+              FROM (SELECT product_id, MAX(created_at) AS created_at
+                      FROM product_histories
+                     WHERE created_at < ?
+                     GROUP BY product_id) seed
+              JOIN product_histories h
+                ON h.product_id = seed.product_id AND h.created_at = seed.created_at
+              JOIN products p ON p.id = h.product_id
+             WHERE 1 = 1%1$s
+            """,
+            List.of(
+                    Parameter.FROM,
+                    Parameter.TO,
+                    Parameter.SHOP_TYPE,
+                    Parameter.FROM,
+                    Parameter.SHOP_TYPE),
+            List.of(
+                    Column.number("product_id"),
+                    Column.number("product_number"),
+                    Column.text("shop_type"),
+                    Column.text("created_at"),
+                    Column.number("price"),
+                    Column.number("original_price"),
+                    Column.number("discount_rate"))),
+    FAKE_DISCOUNT_HISTORIES(
+            "fake-discount-histories",
+            """
+            SELECT f.id, f.product_id, p.product_number, p.shop_type, f.holiday_id,
+                   f.detected_at, f.pattern_type, f.confidence_score, f.price_before_raise,
+                   f.raised_price, f.discounted_price, f.fake_discount_rate,
+                   f.real_discount_rate
+              FROM fake_discount_histories f
+              JOIN products p ON p.id = f.product_id
+             WHERE f.detected_at >= ? AND f.detected_at < ?%1$s
+            """,
+            List.of(Parameter.FROM, Parameter.TO, Parameter.SHOP_TYPE),
+            List.of(
+                    Column.number("id"),
+                    Column.number("product_id"),
+                    Column.number("product_number"),
+                    Column.text("shop_type"),
+                    Column.number("holiday_id"),
+                    Column.text("detected_at"),
+                    Column.text("pattern_type"),
+                    Column.number("confidence_score"),
+                    Column.number("price_before_raise"),
+                    Column.number("raised_price"),
+                    Column.number("discounted_price"),
+                    Column.number("fake_discount_rate"),
+                    Column.number("real_discount_rate")));
+
+    private final String path;
+    private final String selectSql;
+    private final List<Parameter> parameters;
+    private final List<Column> columns;
+
+    HistoryExportTarget(
+            String path, String selectSql, List<Parameter> parameters, List<Column> columns) {
+        this.path = path;
+        this.selectSql = selectSql;
+        this.parameters = parameters;
+        this.columns = columns;
+    }
+
+    /** URL 경로와 파일 이름에 쓰는 이름. */
+    public String path() {
+        return path;
+    }
+
+    public static HistoryExportTarget fromPath(String path) {
+        for (HistoryExportTarget target : values()) {
+            if (target.path.equals(path)) {
+                return target;
+            }
+        }
+        throw new IllegalArgumentException("unknown export target: " + path);
+    }
+
+    String selectSql(boolean filterShopType) {
+        return selectSql.formatted(filterShopType ? " AND p.shop_type = ?" : "");
+    }
+
+    /** 쇼핑몰 조건이 없으면 SHOP_TYPE 은 건너뛴다. */
+    List<Parameter> parameters() {
+        return parameters;
+    }
+
+    List<Column> columns() {
+        return columns;
+    }
+
+    enum Parameter {
+        FROM,
+        TO,
+        SHOP_TYPE
+    }
+
+    /** numeric 이면 NDJSON 에서 따옴표 없이 쓴다. */
+    record Column(String name, boolean numeric) {
+
+        static Column number(String name) {
+            return new Column(name, true);
+        }
+
+        static Column text(String name) {
+            return new Column(name, false);
+        }
+    }
+}
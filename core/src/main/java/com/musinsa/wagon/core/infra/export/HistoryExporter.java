@@ -0,0 +1,215 @@
+package com.musinsa.wagon.core.infra.export;
+
+import com.musinsa.wagon.core.infra.export.HistoryExportTarget.Column;
+import com.musinsa.wagon.core.infra.export.HistoryExportTarget.Parameter;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import javax.sql.DataSource;
+
+/**
+ * 이력 테이블을 gzip 으로 압축한 CSV/NDJSON 으로 내보낸다. MySQL 스트리밍 결과셋으로 한 행씩 읽어 바로 쓰므로 행 수와 관계없이
+ * 메모리 사용량은 버퍼 크기만큼이다. 정렬하지 않으므로 행 순서는 보장하지 않는다.
+ *
+ * <p>스트리밍 결과셋은 닫을 때 남은 행을 모두 읽어 버리므로, 쓰기에 실패하면(클라이언트가 끊으면) 쿼리를 취소하고 끝낸다.
+ */
+@Slf4j
+@Component
+public class HistoryExporter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public HistoryExporter(DataSource dataSource) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /** out 은 닫지 않는다. 내보낸 행 수를 돌려준다. */
+    public long export(HistoryExportQuery query, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        GZIPOutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE);
+        Writer writer =
+                new BufferedWriter(
+                        new OutputStreamWriter(gzip, StandardCharsets.UTF_8), BUFFER_SIZE);
+        List<Column> columns = query.target().columns();
+        if (query.format() == ExportFormat.CSV) {
+            writeCsvHeader(writer, columns);
+        }
+
+        long rows;
+        try {
+            rows =
+                    streamingJdbcTemplate.execute(
+                            connection -> prepare(connection.prepareStatement(sql(query)), query),
+                            (PreparedStatement ps) -> stream(ps, query.format(), columns, writer));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        gzip.finish();
+
+        log.info(
+                "[Export] target={} format={} shopType={} from={} to={} rows={} elapsed={}ms",
+                query.target(),
+                query.format(),
+                query.shopType(),
+                query.from(),
+                query.to(),
+                rows,
+                (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    private static String sql(HistoryExportQuery query) {
+        return query.target().selectSql(query.shopType() != null);
+    }
+
+    private static PreparedStatement prepare(PreparedStatement ps, HistoryExportQuery query)
+            throws SQLException {
+        int index = 0;
+        for (Parameter parameter : query.target().parameters()) {
+            switch (parameter) {
+                case FROM -> ps.setDate(++index, Date.valueOf(query.from()));
+                case TO -> ps.setDate(++index, Date.valueOf(query.to().plusDays(1)));
+                case SHOP_TYPE -> {
+                    if (query.shopType() != null) {
+                        ps.setString(++index, query.shopType().name());
+                    }
+                }
+            }
+        }
+        return ps;
+    }
+
+    private static long stream(
+            PreparedStatement ps, ExportFormat format, List<Column> columns, Writer writer)
+            throws SQLException {
+        long rows = 0;
+        try (ResultSet rs = ps.executeQuery()) {
+            // rs 가 닫히기 전에 취소해야 남은 행을 읽어 버리지 않는다. try-with-resources 의 catch 는 닫은 뒤에 돈다.
+            try {
+                while (rs.next()) {
+                    if (format == ExportFormat.CSV) {
+                        writeCsvRow(writer, columns, rs);
+                    } else {
+                        writeJsonRow(writer, columns, rs);
+                    }
+                    rows++;
+                }
+            } catch (IOException e) {
+                ps.cancel();
+                throw new UncheckedIOException(e);
+            }
+        }
+        return rows;
+    }
+
+    private static void writeCsvHeader(Writer writer, List<Column> columns) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(columns.get(i).name());
+        }
+        writer.write('\n');
+    }
+
+    private static void writeCsvRow(Writer writer, List<Column> columns, ResultSet rs)
+            throws IOException, SQLException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = rs.getString(i + 1);
+            if (value != null) {
+                writeCsvValue(writer, value);
+            }
+        }
+        writer.write('\n');
+    }
+
+    private static void writeCsvValue(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static void writeJsonRow(Writer writer, List<Column> columns, ResultSet rs)
+            throws IOException, SQLException {
+        writer.write('{');
+        for (int i = 0; i < columns.size(); i++) {
+            Column column = columns.get(i);
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write('"');
+            writer.write(column.name());
+            writer.write("\":");
+            String value = rs.getString(i + 1);
+            if (value == null) {
+                writer.write("null");
+            } else if (column.numeric()) {
+                writer.write(value);
+            } else {
+                writeJsonString(writer, value);
+            }
+        }
+        writer.write("}\n");
+    }
+
+    private static void writeJsonString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,42 @@
+package com.musinsa.wagon.core.infra.partition;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * RANGE COLUMNS(created_at) 월 파티션의 이름 규칙. 한 달은 p202610 처럼 이름 붙이고 다음 달 1일 미만까지 담는다. 아직 만들지
+ * 않은 달의 행은 p_max 가 받는다.
+ */
+public final class MonthlyPartitions {
+
+    public static final String MAX_PARTITION = "p_max";
+
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private MonthlyPartitions() {}
+
+    public static String name(YearMonth month) {
+        return month.format(NAME_FORMAT);
+    }
+
+    /** p_max 처럼 월 파티션이 아니면 빈 값. */
+    public static Optional<YearMonth> monthOf(String partitionName) {
+        try {
+            return Optional.of(YearMonth.parse(partitionName, NAME_FORMAT));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static String definition(YearMonth month) {
+        LocalDate upperBound = month.plusMonths(1).atDay(1);
+        return "PARTITION " + name(month) + " VALUES LESS THAN ('" + upperBound + "')";
+    }
+
+    public static String maxDefinition() {
+        return "PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)";
+    }
+}
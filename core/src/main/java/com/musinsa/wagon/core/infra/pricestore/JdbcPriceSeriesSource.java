@@ -0,0 +1,158 @@
+package com.musinsa.wagon.core.infra.pricestore;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+public class JdbcPriceSeriesSource implements PriceSeriesSource {
+
+    // created_at 을 날짜 값과 직접 비교해야 범위에 걸친 월 파티션만 읽는다. 값이 바뀐 날만 남으므로 from 이전의 마지막
+    // 지점도 함께 읽어 구간 앞부분을 채운다.
+    private static final String SELECT_SERIES_SQL =
+            """
+            (SELECT h.created_at, h.price, h.original_price, h.discount_rate
+               FROM product_histories h
+               JOIN products p ON p.id = h.product_id
+              WHERE p.product_number = ?
+                AND h.created_at < ?
+              ORDER BY h.created_at DESC
+              LIMIT 1)
+            UNION ALL
+            (SELECT h.created_at, h.price, h.original_price, h.discount_rate
+               FROM product_histories h
+               JOIN products p ON p.id = h.product_id
+              WHERE p.product_number = ?
+                AND h.created_at BETWEEN ? AND ?)
+             ORDER BY created_at
+            """;
+
+    // 상품마다 from 이전의 마지막 지점은 (product_id, created_at) 인덱스로 찾는다.
+    private static final String SELECT_SERIES_BATCH_SQL =
+            """
+            SELECT p.product_number, h.created_at, h.price, h.original_price, h.discount_rate
+              FROM (SELECT product_id, MAX(created_at) AS created_at
+                      FROM product_histories
+                     WHERE product_id IN (SELECT id FROM products
+                                           WHERE product_number IN (:productNumbers))
+                       AND created_at < :from
+                     GROUP BY product_id) seed
+              JOIN product_histories h
+                ON h.product_id = seed.product_id AND h.created_at = seed.created_at
+              JOIN products p ON p.id = h.product_id
+            UNION ALL
+            SELECT p.product_number, h.created_at, h.price, h.original_price, h.discount_rate
+              FROM product_histories h
+              JOIN products p ON p.id = h.product_id
+             WHERE p.product_number IN (:productNumbers)
+               AND h.created_at BETWEEN :from AND :to
+             ORDER BY product_number, created_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public JdbcPriceSeriesSource(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public PriceSeries find(long productNumber, LocalDate from, LocalDate to) {
+        int capacity = (int) Math.min(to.toEpochDay() - from.toEpochDay() + 1, 4096);
+        ColumnBuffer buffer = new ColumnBuffer(Math.max(capacity, 1));
+        jdbcTemplate.query(
+                SELECT_SERIES_SQL,
+                rs -> {
+                    buffer.add(
+                            (int) rs.getDate(1).toLocalDate().toEpochDay(),
+                            rs.getInt(2),
+                            PriceSeries.fromNullable(rs.getObject(3, Integer.class)),
+                            PriceSeries.fromNullable(rs.getObject(4, Integer.class)));
+                },
+                productNumber,
+                Date.valueOf(from),
+                productNumber,
+                Date.valueOf(from),
+                Date.valueOf(to));
+        return PriceSeries.carryForward(buffer.toSeries(), from, to);
+    }
+
+    /** 한 번의 쿼리로 읽으므로 호출자가 IN 절에 맞는 크기로 나눠 부른다. */
+    @Override
+    public Map<Long, PriceSeries> findAll(
+            Collection<Long> productNumbers, LocalDate from, LocalDate to) {
+        Map<Long, PriceSeries> series = new HashMap<>(productNumbers.size() * 2);
+        if (productNumbers.isEmpty()) {
+            return series;
+        }
+        int capacity = (int) Math.min(to.toEpochDay() - from.toEpochDay() + 2, 4096);
+        Map<Long, ColumnBuffer> buffers = new HashMap<>(productNumbers.size() * 2);
+        namedParameterJdbcTemplate.query(
+                SELECT_SERIES_BATCH_SQL,
+                new MapSqlParameterSource()
+                        .addValue("productNumbers", productNumbers)
+                        .addValue("from", Date.valueOf(from))
+                        .addValue("to", Date.valueOf(to)),
+                rs -> {
+                    buffers.computeIfAbsent(rs.getLong(1), key -> new ColumnBuffer(capacity))
+                            .add(
+                                    (int) rs.getDate(2).toLocalDate().toEpochDay(),
+                                    rs.getInt(3),
+                                    PriceSeries.fromNullable(rs.getObject(4, Integer.class)),
+                                    PriceSeries.fromNullable(rs.getObject(5, Integer.class)));
+                });
+        for (Long productNumber : productNumbers) {
+            ColumnBuffer buffer = buffers.get(productNumber);
+            series.put(
+                    productNumber,
+                    buffer == null
+                            ? PriceSeries.empty()
+                            : PriceSeries.carryForward(buffer.toSeries(), from, to));
+        }
+        return series;
+    }
+
+    private static final class ColumnBuffer {
+
+        private int[] epochDays;
+        private int[] prices;
+        private int[] originalPrices;
+        private int[] discountRates;
+        private int size;
+
+        ColumnBuffer(int capacity) {
+            epochDays = new int[capacity];
+            prices = new int[capacity];
+            originalPrices = new int[capacity];
+            discountRates = new int[capacity];
+        }
+
+        void add(int epochDay, int price, int originalPrice, int discountRate) {
+            if (size == epochDays.length) {
+                int grown = size * 2;
+                epochDays = Arrays.copyOf(epochDays, grown);
+                prices = Arrays.copyOf(prices, grown);
+                originalPrices = Arrays.copyOf(originalPrices, grown);
+                discountRates = Arrays.copyOf(discountRates, grown);
+            }
+            epochDays[size] = epochDay;
+            prices[size] = price;
+            originalPrices[size] = originalPrice;
+            discountRates[size] = discountRate;
+            size++;
+        }
+
+        PriceSeries toSeries() {
+            return size == 0
+                    ? PriceSeries.empty()
+                    : PriceSeries.of(epochDays, prices, originalPrices, discountRates, size);
+        }
+    }
+}
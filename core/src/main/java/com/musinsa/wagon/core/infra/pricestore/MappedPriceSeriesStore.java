@@ -0,0 +1,340 @@
+package com.musinsa.wagon.core.infra.pricestore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * productNumber 별 파일 하나에 epochDay/price/originalPrice/discountRate 를 int 컬럼으로 저장하고 메모리 매핑으로
+ * 읽는다.
+ *
+ * <p>파일 구조: [magic, version, count, capacity] 헤더 뒤에 capacity 크기의 컬럼 4개가 이어진다. 값을 먼저 쓰고
+ * count 를 마지막에 갱신하므로, 다른 프로세스의 리더는 항상 완결된 앞부분만 본다. 용량을 늘릴 때는 새 파일을 만든 뒤
+ * 원자적으로 교체한다.
+ *
+ * <p>읽기용 매핑은 파일마다 한 번 만들어 최근에 쓴 maxMappedFiles 개까지 재사용한다. 제자리 append 는 공유 매핑으로 바로 보이고,
+ * 파일이 교체되면 file key 가 달라지므로 그때만 다시 매핑한다. 밀려난 매핑은 GC 가 버퍼를 거둘 때 해제된다. append 는 매핑을
+ * 만들지 않고 FileChannel 의 위치 지정 read/write 로 필요한 칸만 읽고 쓴다. 호출마다 매핑을 만들면 GC 전까지 매핑이 쌓여
+ * vm.max_map_count 에 걸린다.
+ */
+public class MappedPriceSeriesStore implements PriceSeriesSource {
+
+    private static final int MAGIC = 0x57504853;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int COUNT_OFFSET = 8;
+    private static final int COLUMNS = 4;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int SHARDS = 1024;
+
+    private final Path root;
+
+    // 접근 순서 LinkedHashMap 이라 get 도 구조를 바꾸므로 자기 자신으로 동기화한다.
+    private final Map<Long, MappedFile> mappedFiles;
+
+    public MappedPriceSeriesStore(Path root, int maxMappedFiles) {
+        this.root = root;
+        this.mappedFiles =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Long, MappedFile> eldest) {
+                        return size() > maxMappedFiles;
+                    }
+                };
+    }
+
+    @Override
+    public PriceSeries find(long productNumber, LocalDate from, LocalDate to) {
+        try {
+            MappedByteBuffer mapped = mappedForRead(productNumber);
+            if (mapped == null) {
+                return PriceSeries.empty();
+            }
+            int count = mapped.getInt(COUNT_OFFSET);
+            int capacity = mapped.getInt(COUNT_OFFSET + 4);
+
+            IntBuffer days = column(mapped, capacity, 0, 0, count);
+            int start = lowerBound(days, count, toEpochDay(from));
+            int end = lowerBound(days, count, toEpochDay(to) + 1);
+            // from 이전의 마지막 지점부터 읽어야 구간 앞부분을 채울 수 있다.
+            if (start > 0) {
+                start--;
+            }
+            if (start >= end) {
+                return PriceSeries.empty();
+            }
+            int length = end - start;
+            PriceSeries points =
+                    new PriceSeries(
+                            column(mapped, capacity, 0, start, length),
+                            column(mapped, capacity, 1, start, length),
+                            column(mapped, capacity, 2, start, length),
+                            column(mapped, capacity, 3, start, length));
+            return PriceSeries.carryForward(points, from, to);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MappedByteBuffer mappedForRead(long productNumber) throws IOException {
+        Path file = fileOf(productNumber);
+        Object fileKey;
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            fileKey =
+                    attributes.fileKey() != null
+                            ? attributes.fileKey()
+                            : attributes.lastModifiedTime();
+        } catch (NoSuchFileException e) {
+            synchronized (mappedFiles) {
+                mappedFiles.remove(productNumber);
+            }
+            return null;
+        }
+        synchronized (mappedFiles) {
+            MappedFile cached = mappedFiles.get(productNumber);
+            if (cached != null && cached.fileKey().equals(fileKey)) {
+                return cached.buffer();
+            }
+        }
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        checkHeader(mapped, file);
+        synchronized (mappedFiles) {
+            mappedFiles.put(productNumber, new MappedFile(fileKey, mapped));
+        }
+        return mapped;
+    }
+
+    public boolean isEmpty() {
+        if (!Files.isDirectory(root)) {
+            return true;
+        }
+        try (Stream<Path> shards = Files.list(root)) {
+            return shards.findAny().isEmpty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** 마지막 날짜와 같으면 덮어쓰고, 이전 날짜면 무시한다. */
+    public synchronized boolean append(
+            long productNumber, int epochDay, int price, int originalPrice, int discountRate) {
+        Path file = fileOf(productNumber);
+        try {
+            if (!Files.exists(file)) {
+                writeNew(
+                        file,
+                        new int[] {epochDay},
+                        new int[] {price},
+                        new int[] {originalPrice},
+                        new int[] {discountRate},
+                        1);
+                return true;
+            }
+            try (FileChannel channel =
+                    FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                ByteBuffer header = read(channel, 0, HEADER_BYTES);
+                checkHeader(header, file);
+                int count = header.getInt(COUNT_OFFSET);
+                int capacity = header.getInt(COUNT_OFFSET + 4);
+
+                int index = count;
+                if (count > 0) {
+                    int lastDay =
+                            read(channel, offset(capacity, 0, count - 1), Integer.BYTES).getInt(0);
+                    if (lastDay > epochDay) {
+                        return false;
+                    }
+                    if (lastDay == epochDay) {
+                        index = count - 1;
+                    }
+                }
+                if (index == capacity) {
+                    grow(
+                            file,
+                            channel,
+                            count,
+                            capacity,
+                            epochDay,
+                            price,
+                            originalPrice,
+                            discountRate);
+                    return true;
+                }
+                writeInt(channel, offset(capacity, 0, index), epochDay);
+                writeInt(channel, offset(capacity, 1, index), price);
+                writeInt(channel, offset(capacity, 2, index), originalPrice);
+                writeInt(channel, offset(capacity, 3, index), discountRate);
+                if (index == count) {
+                    writeInt(channel, COUNT_OFFSET, count + 1);
+                }
+                return true;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** 상품의 전체 시계열을 통째로 교체한다. 콜드 스타트 시 히스토리로 채울 때 사용한다. */
+    public synchronized void replace(long productNumber, PriceSeries series) {
+        int size = series.size();
+        int[] days = new int[size];
+        int[] prices = new int[size];
+        int[] originalPrices = new int[size];
+        int[] discountRates = new int[size];
+        for (int i = 0; i < size; i++) {
+            days[i] = series.epochDay(i);
+            prices[i] = series.price(i);
+            originalPrices[i] = series.originalPrice(i);
+            discountRates[i] = series.discountRate(i);
+        }
+        try {
+            writeNew(fileOf(productNumber), days, prices, originalPrices, discountRates, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 꽉 찬 파일은 새 값까지 넣은 새 파일로 교체한다.
+    private void grow(
+            Path file,
+            FileChannel channel,
+            int count,
+            int capacity,
+            int epochDay,
+            int price,
+            int originalPrice,
+            int discountRate)
+            throws IOException {
+        int[][] columns = new int[COLUMNS][count + 1];
+        for (int column = 0; column < COLUMNS; column++) {
+            read(channel, offset(capacity, column, 0), count * Integer.BYTES)
+                    .asIntBuffer()
+                    .get(columns[column], 0, count);
+        }
+        columns[0][count] = epochDay;
+        columns[1][count] = price;
+        columns[2][count] = originalPrice;
+        columns[3][count] = discountRate;
+        writeNew(file, columns[0], columns[1], columns[2], columns[3], count + 1);
+    }
+
+    private void writeNew(
+            Path file,
+            int[] days,
+            int[] prices,
+            int[] originalPrices,
+            int[] discountRates,
+            int size)
+            throws IOException {
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < size * 2) {
+            capacity *= 2;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + COLUMNS * capacity * Integer.BYTES);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(size).putInt(capacity);
+        int[][] columns = {days, prices, originalPrices, discountRates};
+        for (int column = 0; column < COLUMNS; column++) {
+            buffer.position(offset(capacity, column, 0));
+            buffer.asIntBuffer().put(columns[column], 0, size);
+        }
+        buffer.rewind();
+
+        Files.createDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel =
+                FileChannel.open(
+                        temp,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING,
+                        StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        Files.move(
+                temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of price series file");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static void writeInt(FileChannel channel, long position, int value)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES).putInt(0, value);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+
+    private Path fileOf(long productNumber) {
+        String shard = String.format("%04d", Math.floorMod(productNumber, SHARDS));
+        return root.resolve(shard).resolve(productNumber + ".col");
+    }
+
+    private static void checkHeader(ByteBuffer mapped, Path file) {
+        if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION) {
+            throw new IllegalStateException("Unsupported price series file: " + file);
+        }
+    }
+
+    private static IntBuffer column(
+            ByteBuffer mapped, int capacity, int column, int start, int length) {
+        int from = offset(capacity, column, start);
+        return mapped.duplicate()
+                .position(from)
+                .limit(from + length * Integer.BYTES)
+                .slice()
+                .asIntBuffer();
+    }
+
+    private static int toEpochDay(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        return (int) Math.max(Integer.MIN_VALUE + 1, Math.min(Integer.MAX_VALUE - 1, epochDay));
+    }
+
+    private static int offset(int capacity, int column, int index) {
+        return HEADER_BYTES + (column * capacity + index) * Integer.BYTES;
+    }
+
+    // 여러 스레드가 같은 버퍼를 읽으므로 위치를 바꾸지 않는 절대 get 과 duplicate 로만 읽는다.
+    private record MappedFile(Object fileKey, MappedByteBuffer buffer) {}
+
+    private static int lowerBound(IntBuffer days, int count, int epochDay) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (days.get(mid) < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
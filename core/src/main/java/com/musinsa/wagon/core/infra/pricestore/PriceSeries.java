@@ -0,0 +1,127 @@
+package com.musinsa.wagon.core.infra.pricestore;
+
+import java.nio.IntBuffer;
+import java.time.LocalDate;
+
+/**
+ * 상품 하나의 일별 가격을 컬럼 단위 int 버퍼로 보여주는 읽기 전용 뷰. 포인트마다 객체를 만들지 않는다. 값이 없는
+ * originalPrice/discountRate 는 {@link #NO_VALUE} 로 표현한다.
+ *
+ * <p>product_histories 에는 값이 바뀐 날만 남으므로 저장소는 변경 지점을 읽은 뒤 {@link #carryForward} 로 일별 시리즈를
+ * 만들어 돌려준다.
+ */
+public final class PriceSeries {
+
+    public static final int NO_VALUE = -1;
+
+    private static final PriceSeries EMPTY =
+            new PriceSeries(
+                    IntBuffer.allocate(0),
+                    IntBuffer.allocate(0),
+                    IntBuffer.allocate(0),
+                    IntBuffer.allocate(0));
+
+    private final IntBuffer epochDays;
+    private final IntBuffer prices;
+    private final IntBuffer originalPrices;
+    private final IntBuffer discountRates;
+
+    PriceSeries(
+            IntBuffer epochDays,
+            IntBuffer prices,
+            IntBuffer originalPrices,
+            IntBuffer discountRates) {
+        this.epochDays = epochDays;
+        this.prices = prices;
+        this.originalPrices = originalPrices;
+        this.discountRates = discountRates;
+    }
+
+    public static PriceSeries empty() {
+        return EMPTY;
+    }
+
+    public static PriceSeries of(
+            int[] epochDays, int[] prices, int[] originalPrices, int[] discountRates, int size) {
+        return new PriceSeries(
+                IntBuffer.wrap(epochDays, 0, size).slice(),
+                IntBuffer.wrap(prices, 0, size).slice(),
+                IntBuffer.wrap(originalPrices, 0, size).slice(),
+                IntBuffer.wrap(discountRates, 0, size).slice());
+    }
+
+    /**
+     * 변경 지점을 from~to 의 일별 시리즈로 펼친다. 빈 날은 직전 값으로 채운다. from 이전의 마지막 지점을 함께 넘겨야 구간 앞부분이
+     * 채워지고, 첫 지점보다 앞선 날과 오늘 이후는 비운다. 이미 하루도 빠짐없는 시리즈면 그대로 돌려준다.
+     */
+    public static PriceSeries carryForward(PriceSeries points, LocalDate from, LocalDate to) {
+        if (points.isEmpty()) {
+            return points;
+        }
+        int size = points.size();
+        int firstDay = Math.max((int) from.toEpochDay(), points.epochDay(0));
+        int lastDay = (int) Math.min(to.toEpochDay(), LocalDate.now().toEpochDay());
+        if (lastDay < firstDay) {
+            return EMPTY;
+        }
+        int length = lastDay - firstDay + 1;
+        if (size == length
+                && points.epochDay(0) == firstDay
+                && points.epochDay(size - 1) == lastDay) {
+            return points;
+        }
+
+        int[] epochDays = new int[length];
+        int[] prices = new int[length];
+        int[] originalPrices = new int[length];
+        int[] discountRates = new int[length];
+        int point = 0;
+        for (int i = 0; i < length; i++) {
+            int day = firstDay + i;
+            while (point + 1 < size && points.epochDay(point + 1) <= day) {
+                point++;
+            }
+            epochDays[i] = day;
+            prices[i] = points.price(point);
+            originalPrices[i] = points.originalPrice(point);
+            discountRates[i] = points.discountRate(point);
+        }
+        return of(epochDays, prices, originalPrices, discountRates, length);
+    }
+
+    public int size() {
+        return epochDays.limit();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int epochDay(int index) {
+        return epochDays.get(index);
+    }
+
+    public LocalDate date(int index) {
+        return LocalDate.ofEpochDay(epochDays.get(index));
+    }
+
+    public int price(int index) {
+        return prices.get(index);
+    }
+
+    public int originalPrice(int index) {
+        return originalPrices.get(index);
+    }
+
+    public int discountRate(int index) {
+        return discountRates.get(index);
+    }
+
+    public static Integer toNullable(int value) {
+        return value == NO_VALUE ? null : value;
+    }
+
+    public static int fromNullable(Integer value) {
+        return value == null ? NO_VALUE : value;
+    }
+}
@@ -0,0 +1,22 @@
+package com.musinsa.wagon.core.infra.pricestore;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/** from~to 의 일별 시리즈. 오늘 이후는 채우지 않는다. */
+public interface PriceSeriesSource {
+
+    PriceSeries find(long productNumber, LocalDate from, LocalDate to);
+
+    /** 여러 상품을 한 번에 읽는다. 이력이 없는 상품은 빈 시리즈로 담는다. 기본 구현은 상품마다 find 를 부른다. */
+    default Map<Long, PriceSeries> findAll(
+            Collection<Long> productNumbers, LocalDate from, LocalDate to) {
+        Map<Long, PriceSeries> series = new HashMap<>(productNumbers.size() * 2);
+        for (Long productNumber : productNumbers) {
+            series.put(productNumber, find(productNumber, from, to));
+        }
+        return series;
+    }
+}
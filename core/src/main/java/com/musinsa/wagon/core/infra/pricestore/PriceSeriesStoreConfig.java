@@ -0,0 +1,29 @@
+package com.musinsa.wagon.core.infra.pricestore;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+
+@Configuration
+public class PriceSeriesStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "price-store", name = "enabled", havingValue = "true")
+    public MappedPriceSeriesStore mappedPriceSeriesStore(PriceStoreProperties properties) {
+        return new MappedPriceSeriesStore(
+                Path.of(properties.path()), properties.maxMappedFiles());
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "price-store",
+            name = "enabled",
+            havingValue = "false",
+            matchIfMissing = true)
+    public PriceSeriesSource jdbcPriceSeriesSource(JdbcTemplate jdbcTemplate) {
+        return new JdbcPriceSeriesSource(jdbcTemplate);
+    }
+}
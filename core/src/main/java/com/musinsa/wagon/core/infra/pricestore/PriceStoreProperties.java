@@ -0,0 +1,10 @@
+package com.musinsa.wagon.core.infra.pricestore;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "price-store")
+public record PriceStoreProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("./data/price-store") String path,
+        @DefaultValue("4096") int maxMappedFiles) {}
@@ -0,0 +1,74 @@
+package com.musinsa.wagon.core.infra.push;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 네트워크 없이 부하 테스트를 하기 위한 게이트웨이. multicast 한 번마다 지정한 지연만큼 멈추고, 지정한 비율만큼 토큰을 실패로
+ * 돌려준다.
+ */
+@Slf4j
+public class FakePushGateway implements PushGateway {
+
+    private final Duration latency;
+    private final double failureRate;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+
+    public FakePushGateway(Duration latency, double failureRate) {
+        this.latency = latency;
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public MulticastResult sendMulticast(PushMessage message, List<String> tokens) {
+        if (tokens.size() > MAX_MULTICAST_TOKENS) {
+            throw new IllegalArgumentException(
+                    "multicast supports up to " + MAX_MULTICAST_TOKENS + " tokens");
+        }
+        sleep();
+        requests.increment();
+
+        List<String> failedTokens = new ArrayList<>();
+        if (failureRate > 0) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (String token : tokens) {
+                if (random.nextDouble() < failureRate) {
+                    failedTokens.add(token);
+                }
+            }
+        }
+        int successCount = tokens.size() - failedTokens.size();
+        delivered.add(successCount);
+        log.debug(
+                "[FakePush] title={} tokens={} failed={}",
+                message.title(),
+                tokens.size(),
+                failedTokens.size());
+        return new MulticastResult(successCount, failedTokens);
+    }
+
+    public long requestCount() {
+        return requests.sum();
+    }
+
+    public long deliveredCount() {
+        return delivered.sum();
+    }
+
+    private void sleep() {
+        if (latency.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
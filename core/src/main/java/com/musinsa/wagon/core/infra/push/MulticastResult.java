@@ -0,0 +1,11 @@
+package com.musinsa.wagon.core.infra.push;
+
+import java.util.List;
+
+/** 한 번의 멀티캐스트 결과. 실패한 토큰만 돌려주고 나머지는 전송된 것으로 본다. */
+public record MulticastResult(int successCount, List<String> failedTokens) {
+
+    public static MulticastResult allDelivered(int tokenCount) {
+        return new MulticastResult(tokenCount, List.of());
+    }
+}
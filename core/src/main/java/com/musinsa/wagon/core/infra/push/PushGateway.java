@@ -0,0 +1,11 @@
+package com.musinsa.wagon.core.infra.push;
+
+import java.util.List;
+
+/** 푸시 전송 구현 교체 지점. FCM multicast 한 번에 보낼 수 있는 토큰 수에 맞춰 호출자가 토큰을 나눠 보낸다. */
+public interface PushGateway {
+
+    int MAX_MULTICAST_TOKENS = 500;
+
+    MulticastResult sendMulticast(PushMessage message, List<String> tokens);
+}
@@ -0,0 +1,19 @@
+package com.musinsa.wagon.core.infra.push;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PushGatewayConfig {
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "push",
+            name = "gateway",
+            havingValue = "fake",
+            matchIfMissing = true)
+    public PushGateway fakePushGateway(PushProperties properties) {
+        return new FakePushGateway(properties.fakeLatency(), properties.fakeFailureRate());
+    }
+}
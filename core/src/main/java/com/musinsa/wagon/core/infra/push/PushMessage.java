@@ -0,0 +1,5 @@
+package com.musinsa.wagon.core.infra.push;
+
+import java.util.Map;
+
+public record PushMessage(String title, String body, Map<String, String> data) {}
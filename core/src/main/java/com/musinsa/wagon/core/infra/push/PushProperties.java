@@ -0,0 +1,12 @@
+package com.musinsa.wagon.core.infra.push;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "push")
+public record PushProperties(
+        @DefaultValue("fake") String gateway,
+        @DefaultValue("20ms") Duration fakeLatency,
+        @DefaultValue("0.0") double fakeFailureRate) {}
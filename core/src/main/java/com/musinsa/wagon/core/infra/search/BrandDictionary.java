@@ -0,0 +1,112 @@
+package com.musinsa.wagon.core.infra.search;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.MultiTerms;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.util.BytesRef;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 브랜드 자동완성용 불변 스냅샷. 정규화된 브랜드 키를 정렬된 배열로 들고 있어 접두어 구간을 이진 탐색으로 찾는다. 리더가 바뀔
+ * 때만 brand_key 텀을 훑어 새로 만든다.
+ *
+ * <p>상품 수는 텀의 docFreq 라 병합 전까지 지워진 문서도 센다. 순위를 매기는 데만 쓰므로 그대로 둔다.
+ */
+final class BrandDictionary {
+
+    static final BrandDictionary EMPTY =
+            new BrandDictionary(new String[0], new String[0], new int[0]);
+
+    private final String[] keys;
+    private final String[] brands;
+    private final int[] productCounts;
+
+    private BrandDictionary(String[] keys, String[] brands, int[] productCounts) {
+        this.keys = keys;
+        this.brands = brands;
+        this.productCounts = productCounts;
+    }
+
+    static BrandDictionary load(IndexReader reader) throws IOException {
+        Terms terms = MultiTerms.getTerms(reader, ProductSearchSchema.BRAND_KEY);
+        if (terms == null) {
+            return EMPTY;
+        }
+        // 같은 키의 표기 변형은 구분자 덕분에 연달아 나온다. 가장 많이 쓰인 표기를 대표로 둔다.
+        List<Entry> entries = new ArrayList<>();
+        TermsEnum termsEnum = terms.iterator();
+        int bestCount = 0;
+        for (BytesRef term = termsEnum.next(); term != null; term = termsEnum.next()) {
+            String value = term.utf8ToString();
+            int separator = value.indexOf(ProductSearchSchema.BRAND_KEY_SEPARATOR);
+            String key = value.substring(0, separator);
+            String brand = value.substring(separator + 1);
+            int count = termsEnum.docFreq();
+            Entry last = entries.isEmpty() ? null : entries.get(entries.size() - 1);
+            if (last != null && last.key.equals(key)) {
+                last.productCount += count;
+                if (count > bestCount) {
+                    last.brand = brand;
+                    bestCount = count;
+                }
+            } else {
+                entries.add(new Entry(key, brand, count));
+                bestCount = count;
+            }
+        }
+        // 텀은 UTF-8 바이트 순이라 String 순서와 어긋날 수 있어 이진 탐색 전에 다시 정렬한다.
+        entries.sort(Comparator.comparing(entry -> entry.key));
+
+        String[] keys = new String[entries.size()];
+        String[] brands = new String[entries.size()];
+        int[] productCounts = new int[entries.size()];
+        for (int i = 0; i < keys.length; i++) {
+            Entry entry = entries.get(i);
+            keys[i] = entry.key;
+            brands[i] = entry.brand;
+            productCounts[i] = entry.productCount;
+        }
+        return new BrandDictionary(keys, brands, productCounts);
+    }
+
+    /** 접두어가 같은 브랜드를 상품 수가 많은 순으로 limit 개. */
+    List<BrandSuggestion> suggest(String prefix, int limit) {
+        String key = ProductSearchSchema.normalizeBrand(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        int from = Arrays.binarySearch(keys, key);
+        if (from < 0) {
+            from = -from - 1;
+        }
+        List<BrandSuggestion> matches = new ArrayList<>();
+        for (int i = from; i < keys.length && keys[i].startsWith(key); i++) {
+            matches.add(new BrandSuggestion(brands[i], productCounts[i]));
+        }
+        matches.sort(Comparator.comparingInt(BrandSuggestion::productCount).reversed());
+        return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    private static final class Entry {
+
+        private final String key;
+        private String brand;
+        private int productCount;
+
+        Entry(String key, String brand, int productCount) {
+            this.key = key;
+            this.brand = brand;
+            this.productCount = productCount;
+        }
+    }
+}
@@ -0,0 +1,3 @@
+package com.musinsa.wagon.core.infra.search;
+
+public record BrandSuggestion(String brand, int productCount) {}
@@ -0,0 +1,7 @@
+package com.musinsa.wagon.core.infra.search;
+
+import com.musinsa.wagon.core.entity.enums.ShopType;
+
+/** categoryPath 는 루트부터 " > " 로 이은 카테고리 이름. 카테고리가 없으면 null. */
+public record ProductSearchDocument(
+        long productId, ShopType shopType, String name, String brand, String categoryPath) {}
@@ -0,0 +1,79 @@
+package com.musinsa.wagon.core.infra.search;
+
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * 상품 검색 인덱스의 유일한 쓰기 쪽. Lucene 의 write.lock 때문에 한 경로에 프로세스 하나만 열 수 있다. 문서는 상품 id 로
+ * 덮어쓰므로 같은 상품을 여러 번 넣어도 하나만 남는다. 변경은 {@link #commit()} 해야 다른 프로세스에 보인다.
+ */
+public class ProductSearchIndexWriter implements Closeable {
+
+    private final Directory directory;
+    private final IndexWriter indexWriter;
+
+    public ProductSearchIndexWriter(Path path) {
+        try {
+            this.directory = FSDirectory.open(path);
+            IndexWriterConfig config = new IndexWriterConfig(ProductSearchSchema.analyzer());
+            config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+            this.indexWriter = new IndexWriter(directory, config);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void update(Collection<ProductSearchDocument> products) {
+        try {
+            for (ProductSearchDocument product : products) {
+                indexWriter.updateDocument(
+                        ProductSearchSchema.idTerm(product.productId()),
+                        ProductSearchSchema.toDocument(product));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(long productId) {
+        try {
+            indexWriter.deleteDocuments(ProductSearchSchema.idTerm(productId));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** 바뀐 것이 없으면 fsync 없이 false. */
+    public boolean commit() {
+        if (!indexWriter.hasUncommittedChanges()) {
+            return false;
+        }
+        try {
+            indexWriter.commit();
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int numDocs() {
+        return indexWriter.getDocStats().numDocs;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            indexWriter.close();
+        } finally {
+            directory.close();
+        }
+    }
+}
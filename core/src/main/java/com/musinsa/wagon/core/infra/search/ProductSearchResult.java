@@ -0,0 +1,13 @@
+package com.musinsa.wagon.core.infra.search;
+
+import java.util.List;
+
+/** 점수 순 상품 id. */
+public record ProductSearchResult(long totalHits, List<Long> productIds) {
+
+    private static final ProductSearchResult EMPTY = new ProductSearchResult(0, List.of());
+
+    public static ProductSearchResult empty() {
+        return EMPTY;
+    }
+}
@@ -0,0 +1,89 @@
+package com.musinsa.wagon.core.infra.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.Term;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 배치의 쓰기와 fo 의 검색이 같은 필드와 분석기를 쓰도록 한곳에 둔다.
+ *
+ * <p>name, brand, category 는 nori 형태소 분석으로 색인하고, 세 필드를 합친 all 필드로 "브랜드 + 상품명" 처럼 여러 필드에
+ * 걸친 검색어를 찾는다. brand_key 는 자동완성용으로 분석하지 않은 "정규화된 브랜드 + 구분자 + 원래 브랜드" 한 텀이다.
+ */
+final class ProductSearchSchema {
+
+    static final String ID = "id";
+    static final String SHOP_TYPE = "shop_type";
+    static final String NAME = "name";
+    static final String BRAND = "brand";
+    static final String CATEGORY = "category";
+    static final String ALL = "all";
+    static final String BRAND_KEY = "brand_key";
+
+    static final char BRAND_KEY_SEPARATOR = '\u001F';
+
+    private ProductSearchSchema() {}
+
+    static Analyzer analyzer() {
+        return new PerFieldAnalyzerWrapper(
+                new KoreanAnalyzer(), Map.of(BRAND_KEY, new KeywordAnalyzer()));
+    }
+
+    static Term idTerm(long productId) {
+        return new Term(ID, Long.toString(productId));
+    }
+
+    static Document toDocument(ProductSearchDocument product) {
+        Document document = new Document();
+        document.add(new StringField(ID, Long.toString(product.productId()), Field.Store.YES));
+        document.add(new StringField(SHOP_TYPE, product.shopType().name(), Field.Store.NO));
+        StringBuilder all = new StringBuilder();
+        addText(document, all, NAME, product.name());
+        addText(document, all, BRAND, product.brand());
+        addText(document, all, CATEGORY, product.categoryPath());
+        document.add(new TextField(ALL, all.toString(), Field.Store.NO));
+
+        String brandKey = normalizeBrand(product.brand());
+        if (!brandKey.isEmpty()) {
+            document.add(
+                    new StringField(
+                            BRAND_KEY,
+                            brandKey + BRAND_KEY_SEPARATOR + product.brand().strip(),
+                            Field.Store.NO));
+        }
+        return document;
+    }
+
+    /** 전각·대소문자·공백 차이를 없앤다. "Nike Korea" 와 "nikekorea" 는 같은 키다. */
+    static String normalizeBrand(String brand) {
+        if (brand == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(brand, Normalizer.Form.NFKC);
+        StringBuilder key = new StringBuilder(normalized.length());
+        normalized
+                .toLowerCase(Locale.ROOT)
+                .codePoints()
+                .filter(codePoint -> !Character.isWhitespace(codePoint))
+                .forEach(key::appendCodePoint);
+        return key.toString();
+    }
+
+    private static void addText(Document document, StringBuilder all, String field, String text) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        document.add(new TextField(field, text, Field.Store.NO));
+        all.append(text).append('\n');
+    }
+}
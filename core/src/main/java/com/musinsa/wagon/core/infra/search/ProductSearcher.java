@@ -0,0 +1,171 @@
+package com.musinsa.wagon.core.infra.search;
+
+import com.musinsa.wagon.core.entity.enums.ShopType;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배치가 쓰는 검색 인덱스를 읽기 전용으로 연다. refresh-interval 마다 새 커밋이 있는지 확인해 리더를 바꾸고, 바뀐 리더로
+ * 브랜드 자동완성 사전도 다시 만든다. 검색 요청은 그 사이 만들어 둔 리더와 사전만 쓰므로 디스크 I/O 외의 대기가 없다.
+ *
+ * <p>배치가 아직 인덱스를 만들지 않았으면 빈 결과를 돌려주고, 다음 확인 때 다시 열어 본다.
+ */
+@Slf4j
+public class ProductSearcher implements Closeable {
+
+    private static final float NAME_BOOST = 2.0f;
+    private static final float BRAND_BOOST = 3.0f;
+
+    private final Directory directory;
+    private final Duration refreshInterval;
+    private final Analyzer analyzer = ProductSearchSchema.analyzer();
+    private final QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+
+    private volatile SearcherManager searcherManager;
+    private volatile BrandDictionary brandDictionary = BrandDictionary.EMPTY;
+    private IndexReader brandReader;
+    private ScheduledExecutorService refresher;
+
+    public ProductSearcher(Path path, Duration refreshInterval) {
+        try {
+            this.directory = FSDirectory.open(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.refreshInterval = refreshInterval;
+    }
+
+    public void start() {
+        refresh();
+        refresher =
+                Executors.newSingleThreadScheduledExecutor(
+                        new CustomizableThreadFactory("search-index-refresh-"));
+        long millis = refreshInterval.toMillis();
+        refresher.scheduleWithFixedDelay(this::refresh, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /** 검색어의 모든 형태소가 상품명·브랜드·카테고리 중 어딘가에 있어야 하고, 브랜드·상품명에서 맞으면 점수가 높다. */
+    public ProductSearchResult search(String text, ShopType shopType, int offset, int limit) {
+        SearcherManager manager = searcherManager;
+        if (manager == null) {
+            return ProductSearchResult.empty();
+        }
+        Query all =
+                queryBuilder.createBooleanQuery(
+                        ProductSearchSchema.ALL, text, BooleanClause.Occur.MUST);
+        if (all == null) {
+            return ProductSearchResult.empty();
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder().add(all, BooleanClause.Occur.MUST);
+        addBoost(query, ProductSearchSchema.NAME, text, NAME_BOOST);
+        addBoost(query, ProductSearchSchema.BRAND, text, BRAND_BOOST);
+        if (shopType != null) {
+            query.add(
+                    new TermQuery(new Term(ProductSearchSchema.SHOP_TYPE, shopType.name())),
+                    BooleanClause.Occur.FILTER);
+        }
+
+        try {
+            IndexSearcher searcher = manager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query.build(), offset + limit);
+                List<Long> productIds = new ArrayList<>(limit);
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int i = offset; i < scoreDocs.length; i++) {
+                    String id = searcher.doc(scoreDocs[i].doc).get(ProductSearchSchema.ID);
+                    productIds.add(Long.parseLong(id));
+                }
+                return new ProductSearchResult(topDocs.totalHits.value, productIds);
+            } finally {
+                manager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public List<BrandSuggestion> suggestBrands(String prefix, int limit) {
+        return brandDictionary.suggest(prefix, limit);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+        SearcherManager manager = searcherManager;
+        try {
+            if (manager != null) {
+                manager.close();
+            }
+        } finally {
+            directory.close();
+        }
+    }
+
+    private void addBoost(BooleanQuery.Builder query, String field, String text, float boost) {
+        Query fieldQuery =
+                queryBuilder.createBooleanQuery(field, text, BooleanClause.Occur.SHOULD);
+        if (fieldQuery != null) {
+            query.add(new BoostQuery(fieldQuery, boost), BooleanClause.Occur.SHOULD);
+        }
+    }
+
+    // 갱신 스레드만 호출한다. brandReader 는 사전을 만든 리더인지 비교하는 데만 쓴다.
+    private void refresh() {
+        try {
+            SearcherManager manager = searcherManager;
+            if (manager == null) {
+                if (!DirectoryReader.indexExists(directory)) {
+                    return;
+                }
+                manager = new SearcherManager(directory, null);
+                searcherManager = manager;
+            } else {
+                manager.maybeRefresh();
+            }
+            IndexSearcher searcher = manager.acquire();
+            try {
+                IndexReader reader = searcher.getIndexReader();
+                if (reader != brandReader) {
+                    brandDictionary = BrandDictionary.load(reader);
+                    brandReader = reader;
+                }
+            } finally {
+                manager.release(searcher);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("[Search] failed to refresh the search index", e);
+        }
+    }
+}
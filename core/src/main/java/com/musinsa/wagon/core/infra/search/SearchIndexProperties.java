@@ -0,0 +1,17 @@
+package com.musinsa.wagon.core.infra.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 배치가 path 의 Lucene 인덱스에 쓰고 commit-interval 마다 커밋하면, fo 는 같은 경로를 refresh-interval 마다 다시 열어
+ * 커밋된 변경을 본다. 두 프로세스가 같은 디스크를 봐야 한다.
+ */
+@ConfigurationProperties(prefix = "search-index")
+public record SearchIndexProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("./data/search-index") String path,
+        @DefaultValue("5s") Duration commitInterval,
+        @DefaultValue("1s") Duration refreshInterval) {}
@@ -0,0 +1,40 @@
+package com.musinsa.wagon.core.notification;
+
+import com.musinsa.wagon.core.entity.Notification;
+import com.musinsa.wagon.core.utils.TransactionSynchronizations;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+/** 같은 프로세스에 안 읽은 수 캐시가 있으면 알림 생성과 읽음 처리를 커밋 후 반영한다. */
+public class UnreadCountSyncListener {
+
+    private final ObjectProvider<UnreadNotificationCounter> unreadNotificationCounter;
+
+    public UnreadCountSyncListener(
+            ObjectProvider<UnreadNotificationCounter> unreadNotificationCounter) {
+        this.unreadNotificationCounter = unreadNotificationCounter;
+    }
+
+    @PostPersist
+    public void onCreate(Notification notification) {
+        if (Boolean.TRUE.equals(notification.getIsRead())) {
+            return;
+        }
+        Long userId = notification.getUser().getId();
+        TransactionSynchronizations.afterCommit(
+                () -> unreadNotificationCounter.ifAvailable(counter -> counter.increment(userId)));
+    }
+
+    @PostUpdate
+    public void onUpdate(Notification notification) {
+        if (!notification.consumeReadTransition()) {
+            return;
+        }
+        Long userId = notification.getUser().getId();
+        TransactionSynchronizations.afterCommit(
+                () -> unreadNotificationCounter.ifAvailable(counter -> counter.decrement(userId)));
+    }
+}
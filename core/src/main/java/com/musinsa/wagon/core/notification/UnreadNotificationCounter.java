@@ -0,0 +1,85 @@
+package com.musinsa.wagon.core.notification;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.musinsa.wagon.core.repository.NotificationRepository;
+import com.musinsa.wagon.core.repository.NotificationRepository.UnreadCount;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 안 읽은 알림 수 캐시. Caffeine(W-TinyLFU) 으로 크기를 제한하고, 캐시에 있는 사용자만 증감한다. 캐시에 없으면 다음
+ * 조회에서 DB 로 한 번 센다.
+ *
+ * <p>배치가 만든 알림처럼 다른 프로세스에서의 변경은 {@link #reconcile()} 이 주기적으로 DB 값으로 덮어써 맞춘다.
+ */
+@Slf4j
+public class UnreadNotificationCounter {
+
+    private static final int RECONCILE_CHUNK_SIZE = 1000;
+
+    private final NotificationRepository notificationRepository;
+    private final Cache<Long, Integer> counts;
+
+    public UnreadNotificationCounter(
+            NotificationRepository notificationRepository,
+            long maximumSize,
+            Duration expireAfterAccess) {
+        this.notificationRepository = notificationRepository;
+        this.counts =
+                Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfterAccess(expireAfterAccess)
+                        .build();
+    }
+
+    public int get(Long userId) {
+        return counts.get(
+                userId, id -> (int) notificationRepository.countByUserIdAndIsReadFalse(id));
+    }
+
+    public void increment(Long userId) {
+        counts.asMap().computeIfPresent(userId, (id, count) -> count + 1);
+    }
+
+    public void decrement(Long userId) {
+        counts.asMap().computeIfPresent(userId, (id, count) -> Math.max(0, count - 1));
+    }
+
+    public void reset(Long userId) {
+        counts.put(userId, 0);
+    }
+
+    public void reconcile() {
+        long start = System.nanoTime();
+        List<Long> userIds = new ArrayList<>(counts.asMap().keySet());
+        int corrected = 0;
+        for (int from = 0; from < userIds.size(); from += RECONCILE_CHUNK_SIZE) {
+            List<Long> slice =
+                    userIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, userIds.size()));
+            Map<Long, Integer> actual = new HashMap<>(slice.size() * 2);
+            for (UnreadCount count : notificationRepository.countUnreadByUserIds(slice)) {
+                actual.put(count.getUserId(), (int) count.getCount());
+            }
+            for (Long userId : slice) {
+                int value = actual.getOrDefault(userId, 0);
+                Integer cached = counts.getIfPresent(userId);
+                if (cached != null && cached != value) {
+                    counts.asMap().computeIfPresent(userId, (id, count) -> value);
+                    corrected++;
+                }
+            }
+        }
+        log.debug(
+                "[UnreadCounter] reconciled users={} corrected={} elapsed={}ms",
+                userIds.size(),
+                corrected,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,84 @@
+package com.musinsa.wagon.core.price;
+
+/**
+ * 슬라이딩 윈도우 최고/최저가를 위한 단조 덱. (epochDay, price) 를 long 하나에 담아 원형 버퍼로 관리한다.
+ */
+final class MonotonicPriceDeque {
+
+    private final boolean keepMax;
+    private long[] entries = new long[4];
+    private int head;
+    private int size;
+
+    MonotonicPriceDeque(boolean keepMax) {
+        this.keepMax = keepMax;
+    }
+
+    void push(int epochDay, int price) {
+        while (size > 0 && dominates(price, priceOf(entries[tail()]))) {
+            size--;
+        }
+        if (size == entries.length) {
+            grow();
+        }
+        entries[(head + size) % entries.length] = pack(epochDay, price);
+        size++;
+    }
+
+    void evictUpTo(int epochDay) {
+        while (size > 0 && dayOf(entries[head]) <= epochDay) {
+            head = (head + 1) % entries.length;
+            size--;
+        }
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int front() {
+        return priceOf(entries[head]);
+    }
+
+    MonotonicPriceDeque copy() {
+        MonotonicPriceDeque copy = new MonotonicPriceDeque(keepMax);
+        copy.entries = entries.clone();
+        copy.head = head;
+        copy.size = size;
+        return copy;
+    }
+
+    void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    private boolean dominates(int price, int other) {
+        return keepMax ? price >= other : price <= other;
+    }
+
+    private int tail() {
+        return (head + size - 1) % entries.length;
+    }
+
+    private void grow() {
+        long[] grown = new long[entries.length * 2];
+        for (int i = 0; i < size; i++) {
+            grown[i] = entries[(head + i) % entries.length];
+        }
+        entries = grown;
+        head = 0;
+    }
+
+    private static long pack(int epochDay, int price) {
+        return ((long) epochDay << 32) | (price & 0xFFFFFFFFL);
+    }
+
+    private static int dayOf(long entry) {
+        return (int) (entry >> 32);
+    }
+
+    private static int priceOf(long entry) {
+        return (int) entry;
+    }
+}
@@ -0,0 +1,66 @@
+package com.musinsa.wagon.core.price;
+
+import com.musinsa.wagon.core.entity.ProductDetail;
+import com.musinsa.wagon.core.entity.enums.PriceLabel;
+
+/**
+ * 새 가격을 그 가격이 반영되기 전의 통계와 비교해 라벨을 정한다. 비교 몇 번으로 끝나고 enum 상수만 돌려주므로 적재 경로에서 상품마다
+ * 불러도 할당이 없다.
+ *
+ * <ul>
+ *   <li>ALL_TIME_LOW: 역대 최저가보다 낮거나, 가격이 움직인 적 있는 상품이 역대 최저가와 같을 때
+ *   <li>GOOD_DEAL: 90일 동안 가격이 움직였고 현재가가 90일 최저가의 105% 이하
+ *   <li>EXPENSIVE: 30일 평균가의 110% 이상
+ *   <li>NORMAL: 그 밖의 경우와 히스토리가 없는 상품
+ * </ul>
+ */
+public final class PriceLabelClassifier {
+
+    static final int GOOD_DEAL_PERCENT_OF_LOW90 = 105;
+    static final int EXPENSIVE_PERCENT_OF_AVG30 = 110;
+
+    private PriceLabelClassifier() {}
+
+    public static PriceLabel classify(
+            int price, int allTimeLow, int allTimeHigh, int low90, int high90, int avg30) {
+        if (price <= 0 || allTimeLow <= 0) {
+            return PriceLabel.NORMAL;
+        }
+        if (price < allTimeLow || (price == allTimeLow && allTimeLow < allTimeHigh)) {
+            return PriceLabel.ALL_TIME_LOW;
+        }
+        if (low90 > 0
+                && low90 < high90
+                && price * 100L <= low90 * (long) GOOD_DEAL_PERCENT_OF_LOW90) {
+            return PriceLabel.GOOD_DEAL;
+        }
+        if (avg30 > 0 && price * 100L >= avg30 * (long) EXPENSIVE_PERCENT_OF_AVG30) {
+            return PriceLabel.EXPENSIVE;
+        }
+        return PriceLabel.NORMAL;
+    }
+
+    public static PriceLabel classify(int price, RollingPriceStatistics statistics) {
+        return classify(
+                price,
+                statistics.getAllTimeLowPrice(),
+                statistics.getAllTimeHighPrice(),
+                statistics.getLowPrice90(),
+                statistics.getHighPrice90(),
+                statistics.getAvgPrice30());
+    }
+
+    public static PriceLabel classify(int price, ProductDetail productDetail) {
+        return classify(
+                price,
+                valueOf(productDetail.getAllTimeLowPrice()),
+                valueOf(productDetail.getAllTimeHighPrice()),
+                valueOf(productDetail.getLowPrice90()),
+                valueOf(productDetail.getHighPrice90()),
+                valueOf(productDetail.getAvgPrice30()));
+    }
+
+    private static int valueOf(Integer price) {
+        return price == null ? 0 : price;
+    }
+}
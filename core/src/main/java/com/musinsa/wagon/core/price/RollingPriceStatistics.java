@@ -0,0 +1,188 @@
+package com.musinsa.wagon.core.price;
+
+import com.musinsa.wagon.core.entity.ProductDetail;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 상품 하나의 30/90일 최고·최저·평균가와 역대 최고·최저가를 스냅샷 단위로 갱신한다.
+ *
+ * <p>하루 한 건의 가격을 90칸 원형 버퍼에 두고 구간 합계는 누적값으로, 최고/최저는 단조 덱으로 유지하므로 스냅샷 한 건당
+ * 분할 상환 O(1) 이다. 이미 반영한 날짜 이하의 스냅샷은 무시하므로 같은 청크를 재시도해도 안전하다.
+ */
+public class RollingPriceStatistics {
+
+    public static final int SHORT_WINDOW_DAYS = 30;
+    public static final int LONG_WINDOW_DAYS = 90;
+
+    private final int[] dailyPrices;
+    private final MonotonicPriceDeque high30;
+    private final MonotonicPriceDeque low30;
+    private final MonotonicPriceDeque high90;
+    private final MonotonicPriceDeque low90;
+
+    private int lastEpochDay = Integer.MIN_VALUE;
+    private long sum30;
+    private long sum90;
+    private int count30;
+    private int count90;
+    private int allTimeHigh;
+    private int allTimeLow;
+
+    public RollingPriceStatistics() {
+        this.dailyPrices = new int[LONG_WINDOW_DAYS];
+        this.high30 = new MonotonicPriceDeque(true);
+        this.low30 = new MonotonicPriceDeque(false);
+        this.high90 = new MonotonicPriceDeque(true);
+        this.low90 = new MonotonicPriceDeque(false);
+    }
+
+    private RollingPriceStatistics(RollingPriceStatistics source) {
+        this.dailyPrices = source.dailyPrices.clone();
+        this.high30 = source.high30.copy();
+        this.low30 = source.low30.copy();
+        this.high90 = source.high90.copy();
+        this.low90 = source.low90.copy();
+        this.lastEpochDay = source.lastEpochDay;
+        this.sum30 = source.sum30;
+        this.sum90 = source.sum90;
+        this.count30 = source.count30;
+        this.count90 = source.count90;
+        this.allTimeHigh = source.allTimeHigh;
+        this.allTimeLow = source.allTimeLow;
+    }
+
+    /** 트랜잭션 안에서는 복사본에 반영하고 커밋된 뒤에 원본에 반영할 때 쓴다. */
+    public RollingPriceStatistics copy() {
+        return new RollingPriceStatistics(this);
+    }
+
+    public boolean record(LocalDate date, int price) {
+        return record((int) date.toEpochDay(), price);
+    }
+
+    public boolean record(int epochDay, int price) {
+        if (price <= 0 || epochDay <= lastEpochDay) {
+            return false;
+        }
+        advanceTo(epochDay);
+
+        dailyPrices[slot(epochDay)] = price;
+        sum30 += price;
+        sum90 += price;
+        count30++;
+        count90++;
+
+        high30.evictUpTo(epochDay - SHORT_WINDOW_DAYS);
+        low30.evictUpTo(epochDay - SHORT_WINDOW_DAYS);
+        high90.evictUpTo(epochDay - LONG_WINDOW_DAYS);
+        low90.evictUpTo(epochDay - LONG_WINDOW_DAYS);
+        high30.push(epochDay, price);
+        low30.push(epochDay, price);
+        high90.push(epochDay, price);
+        low90.push(epochDay, price);
+
+        if (allTimeHigh == 0 || price > allTimeHigh) {
+            allTimeHigh = price;
+        }
+        if (allTimeLow == 0 || price < allTimeLow) {
+            allTimeLow = price;
+        }
+        lastEpochDay = epochDay;
+        return true;
+    }
+
+    /** 값이 바뀐 날만 남은 이력을 복원하거나 크롤링이 빠진 날 뒤의 스냅샷을 반영할 때 빈 날을 마지막 가격으로 채운다. */
+    public void carryForwardTo(int epochDay) {
+        if (lastEpochDay == Integer.MIN_VALUE) {
+            return;
+        }
+        int price = dailyPrices[slot(lastEpochDay)];
+        // 90일 넘게 비었으면 창 전체가 같은 가격이므로 마지막 90일만 채워도 결과가 같다.
+        int from = Math.max(lastEpochDay + 1, epochDay - LONG_WINDOW_DAYS + 1);
+        for (int day = from; day <= epochDay; day++) {
+            record(day, price);
+        }
+    }
+
+    public boolean isEmpty() {
+        return count90 == 0;
+    }
+
+    public int getLastEpochDay() {
+        return lastEpochDay;
+    }
+
+    public int getHighPrice30() {
+        return high30.isEmpty() ? 0 : high30.front();
+    }
+
+    public int getLowPrice30() {
+        return low30.isEmpty() ? 0 : low30.front();
+    }
+
+    public int getAvgPrice30() {
+        return count30 == 0 ? 0 : (int) Math.round((double) sum30 / count30);
+    }
+
+    public int getHighPrice90() {
+        return high90.isEmpty() ? 0 : high90.front();
+    }
+
+    public int getLowPrice90() {
+        return low90.isEmpty() ? 0 : low90.front();
+    }
+
+    public int getAvgPrice90() {
+        return count90 == 0 ? 0 : (int) Math.round((double) sum90 / count90);
+    }
+
+    public int getAllTimeHighPrice() {
+        return allTimeHigh;
+    }
+
+    public int getAllTimeLowPrice() {
+        return allTimeLow;
+    }
+
+    public void applyTo(ProductDetail productDetail) {
+        if (isEmpty()) {
+            return;
+        }
+        productDetail.updatePriceStatistics30(getHighPrice30(), getLowPrice30(), getAvgPrice30());
+        productDetail.updatePriceStatistics90(getHighPrice90(), getLowPrice90(), getAvgPrice90());
+        productDetail.updateAllTimePrices(allTimeHigh, allTimeLow);
+    }
+
+    // 지나간 날짜의 칸을 비우며 30/90일 구간 합계에서 빠지는 가격을 뺀다.
+    private void advanceTo(int epochDay) {
+        if (lastEpochDay == Integer.MIN_VALUE || epochDay - lastEpochDay >= LONG_WINDOW_DAYS) {
+            Arrays.fill(dailyPrices, 0);
+            sum30 = sum90 = 0;
+            count30 = count90 = 0;
+            high30.clear();
+            low30.clear();
+            high90.clear();
+            low90.clear();
+            return;
+        }
+        for (int day = lastEpochDay + 1; day <= epochDay; day++) {
+            int leaving30 = dailyPrices[slot(day - SHORT_WINDOW_DAYS)];
+            if (leaving30 > 0) {
+                sum30 -= leaving30;
+                count30--;
+            }
+            int leaving90 = dailyPrices[slot(day)];
+            if (leaving90 > 0) {
+                sum90 -= leaving90;
+                count90--;
+                dailyPrices[slot(day)] = 0;
+            }
+        }
+    }
+
+    private static int slot(int epochDay) {
+        return Math.floorMod(epochDay, LONG_WINDOW_DAYS);
+    }
+}
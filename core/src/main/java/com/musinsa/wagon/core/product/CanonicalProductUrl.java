@@ -0,0 +1,11 @@
+package com.musinsa.wagon.core.product;
+
+import com.musinsa.wagon.core.entity.enums.ShopType;
+
+/** 쇼핑몰과 상품 번호로 정규화한 상품 URL. 같은 상품은 어떤 형태의 URL 로 들어와도 같은 값이 된다. */
+public record CanonicalProductUrl(ShopType shopType, long productNumber, String url) {
+
+    public String key() {
+        return shopType.name() + ':' + productNumber;
+    }
+}
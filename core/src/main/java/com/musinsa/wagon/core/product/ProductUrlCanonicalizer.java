@@ -0,0 +1,131 @@
+package com.musinsa.wagon.core.product;
+
+import com.musinsa.wagon.core.entity.enums.ShopType;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 쇼핑몰별 URL 규칙으로 상품 번호를 뽑아 정규 URL 을 만든다. 추적 파라미터, 모바일 호스트, 앱 경로처럼 상품과 무관한 부분은
+ * 모두 버린다.
+ */
+public final class ProductUrlCanonicalizer {
+
+    private static final Map<ShopType, Rule> RULES = new EnumMap<>(ShopType.class);
+
+    static {
+        RULES.put(
+                ShopType.MUSINSA,
+                new Rule(
+                        "musinsa.com",
+                        Pattern.compile("^(?:/app)?/(?:goods|products)/(\\d+)"),
+                        null,
+                        "https://www.musinsa.com/products/"));
+        RULES.put(
+                ShopType.ZIGZAG,
+                new Rule(
+                        "zigzag.kr",
+                        Pattern.compile("^/(?:catalog/products|p)/(\\d+)"),
+                        Pattern.compile("(?:^|&)product_id=(\\d+)"),
+                        "https://zigzag.kr/catalog/products/"));
+        RULES.put(
+                ShopType.ABLY,
+                new Rule(
+                        "a-bly.com",
+                        Pattern.compile("^/(?:app/)?goods/(\\d+)"),
+                        null,
+                        "https://m.a-bly.com/goods/"));
+    }
+
+    private ProductUrlCanonicalizer() {}
+
+    /** 호스트로 쇼핑몰을 판단한다. 지원하지 않는 URL 이면 빈 값. */
+    public static Optional<CanonicalProductUrl> canonicalize(String productUrl) {
+        URI uri = parse(productUrl);
+        if (uri == null) {
+            return Optional.empty();
+        }
+        for (Map.Entry<ShopType, Rule> entry : RULES.entrySet()) {
+            if (entry.getValue().matchesHost(uri)) {
+                return entry.getValue().canonicalize(entry.getKey(), uri);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public static Optional<CanonicalProductUrl> canonicalize(
+            ShopType shopType, String productUrl) {
+        URI uri = parse(productUrl);
+        Rule rule = RULES.get(shopType);
+        if (uri == null || rule == null || !rule.matchesHost(uri)) {
+            return Optional.empty();
+        }
+        return rule.canonicalize(shopType, uri);
+    }
+
+    /** 크롤러가 읽은 상품 번호로 정규 URL 을 만든다. */
+    public static CanonicalProductUrl of(ShopType shopType, long productNumber) {
+        Rule rule = RULES.get(shopType);
+        if (rule == null) {
+            throw new IllegalArgumentException("Unsupported shop type: " + shopType);
+        }
+        return new CanonicalProductUrl(
+                shopType, productNumber, rule.canonicalPrefix() + productNumber);
+    }
+
+    private static URI parse(String productUrl) {
+        if (productUrl == null || productUrl.isBlank()) {
+            return null;
+        }
+        String trimmed = productUrl.strip();
+        if (!trimmed.contains("://")) {
+            trimmed = "https://" + trimmed;
+        }
+        try {
+            URI uri = new URI(trimmed);
+            return uri.getHost() == null ? null : uri;
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
+    private record Rule(
+            String hostSuffix, Pattern pathPattern, Pattern queryPattern, String canonicalPrefix) {
+
+        boolean matchesHost(URI uri) {
+            String host = uri.getHost().toLowerCase(Locale.ROOT);
+            return host.equals(hostSuffix) || host.endsWith('.' + hostSuffix);
+        }
+
+        Optional<CanonicalProductUrl> canonicalize(ShopType shopType, URI uri) {
+            String productNumber = find(pathPattern, uri.getPath());
+            if (productNumber == null && queryPattern != null) {
+                productNumber = find(queryPattern, uri.getQuery());
+            }
+            if (productNumber == null) {
+                return Optional.empty();
+            }
+            try {
+                long number = Long.parseLong(productNumber);
+                return Optional.of(
+                        new CanonicalProductUrl(shopType, number, canonicalPrefix + number));
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+
+        private static String find(Pattern pattern, String value) {
+            if (value == null) {
+                return null;
+            }
+            Matcher matcher = pattern.matcher(value);
+            return matcher.find() ? matcher.group(1) : null;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.musinsa.wagon.core.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 정규화한 상품 키에서 상품 id 로 가는 메모리 인덱스. 없으면 DB 를 한 번 보고 찾은 것만 담는다. 아직 수집하지 않은 상품은 담지
+ * 않으므로 다른 프로세스가 나중에 적재한 상품도 다음 조회에서 바로 보인다. 상품은 지워지지 않으므로 무효화할 필요가 없다.
+ */
+@Component
+public class ProductUrlIndex {
+
+    private static final String SELECT_PRODUCT_ID_SQL =
+            """
+            SELECT id
+              FROM products
+             WHERE product_number = :productNumber
+               AND shop_type = :shopType
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final Cache<String, Long> productIds;
+
+    public ProductUrlIndex(
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            @Value("${product-url-index.maximum-size:1000000}") long maximumSize) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.productIds = Caffeine.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    public Optional<Long> find(CanonicalProductUrl productUrl) {
+        Long productId = productIds.getIfPresent(productUrl.key());
+        if (productId != null) {
+            return Optional.of(productId);
+        }
+        List<Long> ids =
+                namedParameterJdbcTemplate.queryForList(
+                        SELECT_PRODUCT_ID_SQL,
+                        new MapSqlParameterSource()
+                                .addValue("productNumber", productUrl.productNumber())
+                                .addValue("shopType", productUrl.shopType().name()),
+                        Long.class);
+        if (ids.isEmpty()) {
+            return Optional.empty();
+        }
+        productIds.put(productUrl.key(), ids.get(0));
+        return Optional.of(ids.get(0));
+    }
+
+    public void register(CanonicalProductUrl productUrl, Long productId) {
+        productIds.put(productUrl.key(), productId);
+    }
+}
@@ -0,0 +1,31 @@
+package com.musinsa.wagon.core.product;
+
+import com.musinsa.wagon.core.entity.Product;
+import com.musinsa.wagon.core.utils.TransactionSynchronizations;
+
+import jakarta.persistence.PostUpdate;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+
+/** 화면에 보이는 값을 바꾸는 Product 메서드가 불린 경우에만 커밋 후 화면 캐시 버전을 올린다. */
+public class ProductViewInvalidationListener {
+
+    private final ObjectProvider<ProductViewVersions> productViewVersions;
+
+    public ProductViewInvalidationListener(
+            ObjectProvider<ProductViewVersions> productViewVersions) {
+        this.productViewVersions = productViewVersions;
+    }
+
+    @PostUpdate
+    public void onUpdate(Product product) {
+        if (!product.consumeViewChange()) {
+            return;
+        }
+        List<Long> productIds = List.of(product.getId());
+        TransactionSynchronizations.afterCommit(
+                () -> productViewVersions.ifAvailable(versions -> versions.bump(productIds)));
+    }
+}
@@ -0,0 +1,43 @@
+package com.musinsa.wagon.core.product;
+
+import com.musinsa.wagon.core.infra.cache.SharedCache;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 상품 화면 캐시의 버전 카운터. 배치가 가격·리뷰·좋아요·가짜 할인 정보를 바꾸면 커밋 후 버전을 올리고, fo 는 버전이 들어간 키로만
+ * 캐시를 읽는다. 옛 버전의 항목은 지우지 않아도 다시 읽히지 않고 TTL 로 사라진다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductViewVersions {
+
+    private static final String VERSION_KEY_PREFIX = "product:view:version:";
+
+    private final SharedCache sharedCache;
+
+    public long current(Long productId) {
+        return sharedCache.counters(List.of(versionKey(productId))).get(0);
+    }
+
+    public void bump(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(productIds.size());
+        for (Long productId : productIds) {
+            keys.add(versionKey(productId));
+        }
+        sharedCache.increment(keys);
+    }
+
+    private static String versionKey(Long productId) {
+        return VERSION_KEY_PREFIX + productId;
+    }
+}
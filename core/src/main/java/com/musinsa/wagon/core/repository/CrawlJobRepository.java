@@ -0,0 +1,20 @@
+package com.musinsa.wagon.core.repository;
+
+import com.musinsa.wagon.core.entity.CrawlJob;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CrawlJobRepository extends JpaRepository<CrawlJob, Long> {
+
+    @Modifying
+    @Query(
+            "update CrawlJob j set j.successCount = :successCount, j.failCount = :failCount"
+                    + " where j.id = :id")
+    int updateProgress(
+            @Param("id") Long id,
+            @Param("successCount") Integer successCount,
+            @Param("failCount") Integer failCount);
+}
@@ -0,0 +1,7 @@
+package com.musinsa.wagon.core.repository;
+
+import com.musinsa.wagon.core.entity.FakeDiscountHistory;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface FakeDiscountHistoryRepository extends JpaRepository<FakeDiscountHistory, Long> {}
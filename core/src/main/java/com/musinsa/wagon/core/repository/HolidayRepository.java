@@ -0,0 +1,17 @@
+package com.musinsa.wagon.core.repository;
+
+import com.musinsa.wagon.core.entity.Holiday;
+
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface HolidayRepository extends JpaRepository<Holiday, Long> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Holiday> findAllByIsActiveTrue();
+}
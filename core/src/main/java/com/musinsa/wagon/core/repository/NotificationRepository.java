@@ -0,0 +1,34 @@
+package com.musinsa.wagon.core.repository;
+
+import com.musinsa.wagon.core.entity.Notification;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    long countByUserIdAndIsReadFalse(Long userId);
+
+    @Query(
+            "select n.user.id as userId, count(n) as count from Notification n"
+                    + " where n.user.id in :userIds and n.isRead = false group by n.user.id")
+    List<UnreadCount> countUnreadByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query(
+            "update Notification n set n.isRead = true"
+                    + " where n.user.id = :userId and n.isRead = false")
+    int markAllAsRead(@Param("userId") Long userId);
+
+    interface UnreadCount {
+
+        Long getUserId();
+
+        long getCount();
+    }
+}
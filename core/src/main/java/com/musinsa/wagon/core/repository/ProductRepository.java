@@ -0,0 +1,19 @@
+package com.musinsa.wagon.core.repository;
+
+import com.musinsa.wagon.core.entity.Product;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ProductRepository extends JpaRepository<Product, Long> {
+
+    @Query(
+            "select p from Product p"
+                    + " left join fetch p.productDetail"
+                    + " left join fetch p.category"
+                    + " where p.id = :id")
+    Optional<Product> findWithDetailAndCategoryById(@Param("id") Long id);
+}
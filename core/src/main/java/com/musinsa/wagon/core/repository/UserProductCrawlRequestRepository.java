@@ -0,0 +1,13 @@
+package com.musinsa.wagon.core.repository;
+
+import com.musinsa.wagon.core.entity.UserProductCrawlRequest;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface UserProductCrawlRequestRepository
+        extends JpaRepository<UserProductCrawlRequest, Long> {
+
+    Optional<UserProductCrawlRequest> findByIdAndUserId(Long id, Long userId);
+}
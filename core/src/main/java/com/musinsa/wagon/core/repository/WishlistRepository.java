@@ -0,0 +1,25 @@
+package com.musinsa.wagon.core.repository;
+
+import com.musinsa.wagon.core.entity.Wishlist;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
+
+    @Query(
+            "select w.user.id as userId, w.product.id as productId from Wishlist w"
+                    + " where w.product.id in :productIds and w.notificationEnabled = true")
+    List<Subscriber> findSubscribers(@Param("productIds") Collection<Long> productIds);
+
+    interface Subscriber {
+
+        Long getUserId();
+
+        Long getProductId();
+    }
+}
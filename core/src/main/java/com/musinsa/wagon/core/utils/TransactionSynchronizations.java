@@ -0,0 +1,24 @@
+package com.musinsa.wagon.core.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionSynchronizations {
+
+    private TransactionSynchronizations() {}
+
+    /** 트랜잭션 안이면 커밋 이후에, 아니면 즉시 실행한다. */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                });
+    }
+}
@@ -0,0 +1,46 @@
+package com.musinsa.wagon.core.wishlist;
+
+/** 가격 하락으로 새로 목표가에 도달한 위시리스트 구간. 인덱스의 불변 배열을 복사 없이 가리킨다. */
+public final class TriggeredWishlists {
+
+    private static final TriggeredWishlists EMPTY =
+            new TriggeredWishlists(new long[0], new long[0], new int[0], 0, 0);
+
+    private final long[] wishlistIds;
+    private final long[] userIds;
+    private final int[] targetPrices;
+    private final int from;
+    private final int to;
+
+    TriggeredWishlists(long[] wishlistIds, long[] userIds, int[] targetPrices, int from, int to) {
+        this.wishlistIds = wishlistIds;
+        this.userIds = userIds;
+        this.targetPrices = targetPrices;
+        this.from = from;
+        this.to = to;
+    }
+
+    static TriggeredWishlists empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return to - from;
+    }
+
+    public boolean isEmpty() {
+        return from == to;
+    }
+
+    public long wishlistId(int index) {
+        return wishlistIds[from + index];
+    }
+
+    public long userId(int index) {
+        return userIds[from + index];
+    }
+
+    public int targetPrice(int index) {
+        return targetPrices[from + index];
+    }
+}
@@ -0,0 +1,33 @@
+package com.musinsa.wagon.core.wishlist;
+
+import com.musinsa.wagon.core.entity.Wishlist;
+import com.musinsa.wagon.core.utils.TransactionSynchronizations;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+/** 위시리스트가 추가·삭제되면 커밋 후 상품의 위시리스트 수를 올리고 내린다. */
+public class WishlistCountListener {
+
+    private final ObjectProvider<WishlistCounter> wishlistCounter;
+
+    public WishlistCountListener(ObjectProvider<WishlistCounter> wishlistCounter) {
+        this.wishlistCounter = wishlistCounter;
+    }
+
+    @PostPersist
+    public void onCreate(Wishlist wishlist) {
+        Long productId = wishlist.getProduct().getId();
+        TransactionSynchronizations.afterCommit(
+                () -> wishlistCounter.ifAvailable(counter -> counter.increment(productId)));
+    }
+
+    @PostRemove
+    public void onRemove(Wishlist wishlist) {
+        Long productId = wishlist.getProduct().getId();
+        TransactionSynchronizations.afterCommit(
+                () -> wishlistCounter.ifAvailable(counter -> counter.decrement(productId)));
+    }
+}
@@ -0,0 +1,187 @@
+package com.musinsa.wagon.core.wishlist;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품별 위시리스트 수를 메모리의 {@link LongAdder} 에 모았다가 flush-interval 마다 products.wishlist_count 에 차이만 더한다.
+ * 위시리스트 추가·삭제는 행 락을 잡지 않고, 뜨거운 상품이라도 주기마다 UPDATE 한 번이면 된다. 프로세스마다 자기 증분만 더하므로 여러
+ * 인스턴스가 함께 써도 된다.
+ *
+ * <p>카운터는 누적값만 늘리고 flush 스레드가 이미 반영한 값을 따로 기억한다. 읽은 뒤 0 으로 되돌리지 않으므로 flush 도중 들어온
+ * 증분도 잃지 않는다. 한동안 변화가 없는 카운터는 맵에서 빼되, 빼는 순간 이미 카운터를 잡은 스레드의 증분을 위해 다음 flush 까지 한 번
+ * 더 확인한다. 프로세스가 비정상 종료되면 마지막 주기의 증분은 잃는다.
+ */
+@Slf4j
+@Component
+public class WishlistCounter {
+
+    private static final String ADD_WISHLIST_COUNT_SQL =
+            "UPDATE products SET wishlist_count = wishlist_count + ? WHERE id = ?";
+
+    private static final String SELECT_WISHLIST_COUNT_SQL =
+            "SELECT wishlist_count FROM products WHERE id = ?";
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final WishlistCounterProperties properties;
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    // flush 스레드만 만진다.
+    private List<Counter> retired = new ArrayList<>();
+
+    private ScheduledExecutorService flusher;
+
+    public WishlistCounter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            WishlistCounterProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    void start() {
+        flusher =
+                Executors.newSingleThreadScheduledExecutor(
+                        new CustomizableThreadFactory("wishlist-counter-flush-"));
+        long millis = properties.flushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        flusher.shutdown();
+        if (!flusher.awaitTermination(
+                properties.flushInterval().toMillis(), TimeUnit.MILLISECONDS)) {
+            flusher.shutdownNow();
+        }
+        flushQuietly();
+    }
+
+    public void increment(Long productId) {
+        counters.computeIfAbsent(productId, Counter::new).total.increment();
+    }
+
+    public void decrement(Long productId) {
+        counters.computeIfAbsent(productId, Counter::new).total.decrement();
+    }
+
+    /** 이 프로세스에서 아직 DB 에 더하지 않은 증분. */
+    public long unflushed(Long productId) {
+        Counter counter = counters.get(productId);
+        return counter == null ? 0 : counter.pending();
+    }
+
+    /**
+     * DB 값에 이 프로세스의 미반영 증분을 더한 근사값. 다른 프로세스의 증분은 그쪽이 flush 한 뒤에 보인다. 없는 상품이면 null.
+     */
+    public Long approximateCount(Long productId) {
+        List<Integer> persisted =
+                jdbcTemplate.queryForList(SELECT_WISHLIST_COUNT_SQL, Integer.class, productId);
+        if (persisted.isEmpty()) {
+            return null;
+        }
+        return Math.max(0, persisted.get(0) + unflushed(productId));
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // 실패한 배치는 롤백되고 반영한 값도 올리지 않았으므로 다음 주기에 같은 증분을 다시 더한다.
+            log.warn("[WishlistCounter] flush failed. counters={}", counters.size(), e);
+        }
+    }
+
+    synchronized void flush() {
+        long start = System.nanoTime();
+        List<Counter> pending = new ArrayList<>();
+        List<Counter> stillRetired = new ArrayList<>();
+        for (Counter counter : retired) {
+            if (counter.pending() != 0) {
+                pending.add(counter);
+                stillRetired.add(counter);
+            }
+        }
+        for (Counter counter : counters.values()) {
+            if (counter.pending() != 0) {
+                counter.idleFlushes = 0;
+                pending.add(counter);
+            } else if (++counter.idleFlushes >= properties.idleFlushesBeforeEvict()
+                    && counters.remove(counter.productId, counter)) {
+                stillRetired.add(counter);
+            }
+        }
+        retired = stillRetired;
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 여러 인스턴스가 동시에 flush 해도 같은 순서로 행 락을 잡도록 id 순으로 보낸다.
+        pending.sort(Comparator.comparing(counter -> counter.productId));
+        long rows = 0;
+        for (int from = 0; from < pending.size(); from += BATCH_SIZE) {
+            List<Counter> batch =
+                    pending.subList(from, Math.min(from + BATCH_SIZE, pending.size()));
+            List<Object[]> args = new ArrayList<>(batch.size());
+            long[] deltas = new long[batch.size()];
+            for (int i = 0; i < batch.size(); i++) {
+                Counter counter = batch.get(i);
+                deltas[i] = counter.pending();
+                args.add(new Object[] {deltas[i], counter.productId});
+            }
+            // 배치 안의 일부 행만 커밋되면 그 행의 증분을 다음 주기에 또 더하게 되므로 배치 단위로 묶는다.
+            transactionTemplate.executeWithoutResult(
+                    status -> jdbcTemplate.batchUpdate(ADD_WISHLIST_COUNT_SQL, args));
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).flushed += deltas[i];
+            }
+            rows += batch.size();
+        }
+        log.debug(
+                "[WishlistCounter] flushed products={} counters={} elapsed={}ms",
+                rows,
+                counters.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static final class Counter {
+
+        private final Long productId;
+        private final LongAdder total = new LongAdder();
+
+        // flush 스레드만 만진다.
+        private long flushed;
+        private int idleFlushes;
+
+        Counter(Long productId) {
+            this.productId = productId;
+        }
+
+        long pending() {
+            return total.sum() - flushed;
+        }
+    }
+}
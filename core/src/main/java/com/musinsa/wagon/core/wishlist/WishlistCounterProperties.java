@@ -0,0 +1,11 @@
+package com.musinsa.wagon.core.wishlist;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "wishlist-counter")
+public record WishlistCounterProperties(
+        @DefaultValue("5s") Duration flushInterval,
+        @DefaultValue("3") int idleFlushesBeforeEvict) {}
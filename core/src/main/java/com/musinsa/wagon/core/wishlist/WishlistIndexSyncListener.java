@@ -0,0 +1,48 @@
+package com.musinsa.wagon.core.wishlist;
+
+import com.musinsa.wagon.core.entity.Wishlist;
+import com.musinsa.wagon.core.utils.TransactionSynchronizations;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+/** 같은 프로세스에 인덱스가 있으면 updateTargetPrice/toggleNotification 결과를 커밋 후 반영한다. */
+public class WishlistIndexSyncListener {
+
+    private final ObjectProvider<WishlistTargetPriceIndex> wishlistTargetPriceIndex;
+
+    public WishlistIndexSyncListener(
+            ObjectProvider<WishlistTargetPriceIndex> wishlistTargetPriceIndex) {
+        this.wishlistTargetPriceIndex = wishlistTargetPriceIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Wishlist wishlist) {
+        Long wishlistId = wishlist.getId();
+        Long userId = wishlist.getUser().getId();
+        Long productId = wishlist.getProduct().getId();
+        Integer targetPrice = wishlist.getTargetPrice();
+        boolean notificationEnabled = Boolean.TRUE.equals(wishlist.getNotificationEnabled());
+        TransactionSynchronizations.afterCommit(
+                () ->
+                        wishlistTargetPriceIndex.ifAvailable(
+                                index ->
+                                        index.upsert(
+                                                wishlistId,
+                                                userId,
+                                                productId,
+                                                targetPrice,
+                                                notificationEnabled)));
+    }
+
+    @PostRemove
+    public void onRemove(Wishlist wishlist) {
+        Long wishlistId = wishlist.getId();
+        TransactionSynchronizations.afterCommit(
+                () -> wishlistTargetPriceIndex.ifAvailable(index -> index.remove(wishlistId)));
+    }
+}
@@ -0,0 +1,280 @@
+package com.musinsa.wagon.core.wishlist;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+/**
+ * 상품별로 알림이 켜진 위시리스트의 목표가를 오름차순 int 배열로 들고 있는 인덱스. 가격이 previous 에서 current 로 내려가면
+ * current <= 목표가 < previous 인 구간이 새로 도달한 위시리스트이므로 이진 탐색으로 바로 찾는다.
+ *
+ * <p>상품별 배열은 불변이고 변경 시 새 배열로 교체하므로 읽기에는 락이 필요 없다. rebuild 는 새 맵을 다 채운 뒤 volatile 참조
+ * 하나로 바꿔 끼우므로 읽는 쪽이 비었거나 절반만 찬 인덱스를 보지 않는다. rebuild 중에 들어온 변경은 따로 모아 두었다가 바꿔 끼우기
+ * 직전에 새 인덱스에도 적용한다.
+ */
+@Slf4j
+public class WishlistTargetPriceIndex {
+
+    private static final String STREAM_WISHLISTS_SQL =
+            """
+            SELECT id, user_id, product_id, target_price
+              FROM wishlists
+             WHERE notification_enabled = true AND target_price > 0
+             ORDER BY product_id
+            """;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final Object writeLock = new Object();
+
+    private volatile Index index = new Index();
+    private volatile boolean loaded;
+
+    // rebuild 중에만 null 이 아니다. writeLock 으로 보호한다.
+    private List<Consumer<Index>> changesDuringRebuild;
+
+    public WishlistTargetPriceIndex(DataSource dataSource) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    public TriggeredWishlists findTriggered(Long productId, int previousPrice, int currentPrice) {
+        ensureLoaded();
+        ProductTargets targets = index.targetsByProduct.get(productId);
+        if (targets == null || currentPrice >= previousPrice) {
+            return TriggeredWishlists.empty();
+        }
+        int from = targets.lowerBound(currentPrice);
+        int to = targets.lowerBound(previousPrice);
+        if (from >= to) {
+            return TriggeredWishlists.empty();
+        }
+        return new TriggeredWishlists(
+                targets.wishlistIds, targets.userIds, targets.targetPrices, from, to);
+    }
+
+    public void upsert(
+            Long wishlistId,
+            Long userId,
+            Long productId,
+            Integer targetPrice,
+            boolean notificationEnabled) {
+        if (targetPrice == null || targetPrice <= 0 || !notificationEnabled) {
+            remove(wishlistId);
+            return;
+        }
+        apply(target -> target.upsert(wishlistId, userId, productId, targetPrice));
+    }
+
+    public void remove(Long wishlistId) {
+        apply(target -> target.remove(wishlistId));
+    }
+
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        synchronized (writeLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        Index rebuilt = new Index();
+        try {
+            List<long[]> rows = new ArrayList<>();
+            long[] currentProductId = {-1L};
+            streamingJdbcTemplate.query(
+                    STREAM_WISHLISTS_SQL,
+                    rs -> {
+                        long productId = rs.getLong(3);
+                        if (productId != currentProductId[0] && !rows.isEmpty()) {
+                            rebuilt.targetsByProduct.put(
+                                    currentProductId[0], ProductTargets.of(rows));
+                            rows.clear();
+                        }
+                        currentProductId[0] = productId;
+                        long wishlistId = rs.getLong(1);
+                        rows.add(new long[] {wishlistId, rs.getLong(2), rs.getInt(4)});
+                        rebuilt.productIdByWishlist.put(wishlistId, productId);
+                    });
+            if (!rows.isEmpty()) {
+                rebuilt.targetsByProduct.put(currentProductId[0], ProductTargets.of(rows));
+            }
+            synchronized (writeLock) {
+                changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+                index = rebuilt;
+            }
+        } finally {
+            synchronized (writeLock) {
+                changesDuringRebuild = null;
+            }
+        }
+        loaded = true;
+        log.info(
+                "[WishlistIndex] rebuilt products={} wishlists={} elapsed={}ms",
+                rebuilt.targetsByProduct.size(),
+                rebuilt.productIdByWishlist.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void apply(Consumer<Index> change) {
+        synchronized (writeLock) {
+            change.accept(index);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private static final class Index {
+
+        private final Map<Long, ProductTargets> targetsByProduct = new ConcurrentHashMap<>();
+        private final Map<Long, Long> productIdByWishlist = new ConcurrentHashMap<>();
+
+        void upsert(Long wishlistId, Long userId, Long productId, int targetPrice) {
+            Long previousProductId = productIdByWishlist.put(wishlistId, productId);
+            if (previousProductId != null && !previousProductId.equals(productId)) {
+                removeTarget(previousProductId, wishlistId);
+            }
+            targetsByProduct.compute(
+                    productId,
+                    (id, targets) ->
+                            (targets == null ? ProductTargets.EMPTY : targets)
+                                    .with(wishlistId, userId, targetPrice));
+        }
+
+        void remove(Long wishlistId) {
+            Long productId = productIdByWishlist.remove(wishlistId);
+            if (productId != null) {
+                removeTarget(productId, wishlistId);
+            }
+        }
+
+        private void removeTarget(Long productId, Long wishlistId) {
+            targetsByProduct.computeIfPresent(
+                    productId,
+                    (id, targets) -> {
+                        ProductTargets removed = targets.without(wishlistId);
+                        return removed.size() == 0 ? null : removed;
+                    });
+        }
+    }
+
+    private static final class ProductTargets {
+
+        static final ProductTargets EMPTY =
+                new ProductTargets(new int[0], new long[0], new long[0]);
+
+        private final int[] targetPrices;
+        private final long[] wishlistIds;
+        private final long[] userIds;
+
+        private ProductTargets(int[] targetPrices, long[] wishlistIds, long[] userIds) {
+            this.targetPrices = targetPrices;
+            this.wishlistIds = wishlistIds;
+            this.userIds = userIds;
+        }
+
+        static ProductTargets of(List<long[]> rows) {
+            rows.sort((a, b) -> Long.compare(a[2], b[2]));
+            int size = rows.size();
+            int[] targetPrices = new int[size];
+            long[] wishlistIds = new long[size];
+            long[] userIds = new long[size];
+            for (int i = 0; i < size; i++) {
+                long[] row = rows.get(i);
+                wishlistIds[i] = row[0];
+                userIds[i] = row[1];
+                targetPrices[i] = (int) row[2];
+            }
+            return new ProductTargets(targetPrices, wishlistIds, userIds);
+        }
+
+        int size() {
+            return targetPrices.length;
+        }
+
+        ProductTargets with(long wishlistId, long userId, int targetPrice) {
+            ProductTargets base = without(wishlistId);
+            int size = base.size();
+            int position = base.lowerBound(targetPrice);
+
+            int[] targetPrices = new int[size + 1];
+            long[] wishlistIds = new long[size + 1];
+            long[] userIds = new long[size + 1];
+            copyAround(base, position, targetPrices, wishlistIds, userIds);
+            targetPrices[position] = targetPrice;
+            wishlistIds[position] = wishlistId;
+            userIds[position] = userId;
+            return new ProductTargets(targetPrices, wishlistIds, userIds);
+        }
+
+        ProductTargets without(long wishlistId) {
+            int position = -1;
+            for (int i = 0; i < wishlistIds.length; i++) {
+                if (wishlistIds[i] == wishlistId) {
+                    position = i;
+                    break;
+                }
+            }
+            if (position < 0) {
+                return this;
+            }
+            int size = size() - 1;
+            int tail = size - position;
+            int[] prices = new int[size];
+            long[] ids = new long[size];
+            long[] users = new long[size];
+            System.arraycopy(targetPrices, 0, prices, 0, position);
+            System.arraycopy(wishlistIds, 0, ids, 0, position);
+            System.arraycopy(userIds, 0, users, 0, position);
+            System.arraycopy(targetPrices, position + 1, prices, position, tail);
+            System.arraycopy(wishlistIds, position + 1, ids, position, tail);
+            System.arraycopy(userIds, position + 1, users, position, tail);
+            return new ProductTargets(prices, ids, users);
+        }
+
+        // price 이상인 첫 위치
+        int lowerBound(int price) {
+            int low = 0;
+            int high = targetPrices.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (targetPrices[mid] < price) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private static void copyAround(
+                ProductTargets base,
+                int position,
+                int[] targetPrices,
+                long[] wishlistIds,
+                long[] userIds) {
+            int tail = base.size() - position;
+            System.arraycopy(base.targetPrices, 0, targetPrices, 0, position);
+            System.arraycopy(base.wishlistIds, 0, wishlistIds, 0, position);
+            System.arraycopy(base.userIds, 0, userIds, 0, position);
+            System.arraycopy(base.targetPrices, position, targetPrices, position + 1, tail);
+            System.arraycopy(base.wishlistIds, position, wishlistIds, position + 1, tail);
+            System.arraycopy(base.userIds, position, userIds, position + 1, tail);
+        }
+    }
+}
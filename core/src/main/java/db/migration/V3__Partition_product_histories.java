@@ -0,0 +1,108 @@
+package db.migration;
+
+import com.musinsa.wagon.core.infra.partition.MonthlyPartitions;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * product_histories 를 created_at 월 단위 RANGE COLUMNS 파티션으로 바꾼다. 파티션 목록이 기존 데이터의 첫 달부터 현재까지
+ * 달라지므로 SQL 이 아닌 Java 마이그레이션으로 만든다. 이후 달은 배치의 ProductHistoryPartitionManager 가 미리 만든다.
+ *
+ * <p>MySQL 파티션 테이블은 외래 키를 가질 수 없고 모든 유니크 키에 파티션 컬럼이 들어가야 하므로 product_id 외래 키를 지우고
+ * 기본 키를 (id, created_at) 으로 바꾼다. 테이블을 한 번 복사하므로 적재가 없는 시간에 돌린다.
+ */
+public class V3__Partition_product_histories extends BaseJavaMigration {
+
+    private static final int MONTHS_AHEAD = 3;
+
+    private static final String SELECT_PARTITIONS_SQL =
+            """
+            SELECT COUNT(*)
+              FROM information_schema.partitions
+             WHERE table_schema = DATABASE()
+               AND table_name = 'product_histories'
+               AND partition_name IS NOT NULL
+            """;
+
+    private static final String SELECT_FOREIGN_KEYS_SQL =
+            """
+            SELECT constraint_name
+              FROM information_schema.referential_constraints
+             WHERE constraint_schema = DATABASE()
+               AND table_name = 'product_histories'
+            """;
+
+    private static final String SELECT_FIRST_DATE_SQL =
+            "SELECT MIN(created_at) FROM product_histories";
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            if (isPartitioned(statement)) {
+                return;
+            }
+            for (String foreignKey : foreignKeys(statement)) {
+                statement.execute(
+                        "ALTER TABLE product_histories DROP FOREIGN KEY `" + foreignKey + "`");
+            }
+
+            YearMonth current = YearMonth.now();
+            YearMonth first = firstMonth(statement, current);
+            StringJoiner partitions = new StringJoiner(",\n    ", "(\n    ", "\n)");
+            for (YearMonth month = first;
+                    !month.isAfter(current.plusMonths(MONTHS_AHEAD));
+                    month = month.plusMonths(1)) {
+                partitions.add(MonthlyPartitions.definition(month));
+            }
+            partitions.add(MonthlyPartitions.maxDefinition());
+
+            statement.execute(
+                    "ALTER TABLE product_histories"
+                            + " DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at)"
+                            + " PARTITION BY RANGE COLUMNS (created_at) "
+                            + partitions);
+        }
+    }
+
+    private static boolean isPartitioned(Statement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(SELECT_PARTITIONS_SQL)) {
+            return rs.next() && rs.getLong(1) > 0;
+        }
+    }
+
+    private static List<String> foreignKeys(Statement statement) throws SQLException {
+        List<String> foreignKeys = new ArrayList<>();
+        try (ResultSet rs = statement.executeQuery(SELECT_FOREIGN_KEYS_SQL)) {
+            while (rs.next()) {
+                foreignKeys.add(rs.getString(1));
+            }
+        }
+        return foreignKeys;
+    }
+
+    private static YearMonth firstMonth(Statement statement, YearMonth current)
+            throws SQLException {
+        try (ResultSet rs = statement.executeQuery(SELECT_FIRST_DATE_SQL)) {
+            if (rs.next()) {
+                Date first = rs.getDate(1);
+                if (first != null) {
+                    YearMonth month = YearMonth.from(first.toLocalDate());
+                    return month.isAfter(current) ? current : month;
+                }
+            }
+        }
+        return current;
+    }
+}
@@ -0,0 +1,5 @@
+-- 상품 목록 keyset 페이지네이션용 인덱스.
+-- (shop_type, brand, price_label, id) 순서로 seek 하고, is_fake_discount 필터도 인덱스 안에서 걸러
+-- 페이지를 고르는 단계에서는 테이블 행을 읽지 않는다.
+CREATE INDEX idx_product_listing
+    ON products (shop_type, brand, price_label, id, is_fake_discount);
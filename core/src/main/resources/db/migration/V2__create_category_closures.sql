@@ -0,0 +1,25 @@
+-- 카테고리 조상-자손 쌍을 깊이와 함께 모두 저장하는 closure 테이블. 자기 자신도 depth 0 으로 들어간다.
+CREATE TABLE category_closures
+(
+    ancestor_id   BIGINT NOT NULL,
+    descendant_id BIGINT NOT NULL,
+    depth         INT    NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id),
+    INDEX idx_category_closure_descendant (descendant_id, depth),
+    CONSTRAINT fk_category_closure_ancestor
+        FOREIGN KEY (ancestor_id) REFERENCES categories (id) ON DELETE CASCADE,
+    CONSTRAINT fk_category_closure_descendant
+        FOREIGN KEY (descendant_id) REFERENCES categories (id) ON DELETE CASCADE
+);
+
+INSERT INTO category_closures (ancestor_id, descendant_id, depth)
+WITH RECURSIVE tree (ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0
+      FROM categories
+    UNION ALL
+    SELECT t.ancestor_id, c.id, t.depth + 1
+      FROM tree t
+      JOIN categories c ON c.parent_category_id = t.descendant_id
+)
+SELECT ancestor_id, descendant_id, depth
+  FROM tree;
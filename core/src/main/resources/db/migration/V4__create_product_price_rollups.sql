@@ -0,0 +1,62 @@
+-- 장기 차트용 주별·월별 가격 요약. 평균은 price_sum / sample_count 로 계산하고 종가는 구간의 마지막 날 가격이다.
+-- 배치가 새 스냅샷마다 해당 구간 행을 갱신하므로 원본 이력을 다시 읽지 않는다.
+CREATE TABLE product_price_weekly
+(
+    product_id   BIGINT NOT NULL,
+    period_start DATE   NOT NULL,
+    min_price    INT    NOT NULL,
+    max_price    INT    NOT NULL,
+    price_sum    BIGINT NOT NULL,
+    sample_count INT    NOT NULL,
+    close_price  INT    NOT NULL,
+    close_date   DATE   NOT NULL,
+    PRIMARY KEY (product_id, period_start)
+);
+
+CREATE TABLE product_price_monthly
+(
+    product_id   BIGINT NOT NULL,
+    period_start DATE   NOT NULL,
+    min_price    INT    NOT NULL,
+    max_price    INT    NOT NULL,
+    price_sum    BIGINT NOT NULL,
+    sample_count INT    NOT NULL,
+    close_price  INT    NOT NULL,
+    close_date   DATE   NOT NULL,
+    PRIMARY KEY (product_id, period_start)
+);
+
+-- 이미 쌓인 이력은 한 번만 집계해 채운다. 주는 월요일에 시작한다.
+INSERT INTO product_price_weekly
+    (product_id, period_start, min_price, max_price, price_sum, sample_count, close_price, close_date)
+SELECT g.product_id, g.period_start, g.min_price, g.max_price, g.price_sum, g.sample_count,
+       (SELECT h.price
+          FROM product_histories h
+         WHERE h.product_id = g.product_id AND h.created_at = g.close_date
+         ORDER BY h.id DESC
+         LIMIT 1),
+       g.close_date
+  FROM (SELECT product_id,
+               DATE_SUB(created_at, INTERVAL WEEKDAY(created_at) DAY) AS period_start,
+               MIN(price) AS min_price, MAX(price) AS max_price,
+               SUM(price) AS price_sum, COUNT(*) AS sample_count,
+               MAX(created_at) AS close_date
+          FROM product_histories
+         GROUP BY product_id, DATE_SUB(created_at, INTERVAL WEEKDAY(created_at) DAY)) g;
+
+INSERT INTO product_price_monthly
+    (product_id, period_start, min_price, max_price, price_sum, sample_count, close_price, close_date)
+SELECT g.product_id, g.period_start, g.min_price, g.max_price, g.price_sum, g.sample_count,
+       (SELECT h.price
+          FROM product_histories h
+         WHERE h.product_id = g.product_id AND h.created_at = g.close_date
+         ORDER BY h.id DESC
+         LIMIT 1),
+       g.close_date
+  FROM (SELECT product_id,
+               DATE_FORMAT(created_at, '%Y-%m-01') AS period_start,
+               MIN(price) AS min_price, MAX(price) AS max_price,
+               SUM(price) AS price_sum, COUNT(*) AS sample_count,
+               MAX(created_at) AS close_date
+          FROM product_histories
+         GROUP BY product_id, DATE_FORMAT(created_at, '%Y-%m-01')) g;
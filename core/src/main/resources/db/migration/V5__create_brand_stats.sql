@@ -0,0 +1,33 @@
+-- 쇼핑몰 → 브랜드 목록 화면용 브랜드 집계. 배치가 라벨·허위 할인·할인율이 바뀔 때마다 차이만 더하므로
+-- 화면은 products 를 GROUP BY 하지 않는다. 평균 할인율은 discount_rate_sum / discount_rate_count 이다.
+CREATE TABLE brand_stats
+(
+    shop_type           VARCHAR(20)  NOT NULL,
+    brand               VARCHAR(100) NOT NULL,
+    product_count       INT          NOT NULL DEFAULT 0,
+    all_time_low_count  INT          NOT NULL DEFAULT 0,
+    good_deal_count     INT          NOT NULL DEFAULT 0,
+    fake_discount_count INT          NOT NULL DEFAULT 0,
+    discount_rate_sum   BIGINT       NOT NULL DEFAULT 0,
+    discount_rate_count INT          NOT NULL DEFAULT 0,
+    updated_at          DATETIME(6)  NOT NULL,
+    PRIMARY KEY (shop_type, brand),
+    INDEX idx_brand_stats_product_count (shop_type, product_count)
+);
+
+-- 이미 있는 상품은 한 번만 집계해 채운다. 브랜드가 없는 상품은 브랜드 화면에 나오지 않으므로 뺀다.
+INSERT INTO brand_stats
+    (shop_type, brand, product_count, all_time_low_count, good_deal_count, fake_discount_count,
+     discount_rate_sum, discount_rate_count, updated_at)
+SELECT shop_type,
+       brand,
+       COUNT(*),
+       SUM(price_label = 'ALL_TIME_LOW'),
+       SUM(price_label = 'GOOD_DEAL'),
+       SUM(is_fake_discount),
+       COALESCE(SUM(discount_rate), 0),
+       COUNT(discount_rate),
+       NOW(6)
+  FROM products
+ WHERE brand IS NOT NULL
+ GROUP BY shop_type, brand;
@@ -0,0 +1,10 @@
+-- 우리 서비스의 위시리스트 수. like_count 는 쇼핑몰이 보여 주는 값으로 크롤링 때마다 덮어쓰므로 따로 둔다.
+-- WishlistCounter 가 증분만 더한다.
+ALTER TABLE products
+    ADD COLUMN wishlist_count INT NOT NULL DEFAULT 0;
+
+UPDATE products p
+    JOIN (SELECT product_id, COUNT(*) AS wishlist_count
+            FROM wishlists
+           GROUP BY product_id) w ON w.product_id = p.id
+   SET p.wishlist_count = w.wishlist_count;
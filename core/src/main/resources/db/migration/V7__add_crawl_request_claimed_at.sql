@@ -0,0 +1,9 @@
+-- 처리가 오래 걸리는 요청을 판단하는 기준은 대기열에 들어온 시각이 아니라 워커가 가져간 시각이다.
+ALTER TABLE user_product_crawl_requests
+    ADD COLUMN claimed_at DATETIME(6) NULL,
+    ADD INDEX idx_crawl_request_status_claimed (status, claimed_at);
+
+-- 이미 처리 중인 요청은 지금 가져간 것으로 보고 stale-after 가 지나면 다시 대기열에 넣는다.
+UPDATE user_product_crawl_requests
+   SET claimed_at = NOW(6)
+ WHERE status = 'PROCESSING';
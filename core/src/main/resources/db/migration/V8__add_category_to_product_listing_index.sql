@@ -0,0 +1,5 @@
+-- 카테고리 필터(category_id IN (...))도 목록 인덱스 안에서 거르도록 category_id 를 끝에 붙인다.
+-- 정렬·seek 순서는 그대로 두어야 keyset 페이지네이션이 filesort 없이 인덱스 순서로 읽힌다.
+ALTER TABLE products
+    DROP INDEX idx_product_listing,
+    ADD INDEX idx_product_listing (shop_type, brand, price_label, id, is_fake_discount, category_id);
@@ -0,0 +1,3 @@
+-- 배치의 알림 sweeper 가 sent_at 이 빈 최근 알림만 범위로 읽는다.
+ALTER TABLE notifications
+    ADD INDEX idx_notification_sent_created (sent_at, created_at);
@@ -0,0 +1,80 @@
+package com.musinsa.wagon.core.category;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+class CategoryTreeSnapshotTest {
+
+    // 1 ─┬─ 2 ── 4
+    //    └─ 3
+    // 5 ── 6
+    private final CategoryTreeSnapshot tree =
+            new CategoryTreeSnapshot(
+                    new long[] {4, 3, 6, 1, 2, 5}, new long[] {2, 1, 5, 0, 1, 0});
+
+    @Test
+    void subtreeIncludesSelfAndAllDescendants() {
+        assertArrayEquals(new long[] {1, 2, 3, 4}, sorted(tree.subtreeIds(1)));
+        assertArrayEquals(new long[] {2, 4}, sorted(tree.subtreeIds(2)));
+        assertArrayEquals(new long[] {3}, tree.subtreeIds(3));
+        assertArrayEquals(new long[] {5, 6}, sorted(tree.subtreeIds(5)));
+        assertEquals(4, tree.subtreeSize(1));
+    }
+
+    @Test
+    void unknownCategoryHasEmptySubtree() {
+        assertFalse(tree.contains(99));
+        assertArrayEquals(new long[0], tree.subtreeIds(99));
+        assertEquals(0, tree.subtreeSize(99));
+        assertEquals(-1, tree.depth(99));
+    }
+
+    @Test
+    void depthCountsFromRoot() {
+        assertEquals(0, tree.depth(1));
+        assertEquals(1, tree.depth(3));
+        assertEquals(2, tree.depth(4));
+        assertEquals(1, tree.depth(6));
+    }
+
+    @Test
+    void ancestryFollowsTreeOnly() {
+        assertTrue(tree.isSelfOrDescendant(1, 4));
+        assertTrue(tree.isSelfOrDescendant(2, 2));
+        assertFalse(tree.isSelfOrDescendant(4, 1));
+        assertFalse(tree.isSelfOrDescendant(3, 4));
+        assertFalse(tree.isSelfOrDescendant(1, 6));
+    }
+
+    @Test
+    void nodeWithMissingParentIsRoot() {
+        CategoryTreeSnapshot orphan =
+                new CategoryTreeSnapshot(new long[] {1, 2, 3}, new long[] {0, 42, 2});
+
+        assertEquals(0, orphan.depth(2));
+        assertArrayEquals(new long[] {2, 3}, sorted(orphan.subtreeIds(2)));
+    }
+
+    @Test
+    void cyclicParentsBecomeChildlessRoots() {
+        CategoryTreeSnapshot cyclic =
+                new CategoryTreeSnapshot(new long[] {1, 2, 3}, new long[] {0, 3, 2});
+
+        assertEquals(3, cyclic.size());
+        assertArrayEquals(new long[] {2}, cyclic.subtreeIds(2));
+        assertArrayEquals(new long[] {3}, cyclic.subtreeIds(3));
+        assertArrayEquals(new long[] {1}, cyclic.subtreeIds(1));
+    }
+
+    private static long[] sorted(long[] ids) {
+        long[] copy = ids.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,105 @@
+package com.musinsa.wagon.core.holiday;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.musinsa.wagon.core.entity.Holiday;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+class HolidayIntervalsTest {
+
+    private static final LocalDate BASE = LocalDate.of(2024, 1, 1);
+
+    @Test
+    void sortsByMonitoringStartAndSkipsUnmonitoredHolidays() {
+        HolidayIntervals intervals =
+                new HolidayIntervals(
+                        List.of(
+                                holiday(2L, 40, 50),
+                                holiday(1L, 0, 10),
+                                Holiday.builder()
+                                        .id(3L)
+                                        .name("unmonitored")
+                                        .holidayDate(BASE)
+                                        .build()));
+
+        assertEquals(2, intervals.size());
+        assertEquals(1L, intervals.holidayId(0));
+        assertEquals(2L, intervals.holidayId(1));
+        assertEquals(day(40), intervals.startDay(1));
+        assertEquals(day(50), intervals.endDay(1));
+    }
+
+    @Test
+    void coveredIncludesBothEnds() {
+        HolidayIntervals intervals = new HolidayIntervals(List.of(holiday(1L, 10, 20)));
+
+        assertFalse(intervals.isCovered(day(9)));
+        assertTrue(intervals.isCovered(day(10)));
+        assertTrue(intervals.isCovered(day(20)));
+        assertFalse(intervals.isCovered(day(21)));
+    }
+
+    @Test
+    void longIntervalCoversDaysAfterShorterLaterOnes() {
+        // 두 번째 구간이 먼저 끝나도 첫 번째 구간이 계속 덮는다.
+        HolidayIntervals intervals =
+                new HolidayIntervals(List.of(holiday(1L, 0, 100), holiday(2L, 10, 20)));
+
+        assertTrue(intervals.isCovered(day(50)));
+        assertArrayEquals(new long[] {1L}, ids(intervals, day(50), day(50)));
+        assertArrayEquals(new long[] {1L, 2L}, ids(intervals, day(15), day(15)));
+    }
+
+    @Test
+    void overlappingFindsEveryIntervalTouchingRange() {
+        HolidayIntervals intervals =
+                new HolidayIntervals(
+                        List.of(holiday(1L, 0, 10), holiday(2L, 20, 30), holiday(3L, 40, 50)));
+
+        assertArrayEquals(new long[] {1L, 2L}, ids(intervals, day(5), day(25)));
+        assertArrayEquals(new long[] {}, ids(intervals, day(11), day(19)));
+        assertArrayEquals(new long[] {1L, 2L, 3L}, ids(intervals, day(-5), day(60)));
+    }
+
+    @Test
+    void overlappingStopsWhenOutIsFull() {
+        HolidayIntervals intervals =
+                new HolidayIntervals(List.of(holiday(1L, 0, 10), holiday(2L, 0, 10)));
+
+        int[] out = new int[1];
+        assertEquals(1, intervals.overlapping(day(0), day(10), out));
+    }
+
+    private static long[] ids(HolidayIntervals intervals, int fromDay, int toDay) {
+        int[] out = new int[intervals.size()];
+        int count = intervals.overlapping(fromDay, toDay, out);
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = intervals.holidayId(out[i]);
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private static Holiday holiday(Long id, int startOffset, int endOffset) {
+        return Holiday.builder()
+                .id(id)
+                .name("holiday-" + id)
+                .holidayDate(BASE.plusDays((startOffset + endOffset) / 2))
+                .monitoringStartDate(BASE.plusDays(startOffset))
+                .monitoringEndDate(BASE.plusDays(endOffset))
+                .build();
+    }
+
+    private static int day(int offset) {
+        return (int) BASE.plusDays(offset).toEpochDay();
+    }
+}
@@ -0,0 +1,99 @@
+package com.musinsa.wagon.core.infra.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/** 내장 Redis 서버에 붙여 RedisSharedCache 가 SharedCache 계약을 지키는지 확인한다. */
+class RedisSharedCacheTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisMessageListenerContainer listenerContainer;
+    private static RedisSharedCache sharedCache;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        int port = freePort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory =
+                new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        sharedCache =
+                new RedisSharedCache(new StringRedisTemplate(connectionFactory), listenerContainer);
+    }
+
+    @AfterAll
+    static void stopServer() throws Exception {
+        listenerContainer.destroy();
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    void returnsValueUntilTtlExpires() throws InterruptedException {
+        sharedCache.set("test:ttl", "v1", Duration.ofMillis(200));
+        assertEquals("v1", sharedCache.get("test:ttl"));
+
+        Thread.sleep(400);
+        assertNull(sharedCache.get("test:ttl"));
+    }
+
+    @Test
+    void missingKeyIsNull() {
+        assertNull(sharedCache.get("test:missing"));
+    }
+
+    @Test
+    void countersStartAtZeroAndIncrementPerKey() {
+        sharedCache.increment(List.of("test:counter:a", "test:counter:b", "test:counter:a"));
+
+        assertEquals(
+                List.of(2L, 1L, 0L),
+                sharedCache.counters(
+                        List.of("test:counter:a", "test:counter:b", "test:counter:none")));
+    }
+
+    @Test
+    void publishedMessageReachesSubscriber() throws InterruptedException {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        sharedCache.subscribe("test:channel", received::add);
+
+        // 구독은 비동기로 걸리므로 받을 때까지 다시 보낸다.
+        String message = null;
+        for (int attempt = 0; attempt < 50 && message == null; attempt++) {
+            sharedCache.publish("test:channel", "hello");
+            message = received.poll(100, TimeUnit.MILLISECONDS);
+        }
+        assertEquals("hello", message);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
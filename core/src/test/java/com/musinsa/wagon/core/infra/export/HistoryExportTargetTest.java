@@ -0,0 +1,44 @@
+package com.musinsa.wagon.core.infra.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.musinsa.wagon.core.infra.export.HistoryExportTarget.Parameter;
+
+import org.junit.jupiter.api.Test;
+
+class HistoryExportTargetTest {
+
+    @Test
+    void placeholdersMatchBoundParameters() {
+        for (HistoryExportTarget target : HistoryExportTarget.values()) {
+            for (boolean filterShopType : new boolean[] {false, true}) {
+                long bound =
+                        target.parameters().stream()
+                                .filter(p -> filterShopType || p != Parameter.SHOP_TYPE)
+                                .count();
+                assertEquals(
+                        bound,
+                        placeholders(target.selectSql(filterShopType)),
+                        target + " filterShopType=" + filterShopType);
+            }
+        }
+    }
+
+    @Test
+    void productHistoriesFilterEveryPartByShopType() {
+        String sql = HistoryExportTarget.PRODUCT_HISTORIES.selectSql(true);
+
+        assertTrue(sql.contains("UNION ALL"));
+        for (String part : sql.split("UNION ALL")) {
+            assertTrue(part.contains("p.shop_type = ?"), part);
+        }
+        assertFalse(
+                HistoryExportTarget.PRODUCT_HISTORIES.selectSql(false).contains("shop_type = ?"));
+    }
+
+    private static long placeholders(String sql) {
+        return sql.chars().filter(c -> c == '?').count();
+    }
+}
@@ -0,0 +1,79 @@
+package com.musinsa.wagon.core.infra.pricestore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+class MappedPriceSeriesStoreTest {
+
+    private static final long PRODUCT_NUMBER = 1234L;
+    private static final LocalDate MARCH_1 = LocalDate.of(2024, 3, 1);
+
+    private Path root;
+    private MappedPriceSeriesStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        root = Files.createTempDirectory("price-series");
+        store = new MappedPriceSeriesStore(root, 16);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    void appendsPastInitialCapacityAndStaysVisibleToCachedReader() {
+        int days = 200;
+        for (int i = 0; i < days; i++) {
+            assertTrue(store.append(PRODUCT_NUMBER, day(i), 1_000 + i, 2_000, i % 100));
+            // 첫 조회에서 만든 읽기 매핑이 제자리 append 와 파일 교체를 모두 따라가야 한다.
+            PriceSeries series = store.find(PRODUCT_NUMBER, MARCH_1, MARCH_1.plusDays(i));
+            assertEquals(i + 1, series.size());
+            assertEquals(1_000 + i, series.price(i));
+        }
+
+        PriceSeries series = store.find(PRODUCT_NUMBER, MARCH_1, MARCH_1.plusDays(days - 1));
+        for (int i = 0; i < days; i++) {
+            assertEquals(day(i), series.epochDay(i));
+            assertEquals(1_000 + i, series.price(i));
+            assertEquals(2_000, series.originalPrice(i));
+            assertEquals(i % 100, series.discountRate(i));
+        }
+    }
+
+    @Test
+    void sameDayOverwritesAndPastDayIsIgnored() {
+        store.append(PRODUCT_NUMBER, day(0), 1_000, 1_000, 0);
+        store.append(PRODUCT_NUMBER, day(2), 900, 1_000, 10);
+
+        assertTrue(store.append(PRODUCT_NUMBER, day(2), 800, 1_000, 20));
+        assertFalse(store.append(PRODUCT_NUMBER, day(1), 700, 1_000, 30));
+
+        PriceSeries series = store.find(PRODUCT_NUMBER, MARCH_1, MARCH_1.plusDays(2));
+        assertEquals(3, series.size());
+        assertEquals(1_000, series.price(1));
+        assertEquals(800, series.price(2));
+        assertEquals(20, series.discountRate(2));
+    }
+
+    private static int day(int offset) {
+        return (int) MARCH_1.plusDays(offset).toEpochDay();
+    }
+}
@@ -0,0 +1,124 @@
+package com.musinsa.wagon.core.infra.pricestore;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+class PriceSeriesTest {
+
+    private static final LocalDate MARCH_1 = LocalDate.of(2024, 3, 1);
+
+    @Test
+    void fillsGapsWithPreviousPoint() {
+        PriceSeries points =
+                series(
+                        new int[] {day(MARCH_1), day(MARCH_1.plusDays(3))},
+                        new int[] {1_000, 800},
+                        new int[] {1_200, PriceSeries.NO_VALUE},
+                        new int[] {10, PriceSeries.NO_VALUE});
+
+        PriceSeries daily = PriceSeries.carryForward(points, MARCH_1, MARCH_1.plusDays(4));
+
+        assertEquals(5, daily.size());
+        assertArrayEquals(new int[] {1_000, 1_000, 1_000, 800, 800}, prices(daily));
+        assertEquals(MARCH_1.plusDays(2), daily.date(2));
+        assertEquals(1_200, daily.originalPrice(2));
+        assertEquals(PriceSeries.NO_VALUE, daily.discountRate(4));
+    }
+
+    @Test
+    void seedPointBeforeFromFillsStartOfRange() {
+        PriceSeries points =
+                series(
+                        new int[] {day(MARCH_1.minusDays(10)), day(MARCH_1.plusDays(1))},
+                        new int[] {500, 700},
+                        new int[] {PriceSeries.NO_VALUE, PriceSeries.NO_VALUE},
+                        new int[] {PriceSeries.NO_VALUE, PriceSeries.NO_VALUE});
+
+        PriceSeries daily = PriceSeries.carryForward(points, MARCH_1, MARCH_1.plusDays(2));
+
+        assertEquals(MARCH_1, daily.date(0));
+        assertArrayEquals(new int[] {500, 700, 700}, prices(daily));
+    }
+
+    @Test
+    void leavesDaysBeforeFirstPointEmpty() {
+        PriceSeries points =
+                series(
+                        new int[] {day(MARCH_1.plusDays(5))},
+                        new int[] {900},
+                        new int[] {PriceSeries.NO_VALUE},
+                        new int[] {PriceSeries.NO_VALUE});
+
+        PriceSeries daily = PriceSeries.carryForward(points, MARCH_1, MARCH_1.plusDays(6));
+
+        assertEquals(MARCH_1.plusDays(5), daily.date(0));
+        assertEquals(2, daily.size());
+    }
+
+    @Test
+    void stopsAtToday() {
+        LocalDate today = LocalDate.now();
+        PriceSeries points =
+                series(
+                        new int[] {day(today.minusDays(2))},
+                        new int[] {900},
+                        new int[] {PriceSeries.NO_VALUE},
+                        new int[] {PriceSeries.NO_VALUE});
+
+        PriceSeries daily =
+                PriceSeries.carryForward(points, today.minusDays(2), today.plusDays(30));
+
+        assertEquals(3, daily.size());
+        assertEquals(today, daily.date(2));
+    }
+
+    @Test
+    void returnsDailySeriesAsIs() {
+        PriceSeries points =
+                series(
+                        new int[] {day(MARCH_1), day(MARCH_1.plusDays(1))},
+                        new int[] {900, 950},
+                        new int[] {PriceSeries.NO_VALUE, PriceSeries.NO_VALUE},
+                        new int[] {PriceSeries.NO_VALUE, PriceSeries.NO_VALUE});
+
+        assertSame(points, PriceSeries.carryForward(points, MARCH_1, MARCH_1.plusDays(1)));
+    }
+
+    @Test
+    void rangeBeforeFirstPointIsEmpty() {
+        PriceSeries points =
+                series(
+                        new int[] {day(MARCH_1)},
+                        new int[] {900},
+                        new int[] {PriceSeries.NO_VALUE},
+                        new int[] {PriceSeries.NO_VALUE});
+
+        PriceSeries daily =
+                PriceSeries.carryForward(points, MARCH_1.minusDays(10), MARCH_1.minusDays(1));
+
+        assertTrue(daily.isEmpty());
+    }
+
+    private static PriceSeries series(
+            int[] epochDays, int[] prices, int[] originalPrices, int[] discountRates) {
+        return PriceSeries.of(epochDays, prices, originalPrices, discountRates, epochDays.length);
+    }
+
+    private static int[] prices(PriceSeries series) {
+        int[] prices = new int[series.size()];
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = series.price(i);
+        }
+        return prices;
+    }
+
+    private static int day(LocalDate date) {
+        return (int) date.toEpochDay();
+    }
+}
@@ -0,0 +1,73 @@
+package com.musinsa.wagon.core.price;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.musinsa.wagon.core.entity.enums.PriceLabel;
+
+import org.junit.jupiter.api.Test;
+
+class PriceLabelClassifierTest {
+
+    @Test
+    void withoutHistoryIsNormal() {
+        assertEquals(PriceLabel.NORMAL, PriceLabelClassifier.classify(1_000, 0, 0, 0, 0, 0));
+        assertEquals(
+                PriceLabel.NORMAL,
+                PriceLabelClassifier.classify(1_000, new RollingPriceStatistics()));
+    }
+
+    @Test
+    void belowAllTimeLowIsAllTimeLow() {
+        assertEquals(
+                PriceLabel.ALL_TIME_LOW,
+                PriceLabelClassifier.classify(900, 1_000, 1_000, 1_000, 1_000, 1_000));
+    }
+
+    @Test
+    void matchingAllTimeLowCountsOnlyIfPriceEverMoved() {
+        assertEquals(
+                PriceLabel.ALL_TIME_LOW,
+                PriceLabelClassifier.classify(1_000, 1_000, 1_200, 1_000, 1_200, 1_100));
+        assertEquals(
+                PriceLabel.NORMAL,
+                PriceLabelClassifier.classify(1_000, 1_000, 1_000, 1_000, 1_000, 1_000));
+    }
+
+    @Test
+    void withinFivePercentOfMovingLow90IsGoodDeal() {
+        assertEquals(
+                PriceLabel.GOOD_DEAL,
+                PriceLabelClassifier.classify(1_050, 900, 1_500, 1_000, 1_500, 1_200));
+        assertEquals(
+                PriceLabel.NORMAL,
+                PriceLabelClassifier.classify(1_051, 900, 1_500, 1_000, 1_500, 1_200));
+    }
+
+    @Test
+    void flatLow90IsNotGoodDeal() {
+        assertEquals(
+                PriceLabel.NORMAL,
+                PriceLabelClassifier.classify(1_000, 900, 1_500, 1_000, 1_000, 1_000));
+    }
+
+    @Test
+    void tenPercentOverAvg30IsExpensive() {
+        assertEquals(
+                PriceLabel.EXPENSIVE,
+                PriceLabelClassifier.classify(1_100, 900, 1_500, 1_000, 1_000, 1_000));
+        assertEquals(
+                PriceLabel.NORMAL,
+                PriceLabelClassifier.classify(1_099, 900, 1_500, 1_000, 1_000, 1_000));
+    }
+
+    @Test
+    void classifiesAgainstStatisticsBeforeNewPrice() {
+        RollingPriceStatistics stats = new RollingPriceStatistics();
+        stats.record(20_000, 1_000);
+        stats.record(20_001, 1_200);
+
+        assertEquals(PriceLabel.ALL_TIME_LOW, PriceLabelClassifier.classify(950, stats));
+        assertEquals(PriceLabel.GOOD_DEAL, PriceLabelClassifier.classify(1_040, stats));
+        assertEquals(PriceLabel.EXPENSIVE, PriceLabelClassifier.classify(1_300, stats));
+    }
+}
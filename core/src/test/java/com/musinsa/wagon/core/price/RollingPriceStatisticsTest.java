@@ -0,0 +1,127 @@
+package com.musinsa.wagon.core.price;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class RollingPriceStatisticsTest {
+
+    private static final int START_DAY = 20_000;
+
+    @Test
+    void windowsOnlyCountPricesInside() {
+        RollingPriceStatistics stats = new RollingPriceStatistics();
+        stats.record(START_DAY, 1_000);
+        stats.record(START_DAY + 20, 3_000);
+        stats.record(START_DAY + 40, 2_000);
+
+        // 첫 가격은 30일 창에서 빠졌지만 90일 창에는 남아 있다.
+        assertEquals(3_000, stats.getHighPrice30());
+        assertEquals(2_000, stats.getLowPrice30());
+        assertEquals(2_500, stats.getAvgPrice30());
+        assertEquals(3_000, stats.getHighPrice90());
+        assertEquals(1_000, stats.getLowPrice90());
+        assertEquals(2_000, stats.getAvgPrice90());
+        assertEquals(3_000, stats.getAllTimeHighPrice());
+        assertEquals(1_000, stats.getAllTimeLowPrice());
+    }
+
+    @Test
+    void gapLongerThanWindowResetsWindowsButKeepsAllTime() {
+        RollingPriceStatistics stats = new RollingPriceStatistics();
+        stats.record(START_DAY, 500);
+        stats.record(START_DAY + 200, 2_000);
+
+        assertEquals(2_000, stats.getLowPrice90());
+        assertEquals(2_000, stats.getAvgPrice90());
+        assertEquals(500, stats.getAllTimeLowPrice());
+    }
+
+    @Test
+    void ignoresPastDaysAndNonPositivePrices() {
+        RollingPriceStatistics stats = new RollingPriceStatistics();
+        assertTrue(stats.record(START_DAY, 1_000));
+
+        assertFalse(stats.record(START_DAY, 500));
+        assertFalse(stats.record(START_DAY - 1, 500));
+        assertFalse(stats.record(START_DAY + 1, 0));
+        assertEquals(1_000, stats.getLowPrice90());
+        assertEquals(START_DAY, stats.getLastEpochDay());
+    }
+
+    @Test
+    void carryForwardFillsGapsWithLastPrice() {
+        RollingPriceStatistics stats = new RollingPriceStatistics();
+        stats.record(START_DAY, 1_000);
+        stats.carryForwardTo(START_DAY + 19);
+        stats.record(START_DAY + 20, 4_000);
+
+        // 1_000 이 20일, 4_000 이 하루.
+        assertEquals(Math.round((20 * 1_000 + 4_000) / 21.0), stats.getAvgPrice30());
+        assertEquals(START_DAY + 20, stats.getLastEpochDay());
+    }
+
+    @Test
+    void copyDoesNotShareStateWithOriginal() {
+        RollingPriceStatistics stats = new RollingPriceStatistics();
+        stats.record(START_DAY, 2_000);
+        stats.record(START_DAY + 1, 3_000);
+
+        RollingPriceStatistics copy = stats.copy();
+        copy.record(START_DAY + 2, 1_000);
+
+        assertEquals(START_DAY + 1, stats.getLastEpochDay());
+        assertEquals(2_000, stats.getLowPrice30());
+        assertEquals(2_500, stats.getAvgPrice30());
+        assertEquals(1_000, copy.getLowPrice30());
+        assertEquals(3_000, copy.getHighPrice30());
+        assertEquals(2_000, copy.getAvgPrice30());
+    }
+
+    @Test
+    void matchesFullRecountOnRandomHistory() {
+        Random random = new Random(42);
+        RollingPriceStatistics stats = new RollingPriceStatistics();
+        List<int[]> recorded = new ArrayList<>();
+        int day = START_DAY;
+        for (int i = 0; i < 2_000; i++) {
+            day += 1 + random.nextInt(random.nextInt(10) == 0 ? 120 : 3);
+            int price = 1_000 + random.nextInt(9_000);
+            stats.record(day, price);
+            recorded.add(new int[] {day, price});
+
+            assertEquals(expected(recorded, day, 30), summary30(stats), "day " + day);
+            assertEquals(expected(recorded, day, 90), summary90(stats), "day " + day);
+        }
+    }
+
+    private static List<Integer> summary30(RollingPriceStatistics stats) {
+        return List.of(stats.getHighPrice30(), stats.getLowPrice30(), stats.getAvgPrice30());
+    }
+
+    private static List<Integer> summary90(RollingPriceStatistics stats) {
+        return List.of(stats.getHighPrice90(), stats.getLowPrice90(), stats.getAvgPrice90());
+    }
+
+    private static List<Integer> expected(List<int[]> recorded, int today, int windowDays) {
+        int high = 0;
+        int low = Integer.MAX_VALUE;
+        long sum = 0;
+        int count = 0;
+        for (int[] point : recorded) {
+            if (point[0] > today - windowDays) {
+                high = Math.max(high, point[1]);
+                low = Math.min(low, point[1]);
+                sum += point[1];
+                count++;
+            }
+        }
+        return List.of(high, low, (int) Math.round((double) sum / count));
+    }
+}
@@ -0,0 +1,89 @@
+package com.musinsa.wagon.core.product;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.musinsa.wagon.core.entity.enums.ShopType;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+class ProductUrlCanonicalizerTest {
+
+    @Test
+    void musinsaVariantsShareOneUrl() {
+        for (String url :
+                new String[] {
+                    "https://www.musinsa.com/products/3456789",
+                    "https://store.musinsa.com/app/goods/3456789?utm_source=kakao",
+                    "http://m.musinsa.com/goods/3456789/0#review",
+                    "  musinsa.com/products/3456789  "
+                }) {
+            assertEquals(
+                    Optional.of(
+                            new CanonicalProductUrl(
+                                    ShopType.MUSINSA,
+                                    3456789L,
+                                    "https://www.musinsa.com/products/3456789")),
+                    ProductUrlCanonicalizer.canonicalize(url),
+                    url);
+        }
+    }
+
+    @Test
+    void zigzagReadsProductIdFromQueryWhenPathHasNone() {
+        CanonicalProductUrl expected =
+                new CanonicalProductUrl(
+                        ShopType.ZIGZAG, 111L, "https://zigzag.kr/catalog/products/111");
+
+        assertEquals(
+                Optional.of(expected),
+                ProductUrlCanonicalizer.canonicalize("https://zigzag.kr/p/111"));
+        assertEquals(
+                Optional.of(expected),
+                ProductUrlCanonicalizer.canonicalize(
+                        "https://s.zigzag.kr/share?ref=x&product_id=111"));
+    }
+
+    @Test
+    void ablyAppPathIsCanonicalized() {
+        assertEquals(
+                "https://m.a-bly.com/goods/222",
+                ProductUrlCanonicalizer.canonicalize("https://a-bly.com/app/goods/222")
+                        .orElseThrow()
+                        .url());
+    }
+
+    @Test
+    void rejectsUnsupportedOrMalformedUrls() {
+        for (String url :
+                new String[] {
+                    null,
+                    " ",
+                    "https://example.com/products/1",
+                    "https://notmusinsa.com/products/1",
+                    "https://www.musinsa.com/brands/nike",
+                    "https://www.musinsa.com/products/99999999999999999999",
+                    "https://www.musinsa.com/products/%%"
+                }) {
+            assertTrue(ProductUrlCanonicalizer.canonicalize(url).isEmpty(), String.valueOf(url));
+        }
+    }
+
+    @Test
+    void shopTypeMustMatchHost() {
+        assertTrue(
+                ProductUrlCanonicalizer.canonicalize(
+                                ShopType.ZIGZAG, "https://www.musinsa.com/products/1")
+                        .isEmpty());
+    }
+
+    @Test
+    void ofBuildsSameUrlAsCanonicalize() {
+        assertEquals(
+                ProductUrlCanonicalizer.canonicalize("https://m.a-bly.com/goods/333"),
+                Optional.of(ProductUrlCanonicalizer.of(ShopType.ABLY, 333L)));
+        assertEquals("ABLY:333", ProductUrlCanonicalizer.of(ShopType.ABLY, 333L).key());
+    }
+}
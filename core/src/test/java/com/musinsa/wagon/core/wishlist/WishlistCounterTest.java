@@ -0,0 +1,158 @@
+package com.musinsa.wagon.core.wishlist;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+class WishlistCounterTest {
+
+    private final RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+    private final RecordingTransactionManager transactionManager =
+            new RecordingTransactionManager();
+    private final WishlistCounter counter =
+            new WishlistCounter(
+                    jdbcTemplate,
+                    transactionManager,
+                    new WishlistCounterProperties(Duration.ofHours(1), 2));
+
+    @Test
+    void flushSendsNetDeltaPerProductInIdOrder() {
+        counter.increment(20L);
+        counter.increment(10L);
+        counter.increment(10L);
+        counter.decrement(20L);
+        counter.decrement(30L);
+
+        counter.flush();
+
+        assertEquals(1, jdbcTemplate.batches.size());
+        assertArrayEquals(
+                new Object[][] {{2L, 10L}, {-1L, 30L}},
+                jdbcTemplate.batches.get(0).toArray(Object[][]::new));
+        assertEquals(1, transactionManager.commits);
+        assertEquals(0, counter.unflushed(10L));
+    }
+
+    @Test
+    void onlyIncrementsSinceLastFlushAreSent() {
+        counter.increment(10L);
+        counter.flush();
+        counter.increment(10L);
+        counter.increment(10L);
+
+        counter.flush();
+
+        assertArrayEquals(
+                new Object[][] {{2L, 10L}}, jdbcTemplate.batches.get(1).toArray(Object[][]::new));
+    }
+
+    @Test
+    void failedBatchIsResentOnNextFlush() {
+        counter.increment(10L);
+        jdbcTemplate.failNext = true;
+
+        assertThrows(IllegalStateException.class, counter::flush);
+        assertEquals(1, counter.unflushed(10L));
+        assertEquals(1, transactionManager.rollbacks);
+
+        counter.flush();
+
+        assertArrayEquals(
+                new Object[][] {{1L, 10L}}, jdbcTemplate.batches.get(0).toArray(Object[][]::new));
+        assertEquals(0, counter.unflushed(10L));
+    }
+
+    @Test
+    void idleCounterIsEvictedAndLaterIncrementsStillFlush() {
+        counter.increment(10L);
+        counter.flush();
+        counter.flush();
+        counter.flush();
+        counter.flush();
+
+        assertEquals(1, jdbcTemplate.batches.size());
+
+        counter.increment(10L);
+        assertEquals(1, counter.unflushed(10L));
+        counter.flush();
+
+        assertArrayEquals(
+                new Object[][] {{1L, 10L}}, jdbcTemplate.batches.get(1).toArray(Object[][]::new));
+    }
+
+    @Test
+    void nothingToFlushSkipsTransaction() {
+        counter.flush();
+
+        assertTrue(jdbcTemplate.batches.isEmpty());
+        assertEquals(0, transactionManager.commits);
+    }
+
+    @Test
+    void approximateCountAddsUnflushedDelta() {
+        jdbcTemplate.storedCount = 5;
+        counter.increment(10L);
+        counter.increment(10L);
+        assertEquals(Long.valueOf(7), counter.approximateCount(10L));
+
+        jdbcTemplate.storedCount = null;
+        assertNull(counter.approximateCount(10L));
+    }
+
+    private static final class RecordingJdbcTemplate extends JdbcTemplate {
+
+        private final List<List<Object[]>> batches = new ArrayList<>();
+        private boolean failNext;
+        private Integer storedCount;
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("connection lost");
+            }
+            batches.add(List.copyOf(batchArgs));
+            return new int[batchArgs.size()];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+            return storedCount == null ? List.of() : List.of((T) storedCount);
+        }
+    }
+
+    private static final class RecordingTransactionManager implements PlatformTransactionManager {
+
+        private int commits;
+        private int rollbacks;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            commits++;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            rollbacks++;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.musinsa.wagon.core.wishlist;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+class WishlistTargetPriceIndexTest {
+
+    private static final Long PRODUCT_ID = 10L;
+
+    private final ResultSet wishlists = mock(ResultSet.class);
+    private WishlistTargetPriceIndex index;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.createStatement()).willReturn(statement);
+        given(statement.executeQuery(anyString())).willReturn(wishlists);
+        index = new WishlistTargetPriceIndex(dataSource);
+        // 처음 조회할 때 DB 에서 읽어 덮어쓰므로 빈 DB 로 먼저 읽어 둔다.
+        index.rebuild();
+    }
+
+    @Test
+    void findsTargetsCrossedByPriceDrop() {
+        index.upsert(1L, 100L, PRODUCT_ID, 9_000, true);
+        index.upsert(2L, 200L, PRODUCT_ID, 8_000, true);
+        index.upsert(3L, 300L, PRODUCT_ID, 10_000, true);
+
+        // current <= 목표가 < previous
+        assertArrayEquals(new long[] {2L, 1L}, wishlistIds(PRODUCT_ID, 10_000, 8_000));
+        assertArrayEquals(new long[] {}, wishlistIds(PRODUCT_ID, 8_000, 7_000));
+        assertArrayEquals(new long[] {}, wishlistIds(PRODUCT_ID, 8_000, 9_000));
+    }
+
+    @Test
+    void disablingNotificationOrClearingTargetRemovesWishlist() {
+        index.upsert(1L, 100L, PRODUCT_ID, 9_000, true);
+        index.upsert(2L, 200L, PRODUCT_ID, 9_000, true);
+
+        index.upsert(1L, 100L, PRODUCT_ID, 9_000, false);
+        index.upsert(2L, 200L, PRODUCT_ID, null, true);
+
+        assertTrue(index.findTriggered(PRODUCT_ID, 10_000, 1_000).isEmpty());
+    }
+
+    @Test
+    void upsertToAnotherProductMovesWishlist() {
+        index.upsert(1L, 100L, PRODUCT_ID, 9_000, true);
+        index.upsert(1L, 100L, 20L, 9_000, true);
+
+        assertTrue(index.findTriggered(PRODUCT_ID, 10_000, 1_000).isEmpty());
+        assertArrayEquals(new long[] {1L}, wishlistIds(20L, 10_000, 1_000));
+    }
+
+    @Test
+    void changingTargetPriceReplacesPreviousEntry() {
+        index.upsert(1L, 100L, PRODUCT_ID, 9_000, true);
+        index.upsert(1L, 100L, PRODUCT_ID, 5_000, true);
+
+        assertArrayEquals(new long[] {}, wishlistIds(PRODUCT_ID, 10_000, 8_000));
+        assertArrayEquals(new long[] {1L}, wishlistIds(PRODUCT_ID, 10_000, 5_000));
+    }
+
+    @Test
+    void rebuildReplacesIndexWithStoredWishlists() throws SQLException {
+        given(wishlists.next()).willReturn(true, true, false);
+        given(wishlists.getLong(1)).willReturn(7L, 8L);
+        given(wishlists.getLong(2)).willReturn(700L, 800L);
+        given(wishlists.getLong(3)).willReturn(PRODUCT_ID, PRODUCT_ID);
+        given(wishlists.getInt(4)).willReturn(6_000, 9_000);
+        index.upsert(1L, 100L, PRODUCT_ID, 9_000, true);
+
+        index.rebuild();
+
+        assertArrayEquals(new long[] {7L, 8L}, wishlistIds(PRODUCT_ID, 10_000, 5_000));
+    }
+
+    private long[] wishlistIds(Long productId, int previousPrice, int currentPrice) {
+        TriggeredWishlists triggered =
+                index.findTriggered(productId, previousPrice, currentPrice);
+        long[] ids = new long[triggered.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = triggered.wishlistId(i);
+        }
+        return ids;
+    }
+}
@@ -5,11 +5,15 @@ import java.util.TimeZone;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = "com.musinsa.wagon")
 @EnableJpaRepositories(basePackages = "com.musinsa.wagon.core.repository")
 @EntityScan(basePackages = "com.musinsa.wagon.core")
+@ConfigurationPropertiesScan(basePackages = "com.musinsa.wagon")
+@EnableScheduling
 public class FOApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,37 @@
+package com.musinsa.wagon.fo.domains.brand;
+
+import com.musinsa.wagon.core.entity.enums.ShopType;
+import com.musinsa.wagon.fo.domains.brand.model.response.BrandListResponse;
+import com.musinsa.wagon.fo.domains.brand.model.response.BrandStatsResponse;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/** 쇼핑몰 → 브랜드 → 상품 탐색의 브랜드 단계. 브랜드의 상품 목록은 /api/products?shopType=&brand= 로 이어진다. */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/shops/{shopType}/brands")
+public class BrandController {
+
+    private final BrandService brandService;
+
+    @GetMapping
+    public ResponseEntity<BrandListResponse> getBrands(
+            @PathVariable ShopType shopType,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(brandService.getBrands(shopType, page, size));
+    }
+
+    @GetMapping("/{brand}")
+    public ResponseEntity<BrandStatsResponse> getBrand(
+            @PathVariable ShopType shopType, @PathVariable String brand) {
+        return ResponseEntity.ok(brandService.getBrand(shopType, brand));
+    }
+}
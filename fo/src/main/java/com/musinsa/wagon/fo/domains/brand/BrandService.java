@@ -0,0 +1,42 @@
+package com.musinsa.wagon.fo.domains.brand;
+
+import com.musinsa.wagon.core.entity.enums.ShopType;
+import com.musinsa.wagon.fo.domains.brand.model.response.BrandListResponse;
+import com.musinsa.wagon.fo.domains.brand.model.response.BrandStatsResponse;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class BrandService {
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+
+    private final BrandStatsRepository brandStatsRepository;
+
+    public BrandListResponse getBrands(ShopType shopType, Integer page, Integer size) {
+        int pageSize =
+                size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNo = page == null ? 0 : Math.max(0, page);
+
+        // 한 건 더 읽어 다음 페이지가 있는지 판단한다. 큰 page 가 int 범위를 넘지 않도록 offset 은 long 으로 계산한다.
+        List<BrandStatsResponse> brands =
+                brandStatsRepository.findPage(shopType, (long) pageNo * pageSize, pageSize + 1);
+        boolean hasNext = brands.size() > pageSize;
+        return new BrandListResponse(
+                hasNext ? brands.subList(0, pageSize) : brands, pageNo, hasNext);
+    }
+
+    public BrandStatsResponse getBrand(ShopType shopType, String brand) {
+        return brandStatsRepository
+                .find(shopType, brand)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+}
@@ -0,0 +1,69 @@
+package com.musinsa.wagon.fo.domains.brand;
+
+import com.musinsa.wagon.core.entity.enums.ShopType;
+import com.musinsa.wagon.fo.domains.brand.model.response.BrandStatsResponse;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/** 배치가 미리 집계해 둔 brand_stats 만 읽는다. products 는 건드리지 않는다. */
+@Repository
+@RequiredArgsConstructor
+public class BrandStatsRepository {
+
+    private static final String COLUMNS =
+            """
+            shop_type, brand, product_count, all_time_low_count, good_deal_count,
+            fake_discount_count, discount_rate_sum, discount_rate_count
+            """;
+
+    private static final String SELECT_PAGE_SQL =
+            "SELECT "
+                    + COLUMNS
+                    + """
+                      FROM brand_stats
+                     WHERE shop_type = ?
+                       AND product_count > 0
+                     ORDER BY product_count DESC, brand
+                     LIMIT ? OFFSET ?
+                    """;
+
+    private static final String SELECT_ONE_SQL =
+            "SELECT "
+                    + COLUMNS
+                    + """
+                      FROM brand_stats
+                     WHERE shop_type = ?
+                       AND brand = ?
+                    """;
+
+    private static final RowMapper<BrandStatsResponse> ROW_MAPPER =
+            (rs, rowNum) ->
+                    BrandStatsResponse.of(
+                            ShopType.valueOf(rs.getString(1)),
+                            rs.getString(2),
+                            rs.getInt(3),
+                            rs.getInt(4),
+                            rs.getInt(5),
+                            rs.getInt(6),
+                            rs.getLong(7),
+                            rs.getInt(8));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 상품이 많은 브랜드부터. */
+    public List<BrandStatsResponse> findPage(ShopType shopType, long offset, int limit) {
+        return jdbcTemplate.query(SELECT_PAGE_SQL, ROW_MAPPER, shopType.name(), limit, offset);
+    }
+
+    public Optional<BrandStatsResponse> find(ShopType shopType, String brand) {
+        return jdbcTemplate.query(SELECT_ONE_SQL, ROW_MAPPER, shopType.name(), brand).stream()
+                .findFirst();
+    }
+}
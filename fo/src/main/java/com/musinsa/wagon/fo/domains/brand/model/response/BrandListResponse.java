@@ -0,0 +1,5 @@
+package com.musinsa.wagon.fo.domains.brand.model.response;
+
+import java.util.List;
+
+public record BrandListResponse(List<BrandStatsResponse> brands, int page, boolean hasNext) {}
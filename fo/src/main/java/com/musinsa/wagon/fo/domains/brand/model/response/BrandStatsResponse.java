@@ -0,0 +1,37 @@
+package com.musinsa.wagon.fo.domains.brand.model.response;
+
+import com.musinsa.wagon.core.entity.enums.ShopType;
+
+/** dealRatio 는 역대 최저가·좋은 딜 상품 비율(0~1). 할인율이 있는 상품이 없으면 averageDiscountRate 는 null. */
+public record BrandStatsResponse(
+        ShopType shopType,
+        String brand,
+        int productCount,
+        int allTimeLowCount,
+        int goodDealCount,
+        double dealRatio,
+        int fakeDiscountCount,
+        Integer averageDiscountRate) {
+
+    public static BrandStatsResponse of(
+            ShopType shopType,
+            String brand,
+            int productCount,
+            int allTimeLowCount,
+            int goodDealCount,
+            int fakeDiscountCount,
+            long discountRateSum,
+            int discountRateCount) {
+        return new BrandStatsResponse(
+                shopType,
+                brand,
+                productCount,
+                allTimeLowCount,
+                goodDealCount,
+                productCount == 0 ? 0 : (double) (allTimeLowCount + goodDealCount) / productCount,
+                fakeDiscountCount,
+                discountRateCount == 0
+                        ? null
+                        : (int) Math.round((double) discountRateSum / discountRateCount));
+    }
+}
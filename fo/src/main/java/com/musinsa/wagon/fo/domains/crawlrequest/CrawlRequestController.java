@@ -0,0 +1,38 @@
+package com.musinsa.wagon.fo.domains.crawlrequest;
+
+import com.musinsa.wagon.fo.domains.crawlrequest.model.request.CrawlRequestCreateRequest;
+import com.musinsa.wagon.fo.domains.crawlrequest.model.response.CrawlRequestResponse;
+
+import jakarta.validation.Valid;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/users/{userId}/crawl-requests")
+public class CrawlRequestController {
+
+    private final CrawlRequestService crawlRequestService;
+
+    @PostMapping
+    public ResponseEntity<CrawlRequestResponse> submit(
+            @PathVariable Long userId, @Valid @RequestBody CrawlRequestCreateRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(crawlRequestService.submit(userId, request));
+    }
+
+    @GetMapping("/{requestId}")
+    public ResponseEntity<CrawlRequestResponse> getStatus(
+            @PathVariable Long userId, @PathVariable Long requestId) {
+        return ResponseEntity.ok(crawlRequestService.getStatus(userId, requestId));
+    }
+}
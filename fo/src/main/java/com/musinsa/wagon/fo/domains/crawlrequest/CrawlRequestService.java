@@ -0,0 +1,74 @@
+package com.musinsa.wagon.fo.domains.crawlrequest;
+
+import com.musinsa.wagon.core.entity.User;
+import com.musinsa.wagon.core.entity.UserProductCrawlRequest;
+import com.musinsa.wagon.core.product.CanonicalProductUrl;
+import com.musinsa.wagon.core.product.ProductUrlCanonicalizer;
+import com.musinsa.wagon.core.product.ProductUrlIndex;
+import com.musinsa.wagon.core.repository.ProductRepository;
+import com.musinsa.wagon.core.repository.UserProductCrawlRequestRepository;
+import com.musinsa.wagon.core.repository.UserRepository;
+import com.musinsa.wagon.fo.domains.crawlrequest.model.request.CrawlRequestCreateRequest;
+import com.musinsa.wagon.fo.domains.crawlrequest.model.response.CrawlRequestResponse;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Optional;
+
+/**
+ * 요청은 정규화한 URL 로 PENDING 저장만 하고 바로 돌려준다. 수집은 배치의 on-demand 큐가 맡고, 클라이언트는 상태를 폴링한다.
+ * 이미 추적 중인 상품이면 수집 없이 바로 COMPLETED 로 저장한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CrawlRequestService {
+
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+    private final UserProductCrawlRequestRepository userProductCrawlRequestRepository;
+    private final ProductUrlIndex productUrlIndex;
+
+    @Transactional
+    public CrawlRequestResponse submit(Long userId, CrawlRequestCreateRequest request) {
+        User user =
+                userRepository
+                        .findById(userId)
+                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        CanonicalProductUrl productUrl =
+                canonicalize(request)
+                        .orElseThrow(
+                                () ->
+                                        new ResponseStatusException(
+                                                HttpStatus.BAD_REQUEST, "Unsupported product url"));
+
+        UserProductCrawlRequest crawlRequest =
+                UserProductCrawlRequest.create(user, productUrl.url(), productUrl.shopType());
+        productUrlIndex
+                .find(productUrl)
+                .ifPresent(
+                        productId ->
+                                crawlRequest.complete(
+                                        productRepository.getReferenceById(productId)));
+        return CrawlRequestResponse.from(userProductCrawlRequestRepository.save(crawlRequest));
+    }
+
+    @Transactional(readOnly = true)
+    public CrawlRequestResponse getStatus(Long userId, Long requestId) {
+        return userProductCrawlRequestRepository
+                .findByIdAndUserId(requestId, userId)
+                .map(CrawlRequestResponse::from)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+
+    private static Optional<CanonicalProductUrl> canonicalize(CrawlRequestCreateRequest request) {
+        if (request.shopType() == null) {
+            return ProductUrlCanonicalizer.canonicalize(request.productUrl());
+        }
+        return ProductUrlCanonicalizer.canonicalize(request.shopType(), request.productUrl());
+    }
+}
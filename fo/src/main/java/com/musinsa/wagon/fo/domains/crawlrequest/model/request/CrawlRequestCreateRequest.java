@@ -0,0 +1,10 @@
+package com.musinsa.wagon.fo.domains.crawlrequest.model.request;
+
+import com.musinsa.wagon.core.entity.enums.ShopType;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/** shopType 을 비워 두면 URL 호스트로 판단한다. */
+public record CrawlRequestCreateRequest(
+        @NotBlank @Size(max = 512) String productUrl, ShopType shopType) {}
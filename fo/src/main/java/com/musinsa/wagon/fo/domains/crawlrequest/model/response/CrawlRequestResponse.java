@@ -0,0 +1,30 @@
+package com.musinsa.wagon.fo.domains.crawlrequest.model.response;
+
+import com.musinsa.wagon.core.entity.UserProductCrawlRequest;
+import com.musinsa.wagon.core.entity.enums.RequestStatus;
+import com.musinsa.wagon.core.entity.enums.ShopType;
+
+import java.time.LocalDateTime;
+
+public record CrawlRequestResponse(
+        Long id,
+        String productUrl,
+        ShopType shopType,
+        RequestStatus status,
+        Long productId,
+        String errorMessage,
+        LocalDateTime requestedAt,
+        LocalDateTime processedAt) {
+
+    public static CrawlRequestResponse from(UserProductCrawlRequest request) {
+        return new CrawlRequestResponse(
+                request.getId(),
+                request.getProductUrl(),
+                request.getShopType(),
+                request.getStatus(),
+                request.getProduct() == null ? null : request.getProduct().getId(),
+                request.getErrorMessage(),
+                request.getRequestedAt(),
+                request.getProcessedAt());
+    }
+}
@@ -0,0 +1,54 @@
+package com.musinsa.wagon.fo.domains.export;
+
+import com.musinsa.wagon.core.entity.enums.ShopType;
+import com.musinsa.wagon.core.infra.export.ExportFormat;
+import com.musinsa.wagon.core.infra.export.HistoryExportQuery;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+/**
+ * target 은 product-histories 또는 fake-discount-histories. 본문은 gzip 파일 그대로 내려간다.
+ *
+ * <p>product-histories 는 날짜별 가격이 아니라 가격이 바뀐 날의 변경 지점이고, 상품마다 from 이전의 마지막 변경 지점이 함께
+ * 들어 있다. 어느 날의 가격은 그날 이전의 가장 최근 지점의 값이다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/exports")
+public class HistoryExportController {
+
+    private final HistoryExportService historyExportService;
+
+    @GetMapping("/{target}")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable String target,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) ShopType shopType,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        HistoryExportQuery query = historyExportService.toQuery(target, format, shopType, from, to);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment()
+                                .filename(query.fileName())
+                                .build()
+                                .toString())
+                .body(historyExportService.stream(query));
+    }
+}
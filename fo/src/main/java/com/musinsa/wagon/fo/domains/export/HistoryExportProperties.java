@@ -0,0 +1,9 @@
+package com.musinsa.wagon.fo.domains.export;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/** 내보내기 하나가 끝날 때까지 DB 커넥션 하나를 잡고 있으므로 동시에 도는 수를 제한한다. */
+@ConfigurationProperties(prefix = "history-export")
+public record HistoryExportProperties(
+        @DefaultValue("2") int maxConcurrent, @DefaultValue("366") int maxRangeDays) {}
@@ -0,0 +1,63 @@
+package com.musinsa.wagon.fo.domains.export;
+
+import com.musinsa.wagon.core.entity.enums.ShopType;
+import com.musinsa.wagon.core.infra.export.ExportFormat;
+import com.musinsa.wagon.core.infra.export.HistoryExportQuery;
+import com.musinsa.wagon.core.infra.export.HistoryExportTarget;
+import com.musinsa.wagon.core.infra.export.HistoryExporter;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Semaphore;
+
+@Service
+public class HistoryExportService {
+
+    private final HistoryExporter historyExporter;
+    private final HistoryExportProperties properties;
+    private final Semaphore permits;
+
+    public HistoryExportService(
+            HistoryExporter historyExporter, HistoryExportProperties properties) {
+        this.historyExporter = historyExporter;
+        this.properties = properties;
+        this.permits = new Semaphore(properties.maxConcurrent());
+    }
+
+    public HistoryExportQuery toQuery(
+            String target, ExportFormat format, ShopType shopType, LocalDate from, LocalDate to) {
+        HistoryExportTarget exportTarget;
+        try {
+            exportTarget = HistoryExportTarget.fromPath(target);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from is after to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= properties.maxRangeDays()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "range is too long");
+        }
+        return new HistoryExportQuery(exportTarget, format, shopType, from, to);
+    }
+
+    /** 자리가 없으면 바로 429. 허가는 응답 본문을 다 쓰거나 실패한 뒤에 돌려준다. */
+    public StreamingResponseBody stream(HistoryExportQuery query) {
+        if (!permits.tryAcquire()) {
+            throw new ResponseStatusException(
+                    HttpStatus.TOO_MANY_REQUESTS, "Too many exports in progress");
+        }
+        return out -> {
+            try {
+                historyExporter.export(query, out);
+            } finally {
+                permits.release();
+            }
+        };
+    }
+}
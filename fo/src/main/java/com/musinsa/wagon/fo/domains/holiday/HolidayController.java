@@ -0,0 +1,34 @@
+package com.musinsa.wagon.fo.domains.holiday;
+
+import com.musinsa.wagon.fo.domains.holiday.model.response.HolidayWindowResponse;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/holidays")
+public class HolidayController {
+
+    private final HolidayService holidayService;
+
+    @GetMapping("/monitoring")
+    public ResponseEntity<List<HolidayWindowResponse>> getMonitoringHolidays(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate to) {
+        LocalDate start = from != null ? from : LocalDate.now();
+        LocalDate end = to != null ? to : start;
+        return ResponseEntity.ok(holidayService.getMonitoringHolidays(start, end));
+    }
+}
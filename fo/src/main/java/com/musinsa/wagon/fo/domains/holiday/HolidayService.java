@@ -0,0 +1,35 @@
+package com.musinsa.wagon.fo.domains.holiday;
+
+import com.musinsa.wagon.core.holiday.HolidayIntervalIndex;
+import com.musinsa.wagon.core.holiday.HolidayIntervals;
+import com.musinsa.wagon.fo.domains.holiday.model.response.HolidayWindowResponse;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class HolidayService {
+
+    private static final int MAX_OVERLAPPING = 64;
+
+    private final HolidayIntervalIndex holidayIntervalIndex;
+
+    public List<HolidayWindowResponse> getMonitoringHolidays(LocalDate from, LocalDate to) {
+        HolidayIntervals intervals = holidayIntervalIndex.intervals();
+        int[] indexes = new int[MAX_OVERLAPPING];
+        int count =
+                intervals.overlapping((int) from.toEpochDay(), (int) to.toEpochDay(), indexes);
+
+        List<HolidayWindowResponse> responses = new ArrayList<>(count);
+        for (int i = count - 1; i >= 0; i--) {
+            responses.add(HolidayWindowResponse.of(intervals, indexes[i]));
+        }
+        return responses;
+    }
+}
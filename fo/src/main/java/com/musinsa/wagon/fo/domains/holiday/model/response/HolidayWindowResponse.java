@@ -0,0 +1,22 @@
+package com.musinsa.wagon.fo.domains.holiday.model.response;
+
+import com.musinsa.wagon.core.holiday.HolidayIntervals;
+
+import java.time.LocalDate;
+
+public record HolidayWindowResponse(
+        Long holidayId,
+        String name,
+        LocalDate holidayDate,
+        LocalDate monitoringStartDate,
+        LocalDate monitoringEndDate) {
+
+    public static HolidayWindowResponse of(HolidayIntervals intervals, int index) {
+        return new HolidayWindowResponse(
+                intervals.holidayId(index),
+                intervals.name(index),
+                LocalDate.ofEpochDay(intervals.holidayDay(index)),
+                LocalDate.ofEpochDay(intervals.startDay(index)),
+                LocalDate.ofEpochDay(intervals.endDay(index)));
+    }
+}
@@ -0,0 +1,49 @@
+package com.musinsa.wagon.fo.domains.notification;
+
+import com.musinsa.wagon.core.entity.Notification;
+import com.musinsa.wagon.core.notification.UnreadNotificationCounter;
+import com.musinsa.wagon.core.repository.NotificationRepository;
+import com.musinsa.wagon.core.utils.TransactionSynchronizations;
+import com.musinsa.wagon.fo.domains.notification.model.response.UnreadCountResponse;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+@RequiredArgsConstructor
+public class NotificationService {
+
+    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
+    public UnreadCountResponse getUnreadCount(Long userId) {
+        return new UnreadCountResponse(userId, unreadNotificationCounter.get(userId));
+    }
+
+    @Transactional
+    public void markAsRead(Long userId, Long notificationId) {
+        Notification notification =
+                notificationRepository
+                        .findById(notificationId)
+                        .filter(found -> found.getUser().getId().equals(userId))
+                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        notification.markAsRead();
+    }
+
+    // 벌크 UPDATE 는 엔티티 리스너를 거치지 않으므로 캐시를 직접 0 으로 맞춘다.
+    @Transactional
+    public void markAllAsRead(Long userId) {
+        notificationRepository.markAllAsRead(userId);
+        TransactionSynchronizations.afterCommit(() -> unreadNotificationCounter.reset(userId));
+    }
+
+    @Scheduled(fixedDelayString = "${notification.unread-counter.reconcile-interval:PT1M}")
+    public void reconcileUnreadCounts() {
+        unreadNotificationCounter.reconcile();
+    }
+}
@@ -0,0 +1,19 @@
+package com.musinsa.wagon.fo.domains.notification;
+
+import com.musinsa.wagon.core.notification.UnreadNotificationCounter;
+import com.musinsa.wagon.core.repository.NotificationRepository;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** 뱃지를 그리는 프론트오피스에서만 안 읽은 수를 캐시한다. */
+@Configuration
+public class UnreadCounterConfig {
+
+    @Bean
+    public UnreadNotificationCounter unreadNotificationCounter(
+            NotificationRepository notificationRepository, UnreadCounterProperties properties) {
+        return new UnreadNotificationCounter(
+                notificationRepository, properties.maximumSize(), properties.expireAfterAccess());
+    }
+}
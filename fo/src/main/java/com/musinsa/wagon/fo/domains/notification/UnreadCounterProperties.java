@@ -0,0 +1,11 @@
+package com.musinsa.wagon.fo.domains.notification;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "notification.unread-counter")
+public record UnreadCounterProperties(
+        @DefaultValue("100000") long maximumSize,
+        @DefaultValue("30m") Duration expireAfterAccess) {}
@@ -0,0 +1,3 @@
+package com.musinsa.wagon.fo.domains.notification.model.response;
+
+public record UnreadCountResponse(Long userId, int unreadCount) {}
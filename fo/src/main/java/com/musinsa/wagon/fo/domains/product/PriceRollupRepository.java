@@ -0,0 +1,155 @@
+package com.musinsa.wagon.fo.domains.product;
+
+import com.musinsa.wagon.fo.domains.product.model.PriceResolution;
+import com.musinsa.wagon.fo.domains.product.model.response.PriceChartResponse;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class PriceRollupRepository {
+
+    // 요약은 값이 바뀐 기간에만 생기므로 from 이전의 마지막 기간도 읽어 빈 기간을 그 종가로 채운다. 요약 행의 합계와 일수는
+    // close_date 까지만 담고 있어 구간의 남은 날은 종가로 채워 평균을 낸다.
+    private static final String SELECT_ROLLUP_SQL_TEMPLATE =
+            """
+            (SELECT r.period_start, r.min_price, r.max_price, r.price_sum, r.sample_count,
+                    r.close_price, r.close_date
+               FROM %1$s r
+               JOIN products p ON p.id = r.product_id
+              WHERE p.product_number = ?
+                AND r.period_start < ?
+              ORDER BY r.period_start DESC
+              LIMIT 1)
+            UNION ALL
+            (SELECT r.period_start, r.min_price, r.max_price, r.price_sum, r.sample_count,
+                    r.close_price, r.close_date
+               FROM %1$s r
+               JOIN products p ON p.id = r.product_id
+              WHERE p.product_number = ?
+                AND r.period_start BETWEEN ? AND ?)
+             ORDER BY period_start
+            """;
+
+    private static final String SELECT_WEEKLY_SQL =
+            SELECT_ROLLUP_SQL_TEMPLATE.formatted("product_price_weekly");
+    private static final String SELECT_MONTHLY_SQL =
+            SELECT_ROLLUP_SQL_TEMPLATE.formatted("product_price_monthly");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** from, to 는 구간 시작일로 맞춰서 넘긴다. */
+    public PriceChartResponse find(
+            Long productNumber, PriceResolution resolution, LocalDate from, LocalDate to) {
+        String sql =
+                switch (resolution) {
+                    case WEEKLY -> SELECT_WEEKLY_SQL;
+                    case MONTHLY -> SELECT_MONTHLY_SQL;
+                    case DAILY -> throw new IllegalArgumentException(
+                            "Daily prices are not rolled up");
+                };
+        List<Period> rows = new ArrayList<>();
+        jdbcTemplate.query(
+                sql,
+                rs -> {
+                    rows.add(
+                            new Period(
+                                    rs.getDate(1).toLocalDate(),
+                                    rs.getInt(2),
+                                    rs.getInt(3),
+                                    rs.getLong(4),
+                                    rs.getInt(5),
+                                    rs.getInt(6),
+                                    rs.getDate(7).toLocalDate()));
+                },
+                productNumber,
+                Date.valueOf(from),
+                productNumber,
+                Date.valueOf(from),
+                Date.valueOf(to));
+
+        List<LocalDate> periodStarts = new ArrayList<>();
+        IntColumn minPrices = new IntColumn();
+        IntColumn maxPrices = new IntColumn();
+        IntColumn avgPrices = new IntColumn();
+        IntColumn closePrices = new IntColumn();
+        if (!rows.isEmpty()) {
+            LocalDate today = LocalDate.now();
+            LocalDate last = resolution.periodStart(to.isAfter(today) ? today : to);
+            LocalDate first = rows.get(0).start();
+            int row = 0;
+            for (LocalDate period = first.isBefore(from) ? from : first;
+                    !period.isAfter(last);
+                    period = resolution.nextPeriodStart(period)) {
+                while (row + 1 < rows.size() && !rows.get(row + 1).start().isAfter(period)) {
+                    row++;
+                }
+                Period current = rows.get(row);
+                periodStarts.add(period);
+                if (current.start().equals(period)) {
+                    minPrices.add(current.minPrice());
+                    maxPrices.add(current.maxPrice());
+                    LocalDate periodEnd = resolution.nextPeriodStart(period).minusDays(1);
+                    avgPrices.add(
+                            current.avgPrice(periodEnd.isAfter(today) ? today : periodEnd));
+                } else {
+                    // 값이 바뀌지 않은 기간은 직전 종가가 그대로 이어진다.
+                    minPrices.add(current.closePrice());
+                    maxPrices.add(current.closePrice());
+                    avgPrices.add(current.closePrice());
+                }
+                closePrices.add(current.closePrice());
+            }
+        }
+        return new PriceChartResponse(
+                productNumber,
+                resolution,
+                periodStarts.toArray(LocalDate[]::new),
+                minPrices.toArray(),
+                maxPrices.toArray(),
+                avgPrices.toArray(),
+                closePrices.toArray());
+    }
+
+    private record Period(
+            LocalDate start,
+            int minPrice,
+            int maxPrice,
+            long priceSum,
+            int days,
+            int closePrice,
+            LocalDate closeDate) {
+
+        /** close_date 다음 날부터 until 까지는 종가가 이어진 것으로 보고 일수 가중 평균을 낸다. */
+        int avgPrice(LocalDate until) {
+            long carried = Math.max(0, until.toEpochDay() - closeDate.toEpochDay());
+            return (int) Math.round((double) (priceSum + closePrice * carried) / (days + carried));
+        }
+    }
+
+    private static final class IntColumn {
+
+        private int[] values = new int[64];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
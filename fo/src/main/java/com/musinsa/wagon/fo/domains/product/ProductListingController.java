@@ -0,0 +1,35 @@
+package com.musinsa.wagon.fo.domains.product;
+
+import com.musinsa.wagon.core.entity.enums.PriceLabel;
+import com.musinsa.wagon.core.entity.enums.ShopType;
+import com.musinsa.wagon.fo.domains.product.model.response.ProductListResponse;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/products")
+public class ProductListingController {
+
+    private final ProductListingService productListingService;
+
+    @GetMapping
+    public ResponseEntity<ProductListResponse> getProducts(
+            @RequestParam(required = false) ShopType shopType,
+            @RequestParam(required = false) String brand,
+            @RequestParam(required = false) PriceLabel priceLabel,
+            @RequestParam(required = false) Boolean fakeDiscount,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(
+                productListingService.getProducts(
+                        shopType, brand, priceLabel, fakeDiscount, categoryId, cursor, size));
+    }
+}
@@ -0,0 +1,153 @@
+package com.musinsa.wagon.fo.domains.product;
+
+import static com.musinsa.wagon.core.entity.QProduct.product;
+
+import com.musinsa.wagon.fo.domains.product.model.ProductCursor;
+import com.musinsa.wagon.fo.domains.product.model.request.ProductListingCondition;
+import com.musinsa.wagon.fo.domains.product.model.response.ProductListItemResponse;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * (shopType, brand, priceLabel, id) 순 keyset 페이지네이션. 먼저 idx_product_listing 만 읽어 페이지에 들어갈 키를 고르고,
+ * 고른 id 로만 나머지 컬럼을 읽는다. 앞 페이지를 건너뛰며 읽지 않으므로 500 페이지도 1 페이지와 비용이 같다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductListingRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    /** 정렬 키만 고른다. 모두 인덱스에 있는 컬럼이라 테이블 행을 읽지 않는다. */
+    public List<ProductCursor> findPageKeys(
+            ProductListingCondition condition, ProductCursor cursor, int limit) {
+        List<Tuple> rows =
+                queryFactory
+                        .select(product.shopType, product.brand, product.priceLabel, product.id)
+                        .from(product)
+                        .where(filter(condition), seek(condition, cursor))
+                        .orderBy(
+                                product.shopType.asc(),
+                                product.brand.asc(),
+                                product.priceLabel.asc(),
+                                product.id.asc())
+                        .limit(limit)
+                        .fetch();
+
+        List<ProductCursor> keys = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            keys.add(
+                    new ProductCursor(
+                            row.get(product.shopType),
+                            row.get(product.brand),
+                            row.get(product.priceLabel),
+                            row.get(product.id)));
+        }
+        return keys;
+    }
+
+    public List<ProductListItemResponse> findItems(List<ProductCursor> keys) {
+        return findItemsByIds(keys.stream().map(ProductCursor::id).toList());
+    }
+
+    /** ids 순서대로 돌려준다. 그 사이 지워진 상품은 빠진다. */
+    public List<ProductListItemResponse> findItemsByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<ProductListItemResponse> items =
+                queryFactory
+                        .select(
+                                Projections.constructor(
+                                        ProductListItemResponse.class,
+                                        product.id,
+                                        product.productNumber,
+                                        product.shopType,
+                                        product.brand,
+                                        product.name,
+                                        product.imgUrl,
+                                        product.currentPrice,
+                                        product.originalPrice,
+                                        product.discountRate,
+                                        product.priceLabel,
+                                        product.isFakeDiscount))
+                        .from(product)
+                        .where(product.id.in(ids))
+                        .fetch();
+
+        Map<Long, ProductListItemResponse> byId = new HashMap<>(items.size() * 2);
+        for (ProductListItemResponse item : items) {
+            byId.put(item.id(), item);
+        }
+        List<ProductListItemResponse> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            ProductListItemResponse item = byId.get(id);
+            if (item != null) {
+                ordered.add(item);
+            }
+        }
+        return ordered;
+    }
+
+    private BooleanBuilder filter(ProductListingCondition condition) {
+        BooleanBuilder builder = new BooleanBuilder();
+        if (condition.shopType() != null) {
+            builder.and(product.shopType.eq(condition.shopType()));
+        }
+        if (condition.brand() != null) {
+            builder.and(product.brand.eq(condition.brand()));
+        }
+        if (condition.priceLabel() != null) {
+            builder.and(product.priceLabel.eq(condition.priceLabel()));
+        }
+        if (condition.fakeDiscount() != null) {
+            builder.and(product.isFakeDiscount.eq(condition.fakeDiscount()));
+        }
+        if (condition.categoryIds() != null) {
+            builder.and(product.category.id.in(condition.categoryIds()));
+        }
+        return builder;
+    }
+
+    /**
+     * (shopType, brand, priceLabel, id) > cursor 를 안쪽 키부터 풀어 쓴다. 조건으로 고정된 키는 비교할 필요가 없어 건너뛴다.
+     * MySQL 은 오름차순에서 NULL 을 먼저 두므로 cursor 값이 NULL 이면 NULL 이 아닌 행이 모두 뒤에 온다.
+     */
+    private BooleanExpression seek(ProductListingCondition condition, ProductCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        BooleanExpression after = product.id.gt(cursor.id());
+        if (condition.priceLabel() == null) {
+            after = after(product.priceLabel, cursor.priceLabel(), after);
+        }
+        if (condition.brand() == null) {
+            after = after(product.brand, cursor.brand(), after);
+        }
+        if (condition.shopType() == null) {
+            after = after(product.shopType, cursor.shopType(), after);
+        }
+        return after;
+    }
+
+    private static <T extends Comparable<?>> BooleanExpression after(
+            ComparableExpression<T> key, T value, BooleanExpression next) {
+        if (value == null) {
+            return key.isNotNull().or(key.isNull().and(next));
+        }
+        return key.gt(value).or(key.eq(value).and(next));
+    }
+}
@@ -0,0 +1,73 @@
+package com.musinsa.wagon.fo.domains.product;
+
+import com.musinsa.wagon.core.category.CategoryTreeIndex;
+import com.musinsa.wagon.core.entity.enums.PriceLabel;
+import com.musinsa.wagon.core.entity.enums.ShopType;
+import com.musinsa.wagon.fo.domains.product.model.ProductCursor;
+import com.musinsa.wagon.fo.domains.product.model.request.ProductListingCondition;
+import com.musinsa.wagon.fo.domains.product.model.response.ProductListResponse;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductListingService {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final ProductListingRepository productListingRepository;
+    private final CategoryTreeIndex categoryTreeIndex;
+
+    public ProductListResponse getProducts(
+            ShopType shopType,
+            String brand,
+            PriceLabel priceLabel,
+            Boolean fakeDiscount,
+            Long categoryId,
+            String cursor,
+            Integer size) {
+        ProductListingCondition condition =
+                new ProductListingCondition(
+                        shopType, brand, priceLabel, fakeDiscount, categoryIds(categoryId));
+        int pageSize =
+                size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        ProductCursor after =
+                cursor == null || cursor.isBlank() ? null : ProductCursor.decode(cursor);
+
+        // 한 건 더 읽어 다음 페이지가 있는지 판단한다.
+        List<ProductCursor> keys =
+                productListingRepository.findPageKeys(condition, after, pageSize + 1);
+        boolean hasNext = keys.size() > pageSize;
+        List<ProductCursor> page = hasNext ? keys.subList(0, pageSize) : keys;
+
+        return new ProductListResponse(
+                productListingRepository.findItems(page),
+                hasNext ? page.get(page.size() - 1).encode() : null);
+    }
+
+    // 하위 카테고리까지 메모리 트리에서 풀어 IN 한 번으로 거른다.
+    private List<Long> categoryIds(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        long[] subtree = categoryTreeIndex.subtreeIds(categoryId);
+        if (subtree.length == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+        List<Long> ids = new ArrayList<>(subtree.length);
+        for (long id : subtree) {
+            ids.add(id);
+        }
+        return ids;
+    }
+}
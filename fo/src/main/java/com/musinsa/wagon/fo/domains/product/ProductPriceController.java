@@ -0,0 +1,44 @@
+package com.musinsa.wagon.fo.domains.product;
+
+import com.musinsa.wagon.fo.domains.product.model.response.PriceChartResponse;
+import com.musinsa.wagon.fo.domains.product.model.response.PriceSeriesResponse;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/products")
+public class ProductPriceController {
+
+    private final ProductPriceService productPriceService;
+
+    @GetMapping("/{productNumber}/prices")
+    public ResponseEntity<PriceSeriesResponse> getPriceSeries(
+            @PathVariable Long productNumber,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate to) {
+        return ResponseEntity.ok(productPriceService.getPriceSeries(productNumber, from, to));
+    }
+
+    @GetMapping("/{productNumber}/prices/chart")
+    public ResponseEntity<PriceChartResponse> getPriceChart(
+            @PathVariable Long productNumber,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate to) {
+        return ResponseEntity.ok(productPriceService.getPriceChart(productNumber, from, to));
+    }
+}
@@ -0,0 +1,42 @@
+package com.musinsa.wagon.fo.domains.product;
+
+import com.musinsa.wagon.core.infra.pricestore.PriceSeriesSource;
+import com.musinsa.wagon.fo.domains.product.model.PriceResolution;
+import com.musinsa.wagon.fo.domains.product.model.response.PriceChartResponse;
+import com.musinsa.wagon.fo.domains.product.model.response.PriceSeriesResponse;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+@Service
+@RequiredArgsConstructor
+public class ProductPriceService {
+
+    private static final int DEFAULT_RANGE_DAYS = 365;
+
+    private final PriceSeriesSource priceSeriesSource;
+    private final PriceRollupRepository priceRollupRepository;
+
+    public PriceSeriesResponse getPriceSeries(Long productNumber, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS);
+        return PriceSeriesResponse.of(
+                productNumber, priceSeriesSource.find(productNumber, start, end));
+    }
+
+    /** from 이 없으면 전체 기간. 일별을 넘는 구간은 요약 테이블에서 읽는다. */
+    public PriceChartResponse getPriceChart(Long productNumber, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : LocalDate.EPOCH;
+        PriceResolution resolution = PriceResolution.of(start, end);
+        if (resolution == PriceResolution.DAILY) {
+            return PriceChartResponse.daily(
+                    productNumber, priceSeriesSource.find(productNumber, start, end));
+        }
+        return priceRollupRepository.find(
+                productNumber, resolution, resolution.periodStart(start), end);
+    }
+}
@@ -0,0 +1,100 @@
+package com.musinsa.wagon.fo.domains.product;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.musinsa.wagon.core.infra.cache.SharedCache;
+import com.musinsa.wagon.core.product.ProductViewVersions;
+import com.musinsa.wagon.fo.domains.product.model.response.ProductViewResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 상품 상세 화면 2단 캐시. L1 은 프로세스 안의 Caffeine, L2 는 {@link SharedCache}. 키에 {@link ProductViewVersions}
+ * 의 버전을 넣어 두었기 때문에 배치가 버전을 올리는 순간 모든 fo 인스턴스의 옛 항목이 함께 무시된다. 삭제를 전파할 필요가 없다.
+ *
+ * <p>버전을 읽은 뒤 DB 를 읽는 사이에 버전이 올라가면 새 값이 옛 버전 키로 들어갈 수 있지만, 그 키는 다시 읽히지 않으므로 문제가 없다.
+ */
+@Slf4j
+@Component
+public class ProductViewCache {
+
+    private static final String VIEW_KEY_PREFIX = "product:view:";
+
+    private final SharedCache sharedCache;
+    private final ProductViewVersions productViewVersions;
+    private final ObjectMapper objectMapper;
+    private final ProductViewCacheProperties properties;
+    private final Cache<ViewKey, ProductViewResponse> local;
+
+    public ProductViewCache(
+            SharedCache sharedCache,
+            ProductViewVersions productViewVersions,
+            ObjectMapper objectMapper,
+            ProductViewCacheProperties properties) {
+        this.sharedCache = sharedCache;
+        this.productViewVersions = productViewVersions;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.local =
+                Caffeine.newBuilder()
+                        .maximumSize(properties.localMaximumSize())
+                        .expireAfterWrite(properties.localExpireAfterWrite())
+                        .build();
+    }
+
+    /** loader 가 null 을 돌려주면 캐시하지 않고 null 을 돌려준다. */
+    public ProductViewResponse get(Long productId, Supplier<ProductViewResponse> loader) {
+        ViewKey key = new ViewKey(productId, productViewVersions.current(productId));
+        ProductViewResponse view = local.getIfPresent(key);
+        if (view != null) {
+            return view;
+        }
+
+        view = readShared(key);
+        if (view == null) {
+            view = loader.get();
+            if (view == null) {
+                return null;
+            }
+            writeShared(key, view);
+        }
+        local.put(key, view);
+        return view;
+    }
+
+    private ProductViewResponse readShared(ViewKey key) {
+        String json = sharedCache.get(key.sharedKey());
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, ProductViewResponse.class);
+        } catch (JsonProcessingException e) {
+            // 응답 형식이 바뀐 뒤 남아 있는 옛 항목은 DB 에서 다시 읽어 덮어쓴다.
+            log.warn("[ProductView] unreadable cache entry. key={}", key.sharedKey(), e);
+            return null;
+        }
+    }
+
+    private void writeShared(ViewKey key, ProductViewResponse view) {
+        try {
+            sharedCache.set(
+                    key.sharedKey(), objectMapper.writeValueAsString(view), properties.sharedTtl());
+        } catch (JsonProcessingException e) {
+            log.warn("[ProductView] failed to serialize. key={}", key.sharedKey(), e);
+        }
+    }
+
+    private record ViewKey(Long productId, long version) {
+
+        String sharedKey() {
+            return VIEW_KEY_PREFIX + productId + ":v" + version;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.musinsa.wagon.fo.domains.product;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "product-view-cache")
+public record ProductViewCacheProperties(
+        @DefaultValue("10000") long localMaximumSize,
+        @DefaultValue("10m") Duration localExpireAfterWrite,
+        @DefaultValue("1h") Duration sharedTtl) {}
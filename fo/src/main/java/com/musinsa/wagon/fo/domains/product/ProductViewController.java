@@ -0,0 +1,30 @@
+package com.musinsa.wagon.fo.domains.product;
+
+import com.musinsa.wagon.fo.domains.product.model.response.ProductViewResponse;
+import com.musinsa.wagon.fo.domains.product.model.response.WishlistCountResponse;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/products")
+public class ProductViewController {
+
+    private final ProductViewService productViewService;
+
+    @GetMapping("/{productId}")
+    public ResponseEntity<ProductViewResponse> getProduct(@PathVariable Long productId) {
+        return ResponseEntity.ok(productViewService.getProduct(productId));
+    }
+
+    @GetMapping("/{productId}/wishlist-count")
+    public ResponseEntity<WishlistCountResponse> getWishlistCount(@PathVariable Long productId) {
+        return ResponseEntity.ok(productViewService.getWishlistCount(productId));
+    }
+}
@@ -0,0 +1,62 @@
+package com.musinsa.wagon.fo.domains.product;
+
+import com.musinsa.wagon.core.entity.Product;
+import com.musinsa.wagon.core.infra.pricestore.PriceSeriesSource;
+import com.musinsa.wagon.core.repository.ProductRepository;
+import com.musinsa.wagon.core.wishlist.WishlistCounter;
+import com.musinsa.wagon.fo.domains.product.model.response.PriceSeriesResponse;
+import com.musinsa.wagon.fo.domains.product.model.response.ProductViewResponse;
+import com.musinsa.wagon.fo.domains.product.model.response.WishlistCountResponse;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+
+@Service
+@RequiredArgsConstructor
+public class ProductViewService {
+
+    private static final int PRICE_RANGE_DAYS = 90;
+
+    private final ProductRepository productRepository;
+    private final PriceSeriesSource priceSeriesSource;
+    private final ProductViewCache productViewCache;
+    private final WishlistCounter wishlistCounter;
+
+    public ProductViewResponse getProduct(Long productId) {
+        ProductViewResponse view = productViewCache.get(productId, () -> load(productId));
+        if (view == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+        return view;
+    }
+
+    /** 화면 캐시를 거치지 않는다. 위시리스트 수는 자주 바뀌어 캐시 버전을 올릴 가치가 없다. */
+    public WishlistCountResponse getWishlistCount(Long productId) {
+        Long count = wishlistCounter.approximateCount(productId);
+        if (count == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+        return new WishlistCountResponse(productId, count);
+    }
+
+    private ProductViewResponse load(Long productId) {
+        Product product = productRepository.findWithDetailAndCategoryById(productId).orElse(null);
+        if (product == null) {
+            return null;
+        }
+        LocalDate end = LocalDate.now();
+        PriceSeriesResponse prices =
+                PriceSeriesResponse.of(
+                        product.getProductNumber(),
+                        priceSeriesSource.find(
+                                product.getProductNumber(),
+                                end.minusDays(PRICE_RANGE_DAYS),
+                                end));
+        return ProductViewResponse.of(product, prices);
+    }
+}
@@ -0,0 +1,47 @@
+package com.musinsa.wagon.fo.domains.product.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 차트 한 점이 나타내는 기간. 90일까지는 일별, 2년까지는 주별(최대 105개), 그보다 길면 월별로 보여준다. 주는 월요일에 시작하며
+ * 배치의 요약 테이블과 같은 기준이다.
+ */
+public enum PriceResolution {
+    DAILY(90),
+    WEEKLY(730),
+    MONTHLY(Long.MAX_VALUE);
+
+    private final long maxRangeDays;
+
+    PriceResolution(long maxRangeDays) {
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    public static PriceResolution of(LocalDate from, LocalDate to) {
+        long rangeDays = to.toEpochDay() - from.toEpochDay() + 1;
+        for (PriceResolution resolution : values()) {
+            if (rangeDays <= resolution.maxRangeDays) {
+                return resolution;
+            }
+        }
+        return MONTHLY;
+    }
+
+    public LocalDate periodStart(LocalDate date) {
+        return switch (this) {
+            case DAILY -> date;
+            case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY -> date.withDayOfMonth(1);
+        };
+    }
+
+    public LocalDate nextPeriodStart(LocalDate periodStart) {
+        return switch (this) {
+            case DAILY -> periodStart.plusDays(1);
+            case WEEKLY -> periodStart.plusWeeks(1);
+            case MONTHLY -> periodStart.plusMonths(1);
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package com.musinsa.wagon.fo.domains.product.model;
+
+import com.musinsa.wagon.core.entity.enums.PriceLabel;
+import com.musinsa.wagon.core.entity.enums.ShopType;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 목록 정렬 키 (shopType, brand, priceLabel, id) 의 마지막 값. 클라이언트에는 불투명한 문자열로 내려준다. brand 와
+ * priceLabel 은 null 일 수 있어 값이 있으면 접두사를 붙여 빈 문자열과 구분한다.
+ */
+public record ProductCursor(ShopType shopType, String brand, PriceLabel priceLabel, Long id) {
+
+    private static final String SEPARATOR = "\n";
+    private static final String PRESENT = "v";
+
+    public String encode() {
+        String raw =
+                String.join(
+                        SEPARATOR,
+                        shopType.name(),
+                        brand == null ? "" : PRESENT + brand,
+                        priceLabel == null ? "" : PRESENT + priceLabel.name(),
+                        String.valueOf(id));
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProductCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            return new ProductCursor(
+                    ShopType.valueOf(parts[0]),
+                    parts[1].isEmpty() ? null : parts[1].substring(PRESENT.length()),
+                    parts[2].isEmpty()
+                            ? null
+                            : PriceLabel.valueOf(parts[2].substring(PRESENT.length())),
+                    Long.parseLong(parts[3]));
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.musinsa.wagon.fo.domains.product.model.request;
+
+import com.musinsa.wagon.core.entity.enums.PriceLabel;
+import com.musinsa.wagon.core.entity.enums.ShopType;
+
+import java.util.List;
+
+/**
+ * null 인 조건은 걸지 않는다. 값이 고정된 조건은 keyset 비교에서도 빠진다. categoryIds 는 요청한 카테고리와 그 자손 전체로,
+ * 카테고리 트리 스냅샷에서 미리 풀어 둔 값이다.
+ */
+public record ProductListingCondition(
+        ShopType shopType,
+        String brand,
+        PriceLabel priceLabel,
+        Boolean fakeDiscount,
+        List<Long> categoryIds) {}
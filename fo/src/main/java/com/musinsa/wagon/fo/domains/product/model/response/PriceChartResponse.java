@@ -0,0 +1,29 @@
+package com.musinsa.wagon.fo.domains.product.model.response;
+
+import com.musinsa.wagon.core.infra.pricestore.PriceSeries;
+import com.musinsa.wagon.fo.domains.product.model.PriceResolution;
+
+import java.time.LocalDate;
+
+/** 구간마다 최저·최고·평균·종가. 일별 해상도에서는 네 값이 그날 가격으로 같다. */
+public record PriceChartResponse(
+        Long productNumber,
+        PriceResolution resolution,
+        LocalDate[] periodStarts,
+        int[] minPrices,
+        int[] maxPrices,
+        int[] avgPrices,
+        int[] closePrices) {
+
+    public static PriceChartResponse daily(Long productNumber, PriceSeries series) {
+        int size = series.size();
+        LocalDate[] dates = new LocalDate[size];
+        int[] prices = new int[size];
+        for (int i = 0; i < size; i++) {
+            dates[i] = series.date(i);
+            prices[i] = series.price(i);
+        }
+        return new PriceChartResponse(
+                productNumber, PriceResolution.DAILY, dates, prices, prices, prices, prices);
+    }
+}
@@ -0,0 +1,29 @@
+package com.musinsa.wagon.fo.domains.product.model.response;
+
+import com.musinsa.wagon.core.infra.pricestore.PriceSeries;
+
+import java.time.LocalDate;
+
+public record PriceSeriesResponse(
+        Long productNumber,
+        LocalDate[] dates,
+        int[] prices,
+        Integer[] originalPrices,
+        Integer[] discountRates) {
+
+    public static PriceSeriesResponse of(Long productNumber, PriceSeries series) {
+        int size = series.size();
+        LocalDate[] dates = new LocalDate[size];
+        int[] prices = new int[size];
+        Integer[] originalPrices = new Integer[size];
+        Integer[] discountRates = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            dates[i] = series.date(i);
+            prices[i] = series.price(i);
+            originalPrices[i] = PriceSeries.toNullable(series.originalPrice(i));
+            discountRates[i] = PriceSeries.toNullable(series.discountRate(i));
+        }
+        return new PriceSeriesResponse(
+                productNumber, dates, prices, originalPrices, discountRates);
+    }
+}
@@ -0,0 +1,17 @@
+package com.musinsa.wagon.fo.domains.product.model.response;
+
+import com.musinsa.wagon.core.entity.enums.PriceLabel;
+import com.musinsa.wagon.core.entity.enums.ShopType;
+
+public record ProductListItemResponse(
+        Long id,
+        Long productNumber,
+        ShopType shopType,
+        String brand,
+        String name,
+        String imgUrl,
+        Integer currentPrice,
+        Integer originalPrice,
+        Integer discountRate,
+        PriceLabel priceLabel,
+        Boolean isFakeDiscount) {}
@@ -0,0 +1,5 @@
+package com.musinsa.wagon.fo.domains.product.model.response;
+
+import java.util.List;
+
+public record ProductListResponse(List<ProductListItemResponse> items, String nextCursor) {}
@@ -0,0 +1,81 @@
+package com.musinsa.wagon.fo.domains.product.model.response;
+
+import com.musinsa.wagon.core.entity.Category;
+import com.musinsa.wagon.core.entity.Product;
+import com.musinsa.wagon.core.entity.ProductDetail;
+import com.musinsa.wagon.core.entity.enums.PriceLabel;
+import com.musinsa.wagon.core.entity.enums.ShopType;
+
+import java.math.BigDecimal;
+
+public record ProductViewResponse(
+        Long id,
+        Long productNumber,
+        ShopType shopType,
+        String brand,
+        String name,
+        String imgUrl,
+        String productUrl,
+        Integer currentPrice,
+        Integer originalPrice,
+        Integer discountRate,
+        BigDecimal starScore,
+        Integer reviewCount,
+        Integer likeCount,
+        PriceLabel priceLabel,
+        Boolean isFakeDiscount,
+        Integer fakeDiscountScore,
+        Long categoryId,
+        String categoryName,
+        PriceStatistics statistics,
+        PriceSeriesResponse prices) {
+
+    public static ProductViewResponse of(Product product, PriceSeriesResponse prices) {
+        ProductDetail detail = product.getProductDetail();
+        Category category = product.getCategory();
+        return new ProductViewResponse(
+                product.getId(),
+                product.getProductNumber(),
+                product.getShopType(),
+                product.getBrand(),
+                product.getName(),
+                product.getImgUrl(),
+                detail == null ? null : detail.getProductUrl(),
+                product.getCurrentPrice(),
+                product.getOriginalPrice(),
+                product.getDiscountRate(),
+                product.getStarScore(),
+                product.getReviewCount(),
+                product.getLikeCount(),
+                product.getPriceLabel(),
+                product.getIsFakeDiscount(),
+                product.getFakeDiscountScore(),
+                category == null ? null : category.getId(),
+                category == null ? null : category.getCategoryName(),
+                detail == null ? null : PriceStatistics.of(detail),
+                prices);
+    }
+
+    public record PriceStatistics(
+            Integer highPrice30,
+            Integer lowPrice30,
+            Integer avgPrice30,
+            Integer highPrice90,
+            Integer lowPrice90,
+            Integer avgPrice90,
+            Integer allTimeHighPrice,
+            Integer allTimeLowPrice) {
+
+        static PriceStatistics of(ProductDetail detail) {
+            return new PriceStatistics(
+                    detail.getHighPrice30(),
+                    detail.getLowPrice30(),
+                    detail.getAvgPrice30(),
+                    detail.getHighPrice90(),
+                    detail.getLowPrice90(),
+                    detail.getAvgPrice90(),
+                    detail.getAllTimeHighPrice(),
+                    detail.getAllTimeLowPrice());
+        }
+    }
+}
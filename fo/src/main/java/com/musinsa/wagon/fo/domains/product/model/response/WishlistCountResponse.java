@@ -0,0 +1,4 @@
+package com.musinsa.wagon.fo.domains.product.model.response;
+
+/** 아직 DB 에 더해지지 않은 다른 인스턴스의 증분은 빠질 수 있는 근사값. */
+public record WishlistCountResponse(Long productId, long wishlistCount) {}
@@ -0,0 +1,21 @@
+package com.musinsa.wagon.fo.domains.search;
+
+import com.musinsa.wagon.core.infra.search.ProductSearcher;
+import com.musinsa.wagon.core.infra.search.SearchIndexProperties;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/** 인덱스는 배치가 쓰고 프론트오피스는 읽기만 한다. */
+@Configuration
+public class ProductSearchConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "search-index", name = "enabled", havingValue = "true")
+    public ProductSearcher productSearcher(SearchIndexProperties properties) {
+        return new ProductSearcher(Path.of(properties.path()), properties.refreshInterval());
+    }
+}
@@ -0,0 +1,39 @@
+package com.musinsa.wagon.fo.domains.search;
+
+import com.musinsa.wagon.core.entity.enums.ShopType;
+import com.musinsa.wagon.fo.domains.search.model.response.BrandSuggestionResponse;
+import com.musinsa.wagon.fo.domains.search.model.response.ProductSearchResponse;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/search")
+public class ProductSearchController {
+
+    private final ProductSearchService productSearchService;
+
+    @GetMapping("/products")
+    public ResponseEntity<ProductSearchResponse> searchProducts(
+            @RequestParam String query,
+            @RequestParam(required = false) ShopType shopType,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(productSearchService.search(query, shopType, page, size));
+    }
+
+    /** 브랜드 자동완성. DB 를 거치지 않고 메모리 사전만 읽는다. */
+    @GetMapping("/brands")
+    public ResponseEntity<List<BrandSuggestionResponse>> suggestBrands(
+            @RequestParam String prefix, @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(productSearchService.suggestBrands(prefix, size));
+    }
+}
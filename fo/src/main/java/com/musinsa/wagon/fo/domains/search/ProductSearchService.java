@@ -0,0 +1,79 @@
+package com.musinsa.wagon.fo.domains.search;
+
+import com.musinsa.wagon.core.entity.enums.ShopType;
+import com.musinsa.wagon.core.infra.search.ProductSearchResult;
+import com.musinsa.wagon.core.infra.search.ProductSearcher;
+import com.musinsa.wagon.fo.domains.product.ProductListingRepository;
+import com.musinsa.wagon.fo.domains.search.model.response.BrandSuggestionResponse;
+import com.musinsa.wagon.fo.domains.search.model.response.ProductSearchResponse;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+/** 인덱스에서 점수 순 상품 id 만 받고 목록에 보일 값은 DB 에서 읽는다. 가격은 인덱스보다 자주 바뀌기 때문이다. */
+@Service
+@RequiredArgsConstructor
+public class ProductSearchService {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_RESULT_WINDOW = 1000;
+    static final int DEFAULT_SUGGESTION_SIZE = 10;
+    static final int MAX_SUGGESTION_SIZE = 30;
+
+    private final ObjectProvider<ProductSearcher> productSearcher;
+    private final ProductListingRepository productListingRepository;
+
+    @Transactional(readOnly = true)
+    public ProductSearchResponse search(
+            String query, ShopType shopType, Integer page, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "query is required");
+        }
+        int pageSize =
+                size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNo = page == null ? 0 : Math.max(0, page);
+        // 깊은 페이지는 상위 offset + size 건을 모두 점수 매겨야 하므로 창을 제한한다. 곱하기 전에 나눗셈으로 비교해야 큰
+        // page 가 int 범위를 넘어 음수 offset 으로 검사를 통과하지 않는다.
+        if (pageNo > MAX_RESULT_WINDOW / pageSize - 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "page is too deep");
+        }
+        int offset = pageNo * pageSize;
+
+        ProductSearchResult result = searcher().search(query, shopType, offset, pageSize);
+        return new ProductSearchResponse(
+                productListingRepository.findItemsByIds(result.productIds()),
+                result.totalHits(),
+                pageNo,
+                offset + result.productIds().size() < result.totalHits());
+    }
+
+    public List<BrandSuggestionResponse> suggestBrands(String prefix, Integer size) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        int limit =
+                size == null
+                        ? DEFAULT_SUGGESTION_SIZE
+                        : Math.max(1, Math.min(size, MAX_SUGGESTION_SIZE));
+        return searcher().suggestBrands(prefix, limit).stream()
+                .map(BrandSuggestionResponse::from)
+                .toList();
+    }
+
+    private ProductSearcher searcher() {
+        ProductSearcher searcher = productSearcher.getIfAvailable();
+        if (searcher == null) {
+            throw new ResponseStatusException(
+                    HttpStatus.SERVICE_UNAVAILABLE, "Search index is disabled");
+        }
+        return searcher;
+    }
+}
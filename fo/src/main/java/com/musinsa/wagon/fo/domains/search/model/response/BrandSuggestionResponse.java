@@ -0,0 +1,10 @@
+package com.musinsa.wagon.fo.domains.search.model.response;
+
+import com.musinsa.wagon.core.infra.search.BrandSuggestion;
+
+public record BrandSuggestionResponse(String brand, int productCount) {
+
+    public static BrandSuggestionResponse from(BrandSuggestion suggestion) {
+        return new BrandSuggestionResponse(suggestion.brand(), suggestion.productCount());
+    }
+}
@@ -0,0 +1,8 @@
+package com.musinsa.wagon.fo.domains.search.model.response;
+
+import com.musinsa.wagon.fo.domains.product.model.response.ProductListItemResponse;
+
+import java.util.List;
+
+public record ProductSearchResponse(
+        List<ProductListItemResponse> items, long totalHits, int page, boolean hasNext) {}
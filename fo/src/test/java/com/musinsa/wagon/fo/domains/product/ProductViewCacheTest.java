@@ -0,0 +1,133 @@
+package com.musinsa.wagon.fo.domains.product;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.musinsa.wagon.core.entity.enums.ShopType;
+import com.musinsa.wagon.core.infra.cache.RedisSharedCache;
+import com.musinsa.wagon.core.infra.cache.SharedCache;
+import com.musinsa.wagon.core.product.ProductViewVersions;
+import com.musinsa.wagon.fo.domains.product.model.response.ProductViewResponse;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** fo 두 대와 배치가 내장 Redis 하나를 L2 로 함께 쓸 때 배치가 버전을 올리면 어느 fo 도 옛 가격을 내주지 않는지 확인한다. */
+class ProductViewCacheTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisMessageListenerContainer listenerContainer;
+    private static SharedCache sharedCache;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        int port = freePort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory =
+                new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        sharedCache =
+                new RedisSharedCache(new StringRedisTemplate(connectionFactory), listenerContainer);
+    }
+
+    @AfterAll
+    static void stopServer() throws Exception {
+        listenerContainer.destroy();
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    void secondNodeReadsFromSharedCache() {
+        ProductViewCache nodeA = newNode();
+        ProductViewCache nodeB = newNode();
+
+        assertEquals(10_000, nodeA.get(1L, () -> load(1L, 10_000)).currentPrice());
+        assertEquals(10_000, nodeB.get(1L, () -> load(1L, 20_000)).currentPrice());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void versionBumpHidesOlderPriceOnEveryNode() {
+        ProductViewCache nodeA = newNode();
+        ProductViewCache nodeB = newNode();
+        ProductViewVersions batchVersions = new ProductViewVersions(sharedCache);
+
+        nodeA.get(2L, () -> load(2L, 10_000));
+        nodeB.get(2L, () -> load(2L, 10_000));
+        batchVersions.bump(List.of(2L));
+
+        assertEquals(9_000, nodeA.get(2L, () -> load(2L, 9_000)).currentPrice());
+        assertEquals(9_000, nodeB.get(2L, () -> load(2L, 8_000)).currentPrice());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void missingProductIsNotCached() {
+        ProductViewCache node = newNode();
+
+        assertNull(node.get(3L, () -> null));
+        assertEquals(5_000, node.get(3L, () -> load(3L, 5_000)).currentPrice());
+    }
+
+    private ProductViewCache newNode() {
+        return new ProductViewCache(
+                sharedCache,
+                new ProductViewVersions(sharedCache),
+                JsonMapper.builder().findAndAddModules().build(),
+                new ProductViewCacheProperties(100, Duration.ofMinutes(10), Duration.ofHours(1)));
+    }
+
+    private ProductViewResponse load(Long productId, int price) {
+        loads.incrementAndGet();
+        return new ProductViewResponse(
+                productId,
+                productId * 100,
+                ShopType.MUSINSA,
+                "brand",
+                "name",
+                null,
+                null,
+                price,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                false,
+                null,
+                null,
+                null,
+                null,
+                null);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
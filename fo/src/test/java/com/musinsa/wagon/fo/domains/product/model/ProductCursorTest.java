@@ -0,0 +1,49 @@
+package com.musinsa.wagon.fo.domains.product.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.musinsa.wagon.core.entity.enums.PriceLabel;
+import com.musinsa.wagon.core.entity.enums.ShopType;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class ProductCursorTest {
+
+    @Test
+    void roundTripsAllKeys() {
+        ProductCursor cursor =
+                new ProductCursor(ShopType.ZIGZAG, "무신사 스탠다드", PriceLabel.GOOD_DEAL, 42L);
+
+        assertEquals(cursor, ProductCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void distinguishesNullFromEmptyBrand() {
+        ProductCursor nullBrand = new ProductCursor(ShopType.MUSINSA, null, null, 1L);
+        ProductCursor emptyBrand = new ProductCursor(ShopType.MUSINSA, "", null, 1L);
+
+        assertEquals(nullBrand, ProductCursor.decode(nullBrand.encode()));
+        assertEquals(emptyBrand, ProductCursor.decode(emptyBrand.encode()));
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String encoded =
+                new ProductCursor(ShopType.ABLY, "??>>~~", PriceLabel.NORMAL, 7L).encode();
+
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"), encoded);
+    }
+
+    @Test
+    void malformedCursorIsBadRequest() {
+        for (String cursor : new String[] {"not base64!", "", "QUJD"}) {
+            ResponseStatusException e =
+                    assertThrows(ResponseStatusException.class, () -> ProductCursor.decode(cursor));
+            assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+        }
+    }
+}